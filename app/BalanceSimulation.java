@@ -0,0 +1,42 @@
+package app;
+
+import model.battle.BalanceSimulator;
+
+/**
+ * Command-line entry point for the Monte-Carlo balance simulator.
+ *
+ * <pre>java app.BalanceSimulation [boutsPerPairing] [seed] [threads]</pre>
+ *
+ * <p>Prints the win-rate matrix as CSV on standard output and a per-loadout
+ * summary on standard error.</p>
+ */
+public final class BalanceSimulation {
+
+    private BalanceSimulation() {
+        // no instances
+    }
+
+    public static void main(String[] args) {
+        int bouts = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        int threads = args.length > 2
+                ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        BalanceSimulator simulator = new BalanceSimulator(threads);
+        try {
+            long start = System.nanoTime();
+            BalanceSimulator.WinRateMatrix matrix = simulator.simulate(bouts, seed);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.print(matrix.toCsv());
+            for (int i = 0; i < matrix.loadouts().size(); i++) {
+                System.err.printf("%.3f  %s%n", matrix.overallWinRate(i), matrix.loadouts().get(i).label());
+            }
+            long total = (long) bouts * matrix.loadouts().size() * matrix.loadouts().size();
+            System.err.printf("%d bouts in %d ms%n", total, millis);
+        } finally {
+            simulator.shutdown();
+        }
+    }
+}
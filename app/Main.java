@@ -3,6 +3,7 @@ package app;
 import javax.swing.SwingUtilities;
 
 import controller.SceneManager;
+import persistence.SaveLoadService;
 
 /**
  * Application entry point and centralized shutdown handler.
@@ -23,7 +24,7 @@ public final class Main {
      * Shuts down the application gracefully.
      */
     public static void shutdown() {
-        // Any future cleanup logic can be placed here
+        SaveLoadService.shutdown(); // sync any batched journal writes
         System.exit(0);
     }
 }
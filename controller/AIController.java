@@ -1,5 +1,11 @@
 package controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
 import model.core.Character;
 import model.battle.Move;
 import model.util.GameException;
@@ -10,12 +16,21 @@ import model.util.AIMoveStrategy;
  * Controller responsible for AI-controlled move selection
  * in battles using a provided {@link AIMoveStrategy}.
  * <p>Follows the Strategy pattern to allow pluggable AI algorithms.</p>
+ *
+ * <p>{@link #requestMoveAsync} runs the strategy on a dedicated daemon
+ * thread, so a slow search never blocks the Swing event thread.  Each
+ * controller owns its thread; {@link #close()} stops it, interrupts a
+ * decision in progress and closes the strategy if it holds resources of
+ * its own.</p>
  */
-public class AIController {
+public class AIController implements AutoCloseable {
 
     /** AI strategy used for move selection (immutable once set). */
     private final AIMoveStrategy strategy;
 
+    /** Thread the strategy runs on for asynchronous requests. */
+    private final ExecutorService thinker;
+
     /**
      * Constructs an AI controller using the specified strategy.
      *
@@ -25,6 +40,11 @@ public class AIController {
     public AIController(AIMoveStrategy strategy) throws GameException {
         InputValidator.requireNonNull(strategy, "AIMoveStrategy");
         this.strategy = strategy;
+        this.thinker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ai-move");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     /**
@@ -40,4 +60,56 @@ public class AIController {
         InputValidator.requireNonNull(opponentCharacter, "opponentCharacter");
         return strategy.decideMove(botCharacter, opponentCharacter);
     }
+
+    /**
+     * Asks the strategy for a move on the AI thread.  Cancelling the
+     * returned future interrupts the decision if it is still running.
+     *
+     * @param botCharacter the AI-controlled character (non-null)
+     * @param opponentCharacter the opponent character (non-null)
+     * @return future completed with the selected {@link Move}, or
+     *         exceptionally with the strategy's failure
+     * @throws GameException if any parameter is invalid or the controller is closed
+     */
+    public CompletableFuture<Move> requestMoveAsync(Character botCharacter, Character opponentCharacter)
+            throws GameException {
+        InputValidator.requireNonNull(botCharacter, "botCharacter");
+        InputValidator.requireNonNull(opponentCharacter, "opponentCharacter");
+
+        CompletableFuture<Move> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = thinker.submit(() -> {
+                try {
+                    result.complete(strategy.decideMove(botCharacter, opponentCharacter));
+                } catch (Throwable t) { // errors too, or the battle would wait forever
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new GameException("AI controller is closed.");
+        }
+        result.whenComplete((move, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stops the AI thread, interrupting a decision in progress, and closes
+     * the strategy if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        thinker.shutdownNow();
+        if (strategy instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                System.err.println("Failed to close AI strategy: " + e.getMessage());
+            }
+        }
+    }
 }
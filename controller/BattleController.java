@@ -1,12 +1,15 @@
 package controller;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.SwingUtilities;
 
 import model.battle.Battle;
+import model.battle.BattleEngine;
+import model.battle.BattleListener;
+import model.battle.CombatEventType;
 import model.battle.CombatLog;
 import model.battle.Defend;
 import model.battle.LevelingSystem;
@@ -32,24 +35,32 @@ import view.BattleView;
  * <p>The controller is stateless between battles – reuse a single instance
  * and call {@link #startBattle(Character, Character)} whenever you need
  * a fresh bout.</p>
+ *
+ * <p>Turn resolution itself lives in the Swing-free {@link BattleEngine};
+ * this class only collects the two selections, forwards engine events to
+ * the view and handles win rewards.</p>
  */
 public final class BattleController {
 
     /* -------------------------------------------------------- IMMUTABLES */
+    private static final Move DEFEND = new Defend();     // stateless, shared by every turn
+    private static final Move RECHARGE = new Recharge();
     private final BattleView view;
     private final GameManagerController gameManagerController;
     private final Player player1;
     private final Player player2;
 
     /* ----------------------------------------------------------- SESSION */
-    private Battle battle; // null ⇢ idle
-    private final Map<Character, Move> selections = new HashMap<>(2);
-    private int lastLogIndex = 0;
+    private BattleEngine engine; // null ⇢ idle
+    private Battle battle;       // engine.getBattle() while running
+    private Move move1;          // pending selection of character 1, null ⇢ not chosen yet
+    private Move move2;          // pending selection of character 2
 
     // AI support
     private AIController aiController;
     private Character aiCharacter;
     private Character humanOpponent;
+    private CompletableFuture<Move> pendingAIMove; // decision in flight, null ⇢ none
 
     /* ===================================================== CONSTRUCTION */
 
@@ -74,19 +85,17 @@ public final class BattleController {
      * Kicks off a new battle session.
      */
     public void startBattle(Character c1, Character c2) throws GameException {
-        InputValidator.requireNonNull(c1, "character 1");
-        InputValidator.requireNonNull(c2, "character 2");
-
-        if (!c1.isAlive() || !c2.isAlive()) {
-            throw new GameException("Both characters must be alive to start a battle.");
-        }
-
-        battle = new Battle(c1, c2);
-        selections.clear();
-        aiController = null;
+        releaseAI();
+        engine = new BattleEngine(c1, c2, new BattleListener() {
+            @Override
+            public void onLogEntry(String entry) {
+                view.appendBattleLog(entry);
+            }
+        });
+        battle = engine.getBattle();
+        clearSelections();
         aiCharacter = null;
         humanOpponent = null;
-        lastLogIndex = 0;
         view.appendBattleLog("Battle starts!");
         updatePlayerPanels();
     }
@@ -94,6 +103,10 @@ public final class BattleController {
     /**
      * Starts a battle where {@code bot} is controlled by an AI.
      * The opposing human character must choose moves via the UI.
+     *
+     * <p>The AI decides on its own thread while the human chooses; the turn
+     * resolves once both moves are in.  The controller takes ownership of
+     * {@code ai} and closes it when the battle ends or another starts.</p>
      */
     public void startBattleVsBot(Character human, Character bot, AIController ai) throws GameException {
         InputValidator.requireNonNull(human, "human");
@@ -123,9 +136,9 @@ public final class BattleController {
             throw new GameException("Character is not part of the current battle.");
         }
 
-        selections.put(user, move);
+        select(user, move);
 
-        if (selections.size() == 2) { // both combatants have chosen
+        if (move1 != null && move2 != null) { // both combatants have chosen
             executeTurn();
         }
     }
@@ -135,9 +148,13 @@ public final class BattleController {
      * Applies the item's effect in the battle context, updates logs,
      * and removes the item from the user's inventory.
      *
+     * <p>Refused while the AI is still deciding, since its worker reads
+     * both characters until it has chosen.</p>
+     *
      * @param user the character using the item
      * @param item the single-use item to use
-     * @throws GameException if validation fails or item cannot be used
+     * @throws GameException if validation fails, the AI is still deciding,
+     *         or the item cannot be used
      */
     public void useSingleUseItem(Character user, SingleUseItem item) throws GameException {
         ensureRunning();
@@ -147,6 +164,9 @@ public final class BattleController {
         if (!belongsToBattle(user)) {
             throw new GameException("Character is not part of the current battle.");
         }
+        if (pendingAIMove != null) {
+            throw new GameException("Wait for the opponent to choose its move.");
+        }
 
         // Verify item exists, apply its effect, and remove it from inventory
         if (!user.getInventory().getAllItems().contains(item)) {
@@ -161,12 +181,12 @@ public final class BattleController {
 
     /** Submits a defend action for the given character. */
     public void defend(Character user) throws GameException {
-        submitMove(user, new Defend());
+        submitMove(user, DEFEND);
     }
 
     /** Submits a recharge action for the given character. */
     public void recharge(Character user) throws GameException {
-        submitMove(user, new Recharge());
+        submitMove(user, RECHARGE);
     }
 
     /* ================================================= INTERNAL FLOW */
@@ -174,103 +194,112 @@ public final class BattleController {
     private void executeTurn() throws GameException {
         CombatLog log = battle.getCombatLog();
 
-        /* order by priority – higher first (ties resolved arbitrarily) */
-        List<Turn> order = buildTurnOrder();
-        for (Turn t : order) {
-            if (t.actor.isAlive() && t.target.isAlive()) {
-                t.move.execute(t.actor, t.target, log);
-            }
-        }
+        engine.resolveTurn(move1, move2);
 
-        List<String> entries = log.getLogEntries();
-        for (int i = lastLogIndex; i < entries.size(); i++) {
-            view.appendBattleLog(entries.get(i));
-        }
-        lastLogIndex = entries.size();
         updatePlayerPanels();
-        selections.clear(); // prepare for next round
+        clearSelections(); // prepare for next round
 
-        if (!battleEnded() && aiController != null) {
+        if (!engine.isOver() && aiController != null) {
             queueAIMove();
         }
 
-        if (battleEnded()) {
-            Character winner = battle.getCharacter1().isAlive()
-                    ? battle.getCharacter1()
-                    : battle.getCharacter2();
-            Character loser = (winner == battle.getCharacter1())
-                    ? battle.getCharacter2() : battle.getCharacter1();
+        if (engine.isOver()) {
+            Character winner = engine.getWinner();
+            Character loser = engine.getLoser();
 
-            // Award XP and handle win persistence if players are known
-            if (gameManagerController != null) {
+            // Award XP and handle win persistence if players are known; a draw awards nothing
+            if (winner != null && gameManagerController != null) {
                 Player winPlayer = (winner == battle.getCharacter1()) ? player1 : player2;
+                Player losePlayer = (winPlayer == player1) ? player2 : player1;
                 if (winPlayer != null) {
                     int xp = LevelingSystem.calculateXpGained(winner, loser);
+                    int hp = winner.getCurrentHp();
+                    int ep = winner.getCurrentEp();
                     winner.addXp(xp);
-                    log.addEntry(winner.getName() + " gains " + xp + " XP.");
+                    log.record(CombatEventType.XP_GAINED, winner, winner, null, xp,
+                               hp, winner.getCurrentHp(), ep, winner.getCurrentEp());
                     if (gameManagerController != null) {
                         gameManagerController.handlePlayerWin(winPlayer, winner);
+                        if (losePlayer != null) {
+                            gameManagerController.handleMatchResult(winPlayer, losePlayer);
+                        }
                     }
                 }
             }
 
-            view.setBattleOutcome(winner.getName() + " wins!");
+            view.setBattleOutcome(winner == null ? "Draw! Both fighters fell." : winner.getName() + " wins!");
             updatePlayerPanels();
-            battle = null; // back to idle state
-            aiController = null;
+            engine = null; // back to idle state
+            battle = null;
+            releaseAI();
         }
     }
 
-    /* ================================================= HELPER STRUCTS */
+    /* ================================================= SMALL UTILS */
 
-    private record Turn(Character actor, Character target, Move move) implements Comparable<Turn> {
-        /** Higher priority executes first */
-        @Override
-        public int compareTo(Turn o) {
-            // If Move exposes priority use it; otherwise default to 0
-            int myP = (move instanceof Prioritised p) ? p.getPriority() : 0;
-            int hisP = (o.move instanceof Prioritised p) ? p.getPriority() : 0;
-            return Integer.compare(hisP, myP); // descending
+    /** Starts the AI's decision for the coming turn without blocking the caller. */
+    private void queueAIMove() throws GameException {
+        if (aiController != null && aiCharacter != null && humanOpponent != null) {
+            BattleEngine origin = engine;
+            CompletableFuture<Move> request = aiController.requestMoveAsync(aiCharacter, humanOpponent);
+            pendingAIMove = request;
+            request.whenComplete((move, error) ->
+                    SwingUtilities.invokeLater(() -> onAIMove(origin, request, move, error)));
         }
     }
 
-    /**
-     * Optional interface: implement in moves that need priority.
-     */
-    public interface Prioritised {
-        int getPriority();
+    /** EDT: records the AI's move, resolving the turn if the human already chose. */
+    private void onAIMove(BattleEngine origin, CompletableFuture<Move> request, Move move, Throwable error) {
+        if (request != pendingAIMove || engine != origin) {
+            return; // cancelled, or the battle it was for is over
+        }
+        pendingAIMove = null;
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            view.appendBattleLog("AI could not decide (" + cause.getMessage() + "), recharging instead.");
+            move = RECHARGE;
+        }
+        select(aiCharacter, move);
+        if (move1 != null && move2 != null) {
+            try {
+                executeTurn();
+            } catch (GameException e) {
+                view.appendBattleLog(e.getMessage());
+            }
+        }
     }
 
-    /* ================================================= SMALL UTILS */
+    /** Cancels any decision in flight and closes the AI of the current battle. */
+    private void releaseAI() {
+        if (pendingAIMove != null) {
+            CompletableFuture<Move> request = pendingAIMove;
+            pendingAIMove = null;
+            request.cancel(true);
+        }
+        if (aiController != null) {
+            aiController.close();
+            aiController = null;
+        }
+    }
 
-    private void queueAIMove() throws GameException {
-        if (aiController != null && aiCharacter != null && humanOpponent != null) {
-            Move aiMove = aiController.requestMove(aiCharacter, humanOpponent);
-            selections.put(aiCharacter, aiMove);
+    /** Stores {@code move} in the slot of {@code user}'s seat. */
+    private void select(Character user, Move move) {
+        if (user == battle.getCharacter1()) {
+            move1 = move;
+        } else {
+            move2 = move;
         }
     }
 
-    private List<Turn> buildTurnOrder() {
-        Character c1 = battle.getCharacter1();
-        Character c2 = battle.getCharacter2();
-        Move m1 = selections.get(c1);
-        Move m2 = selections.get(c2);
-
-        List<Turn> list = new ArrayList<>(2);
-        list.add(new Turn(c1, c2, m1));
-        list.add(new Turn(c2, c1, m2));
-        Collections.sort(list); // uses compareTo()
-        return list;
+    private void clearSelections() {
+        move1 = null;
+        move2 = null;
     }
 
     private boolean belongsToBattle(Character c) {
         return c == battle.getCharacter1() || c == battle.getCharacter2();
     }
 
-    private boolean battleEnded() {
-        return !battle.getCharacter1().isAlive() || !battle.getCharacter2().isAlive();
-    }
-
     private void ensureRunning() throws GameException {
         if (battle == null) {
             throw new GameException("No active battle – call startBattle() first.");
@@ -12,6 +12,7 @@ import model.service.ClassService;
 import model.service.RaceService;
 import model.util.GameException;
 import model.util.InputValidator;
+import persistence.SaveLoadService;
 import view.CharacterDeleteView;
 import view.CharacterEditView;
 import view.CharacterListViewingView;
@@ -105,11 +106,15 @@ public void openManualCreationView() {
             } else if (CharacterDeleteView.DELETE.equals(cmd)) {
                 String name = delView.getSelectedCharacter();
                 if (name != null && delView.confirmCharacterDeletion(name)) {
-                    if (player.removeCharacter(name)) {
-                        delView.showInfoMessage("Deleted " + name);
-                        updateManagementViewCharacterList();
-                    } else {
-                        delView.showErrorMessage("Character not found");
+                    try {
+                        if (SaveLoadService.getRepository().removeCharacter(player, name)) { // journaled
+                            delView.showInfoMessage("Deleted " + name);
+                            updateManagementViewCharacterList();
+                        } else {
+                            delView.showErrorMessage("Character not found");
+                        }
+                    } catch (GameException ex) {
+                        delView.showErrorMessage(ex.getMessage());
                     }
                 }
             }
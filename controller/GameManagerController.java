@@ -7,6 +7,8 @@ import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -20,8 +22,9 @@ import model.util.Constants;
 import model.util.GameException;
 import model.util.InputValidator;
 import model.util.RandomCharacterGenerator;
-import model.util.SimpleBot;
+import model.util.SearchBot;
 import persistence.GameData;
+import persistence.GameRepository;
 import persistence.SaveLoadService;
 import view.CharacterAutoCreationView;
 import view.CharacterCreationManagementView;
@@ -49,6 +52,7 @@ import view.MainMenuView;
 public final class GameManagerController implements ActionListener {
 
     private final List<Player> players;
+    private final GameRepository repository;
     private final SceneManager sceneManager;
     private final HallOfFameController hallOfFameController;
     private final MainMenuView mainMenuView;
@@ -72,8 +76,8 @@ public final class GameManagerController implements ActionListener {
         this.hallOfFameController = hallOfFameController;
         this.mainMenuView = mainMenuView;
 
-        GameData gameData = SaveLoadService.loadGame();
-        this.players = new ArrayList<>(gameData.getAllPlayers());
+        this.repository = SaveLoadService.getRepository();
+        this.players = new ArrayList<>(repository.getPlayers());
 
         bindUI();
     }
@@ -123,7 +127,7 @@ public void actionPerformed(ActionEvent e) {
                 Character human = player.getCharacters().get(0);
                 try {
                     Character bot = RandomCharacterGenerator.generate("Bot");
-                    AIController ai = new AIController(new SimpleBot(new java.util.Random()));
+                    AIController ai = new AIController(new SearchBot());
                     sceneManager.showPlayerVsBotBattle(player, human, bot, ai);
                 } catch (GameException e1) {
                     JOptionPane.showMessageDialog(mainMenuView, "Failed to start battle: " + e1.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
@@ -203,19 +207,7 @@ public void actionPerformed(ActionEvent e) {
             hasConflict = true;
         }
 
-        GameData gameData = SaveLoadService.loadGame();
-        List<Player> existing = new ArrayList<>(gameData.getAllPlayers());
-
-        int duplicateCount = 0;
-        for (Player p : existing) {
-            boolean match1 = p.getName().equalsIgnoreCase(player1Name);
-            boolean match2 = p.getName().equalsIgnoreCase(player2Name);
-            if (match1 || match2) {
-                duplicateCount++;
-            }
-        }
-
-        if (duplicateCount > 0) {
+        if (repository.contains(player1Name) || repository.contains(player2Name)) {
             errorMsg.append("One or both player names already exist in saved data.\n");
             hasConflict = true;
         }
@@ -223,12 +215,10 @@ public void actionPerformed(ActionEvent e) {
         if (!hasConflict) {
             Player player1 = new Player(player1Name);
             Player player2 = new Player(player2Name);
-            existing.add(player1);
-            existing.add(player2);
-            gameData.setAllPlayers(existing);
-            SaveLoadService.saveGame(gameData);
+            repository.registerPlayer(player1);
+            repository.registerPlayer(player2);
             players.clear();
-            players.addAll(existing);
+            players.addAll(repository.getPlayers());
             System.out.println("Players " + player1Name + " and " + player2Name + " have been registered.");
             return true;
         } else {
@@ -259,10 +249,8 @@ public void actionPerformed(ActionEvent e) {
         }
 
         try {
-            GameData data = SaveLoadService.loadGame();
-            List<Player> all = data.getAllPlayers();
-            Player p1 = findByName(all, player1Name);
-            Player p2 = findByName(all, player2Name);
+            Player p1 = repository.findPlayer(player1Name).orElse(null);
+            Player p2 = repository.findPlayer(player2Name).orElse(null);
 
             if (p1 == null || p2 == null) {
                 JOptionPane.showMessageDialog(null, "Selected players could not be loaded.", "Player Selection Error", JOptionPane.ERROR_MESSAGE);
@@ -272,8 +260,6 @@ public void actionPerformed(ActionEvent e) {
             players.clear();
             players.add(p1);
             players.add(p2);
-            // ensure persistence unaffected but save to ensure data file exists
-            SaveLoadService.saveGame(data);
             return true;
         } catch (GameException e) {
             JOptionPane.showMessageDialog(null, "Failed to load players: " + e.getMessage(), "Player Selection Error", JOptionPane.ERROR_MESSAGE);
@@ -281,16 +267,6 @@ public void actionPerformed(ActionEvent e) {
         }
     }
 
-    private static Player findByName(List<Player> list, String name) {
-        for (Player p : list) {
-            if (p.getName().equalsIgnoreCase(name)) {
-                return p;
-            }
-        }
-        return null;
-    }
-
-
     public void navigateBackToMainMenu() {
         SwingUtilities.invokeLater(sceneManager::showMainMenu);
     }
@@ -299,27 +275,38 @@ public void actionPerformed(ActionEvent e) {
      * Handles all logic required when the application is requested to exit.
      */
     private void quitApplication() {
-        handleSaveGameRequest();
+        handleSaveGameRequest(); // Main.shutdown() waits for the queued write
         Main.shutdown();
     }
 
     // === Game Data Save/Load Methods ===
 
     /**
-     * Saves game state in a background thread.
+     * Queues a save of the current game state on the persistence writer.
+     * The state is copied on the calling thread before it is queued, so
+     * later changes neither race with the write nor slip past it.
+     * Requests made while a save is running collapse into one write of the
+     * latest state.
+     *
+     * @return future completed once the state has been written
      */
-    public void handleSaveGameRequest() {
-        new Thread(() -> {
-            try {
-                SaveLoadService.saveGame(
-                        new GameData(players, hallOfFameController.getHallOfFame())
-                );
-            } catch (GameException e) {
-                // Production: Consider logging
-                JOptionPane.showMessageDialog(mainMenuView, "Failed to save game: " + e.getMessage(),
-                        "Save Error", JOptionPane.ERROR_MESSAGE);
-            }
-        }).start();
+    public CompletableFuture<Void> handleSaveGameRequest() {
+        try {
+            return SaveLoadService.saveGameAsync(getGameData()).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    SwingUtilities.invokeLater(() -> showSaveError(cause));
+                }
+            });
+        } catch (GameException e) {
+            showSaveError(e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void showSaveError(Throwable e) {
+        JOptionPane.showMessageDialog(mainMenuView, "Failed to save game: " + e.getMessage(),
+                "Save Error", JOptionPane.ERROR_MESSAGE);
     }
 
     /**
@@ -328,12 +315,9 @@ public void actionPerformed(ActionEvent e) {
     public void handleLoadGameRequest() {
         new Thread(() -> {
             try {
-                GameData data = SaveLoadService.loadGame();
-                if (data != null) {
-                    players.clear();
-                    players.addAll(data.getAllPlayers());
-                    hallOfFameController.setHallOfFame(data.getHallOfFame());
-                }
+                repository.reload();
+                players.clear();
+                players.addAll(repository.getPlayers());
             } catch (GameException e) {
                 // Production: Consider logging
                 JOptionPane.showMessageDialog(mainMenuView, "Failed to load game: " + e.getMessage(),
@@ -355,14 +339,20 @@ public void actionPerformed(ActionEvent e) {
     public void deletePlayerByName(String name) throws GameException {
         InputValidator.requireNonNull(name, "name");
         boolean removed = players.removeIf(p -> p.getName().equals(name));
+        removed |= repository.removePlayer(name);
         if (!removed) {
             throw new GameException("Player not found: " + name);
         }
     }
 
-    /** Returns the current game data snapshot for persistence. */
+    /**
+     * Returns the current game data snapshot for persistence: every saved
+     * player, not only the ones active in this session.  The players are
+     * the live objects; {@link SaveLoadService#saveGameAsync} copies them
+     * before handing them to the writer thread.
+     */
     public GameData getGameData() throws GameException {
-        return new GameData(players, hallOfFameController.getHallOfFame());
+        return new GameData(repository.getPlayers());
     }
 
     /** Returns the 1-based index of the player with the given name. */
@@ -376,10 +366,11 @@ public void actionPerformed(ActionEvent e) {
     }
 
     /**
-     * Processes a player's win: increments wins, awards Hall of Fame credit,
-     * and grants a random magic item every {@link Constants#WINS_PER_REWARD}
-     * victories. The new item is added to the winning character's inventory
-     * and persisted via {@link SaveLoadService}.
+     * Processes a player's win: increments player and character wins, awards
+     * Hall of Fame credit, and grants a random magic item every
+     * {@link Constants#WINS_PER_REWARD} victories. The new item is added to
+     * the winning character's inventory. All changes are written through the
+     * {@link GameRepository} to the journal rather than rewriting the whole save.
      *
      * @param winner   the player who won
      * @param character the character that secured the win
@@ -391,18 +382,39 @@ public void actionPerformed(ActionEvent e) {
 
             winner.incrementWins();
             hallOfFameController.addWinForPlayer(winner);
+            repository.recordWin(winner);
+            character.recordWin();
+            repository.recordCharacterWin(winner, character);
 
             if (winner.getCumulativeWins() % Constants.WINS_PER_REWARD == 0) {
                 MagicItem reward = MagicItemFactory.createRandomReward();
                 character.getInventory().addItem(reward);
+                repository.recordItemGranted(winner, character, reward);
             }
-
-            SaveLoadService.saveGame(new GameData(players,
-                                                 hallOfFameController.getHallOfFame()));
         } catch (GameException e) {
             JOptionPane.showMessageDialog(mainMenuView,
                     "Failed to record win: " + e.getMessage(),
                     "Win Error", JOptionPane.ERROR_MESSAGE);
         }
     }
+
+    /**
+     * Updates both players' skill ratings after a finished battle and writes
+     * them straight away.
+     *
+     * @param winner the player who won
+     * @param loser  the player who lost
+     */
+    public void handleMatchResult(Player winner, Player loser) {
+        try {
+            InputValidator.requireNonNull(winner, "winner");
+            InputValidator.requireNonNull(loser, "loser");
+            SaveLoadService.getRatings().recordMatch(winner.getName(), loser.getName());
+            SaveLoadService.saveRatings();
+        } catch (GameException e) {
+            JOptionPane.showMessageDialog(mainMenuView,
+                    "Failed to update ratings: " + e.getMessage(),
+                    "Rating Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
 }
@@ -4,12 +4,19 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import model.core.Player;
 import model.core.HallOfFameEntry;
+import model.ranking.CharacterLeaderboard;
+import model.ranking.Leaderboard;
+import model.ranking.MatchResult;
+import model.ranking.ResultBatch;
+import model.ranking.WindowedLeaderboard;
 import model.util.GameException;
 import model.util.InputValidator;
 import controller.SceneManager;
+import persistence.HallOfFameStore;
 import persistence.SaveLoadService;
 import view.HallOfFameCharactersView;
 import view.HallOfFamePlayersView;
@@ -23,7 +30,8 @@ public class HallOfFameController implements ActionListener {
 
     private final HallOfFameManagementView view;
     private final SceneManager sceneManager;
-    private List<HallOfFameEntry> hallOfFameEntries;
+    private final HallOfFameStore store;
+    private final Leaderboard leaderboard;
 
     public HallOfFameController(HallOfFameManagementView view, SceneManager sceneManager) {
         InputValidator.requireNonNull(view, "view");
@@ -31,11 +39,8 @@ public class HallOfFameController implements ActionListener {
         this.view = view;
         this.sceneManager = sceneManager;
 
-        try {
-            this.hallOfFameEntries = SaveLoadService.loadHallOfFame();
-        } catch (GameException e) {
-            this.hallOfFameEntries = new ArrayList<>();
-        }
+        this.store = SaveLoadService.getHallOfFameStore();
+        this.leaderboard = new Leaderboard(store.entries());
 
         this.view.setActionListener(this); // Connect view to this controller
     }
@@ -52,49 +57,83 @@ public class HallOfFameController implements ActionListener {
         bindHallOfFameCharactersView(charactersView);
     }
 
-    /** Adds a win to the specified player in the Hall of Fame. */
+    /**
+     * Adds a win to the specified player in the Hall of Fame, an in-place
+     * update of one record, and writes the windowed win history.
+     */
     public void addWinForPlayer(Player player) throws GameException {
         InputValidator.requireNonNull(player, "player");
+        leaderboard.update(player.getName(), store.addWin(player.getName()));
+        SaveLoadService.getWinHistory().recordWin(player.getName());
+        SaveLoadService.saveWinHistory();
+    }
 
-        HallOfFameEntry existing = hallOfFameEntries.stream()
-            .filter(e -> e.getPlayerName().equals(player.getName()))
-            .findFirst()
-            .orElse(null);
-
-        if (existing != null) {
-            existing.incrementWins();
-        } else {
-            hallOfFameEntries.add(new HallOfFameEntry(player.getName(), 1));
+    /**
+     * Records a batch of tournament or simulation results.  Results are
+     * totalled first, then each player and character is updated once and
+     * the Hall of Fame and save are each persisted once.  The save goes
+     * first and leaves nothing behind if it fails, so a failed batch can be
+     * retried without counting any win twice.
+     *
+     * @param results results to record (non-null)
+     * @return the aggregated totals that were applied
+     * @throws GameException if persisting fails
+     */
+    public ResultBatch ingestResults(Stream<MatchResult> results) throws GameException {
+        ResultBatch batch = ResultBatch.aggregate(results);
+        SaveLoadService.getRepository().applyResults(batch);
+        for (int i = 0; i < batch.playerCount(); i++) {
+            int wins = batch.wins(i);
+            if (wins > 0) {
+                String name = batch.playerName(i);
+                leaderboard.update(name, store.addWins(name, wins));
+                SaveLoadService.getWinHistory().recordWins(name, wins);
+            }
         }
+        store.flush();
+        SaveLoadService.saveWinHistory();
+        return batch;
+    }
 
-        persistHallOfFame();
+    /** Returns the top players by Elo rating as "name - Rating: n" lines. */
+    public List<String> getTopPlayersByRating(int count) throws GameException {
+        return SaveLoadService.getRatings().top(count).stream()
+                .map(p -> p.name() + " - Rating: " + Math.round(p.rating()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /** Returns players rated closest to the given player, for matchmaking. */
+    public List<String> suggestOpponents(Player player, int perSide) throws GameException {
+        InputValidator.requireNonNull(player, "player");
+        return SaveLoadService.getRatings().suggestOpponents(player.getName(), perSide);
     }
 
-    /** Returns a ranked, immutable list of top players by wins. */
+    /** Returns the top players by wins within a rolling day, week or season window. */
+    public List<HallOfFameEntry> getTopPlayersByWins(WindowedLeaderboard.Window window, int count)
+            throws GameException {
+        return Collections.unmodifiableList(SaveLoadService.getWinHistory().top(window, count));
+    }
+
+    /** Returns a ranked, immutable list of top players by wins; ties are ordered by name. */
     public List<HallOfFameEntry> getTopPlayersByWins(int count) throws GameException {
-        InputValidator.requirePositiveOrZero(count, "count");
+        return Collections.unmodifiableList(leaderboard.top(count));
+    }
 
-        return hallOfFameEntries.stream()
-            .sorted(Comparator.comparingInt(HallOfFameEntry::getWins).reversed())
-            .limit(count)
-            .collect(Collectors.toUnmodifiableList());
+    /** Returns the leaderboard backing the ranking queries (top-K, rank, neighbours). */
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
 
     /** Returns a defensive copy of all Hall of Fame entries. */
     public List<HallOfFameEntry> getHallOfFame() {
-        return new ArrayList<>(hallOfFameEntries);
+        return store.entries();
     }
 
     /** Replaces the entire Hall of Fame list with new entries and persists them. */
     public void setHallOfFame(List<HallOfFameEntry> entries) throws GameException {
         InputValidator.requireNonNull(entries, "entries");
-        this.hallOfFameEntries = new ArrayList<>(entries);
-        persistHallOfFame();
-    }
-
-    /** Writes the Hall of Fame entries to disk. */
-    private void persistHallOfFame() throws GameException {
-        SaveLoadService.saveHallOfFame(hallOfFameEntries);
+        store.replaceAll(entries);
+        leaderboard.reset(store.entries());
     }
 
     /** Binds return logic and data loading for the Top Characters view. */
@@ -109,12 +148,12 @@ public class HallOfFameController implements ActionListener {
         });
 
         try {
-            List<HallOfFameEntry> topPlayers = getTopPlayersByWins(10);
-            if (topPlayers.isEmpty()) {
-                view.updateTopCharactersList("No top players yet.");
+            List<CharacterLeaderboard.Standing> topCharacters = SaveLoadService.getRepository().getTopCharacters();
+            if (topCharacters.isEmpty()) {
+                view.updateTopCharactersList("No top characters yet.");
             } else {
-                String content = topPlayers.stream()
-                        .map(HallOfFameEntry::toString)
+                String content = topCharacters.stream()
+                        .map(CharacterLeaderboard.Standing::toString)
                         .collect(Collectors.joining("\n\n"));
                 view.updateTopCharactersList(content);
             }
@@ -142,6 +181,16 @@ public class HallOfFameController implements ActionListener {
                 String content = topPlayers.stream()
                         .map(HallOfFameEntry::toString)
                         .collect(Collectors.joining("\n\n"));
+                List<HallOfFameEntry> thisWeek = getTopPlayersByWins(WindowedLeaderboard.Window.WEEK, 10);
+                if (!thisWeek.isEmpty()) {
+                    content += "\n\n--- This week ---\n\n" + thisWeek.stream()
+                            .map(HallOfFameEntry::toString)
+                            .collect(Collectors.joining("\n\n"));
+                }
+                List<String> rated = getTopPlayersByRating(10);
+                if (!rated.isEmpty()) {
+                    content += "\n\n--- Rating ---\n\n" + String.join("\n\n", rated);
+                }
                 view.updateTopPlayersList(content);
             }
         } catch (GameException e) {
@@ -10,6 +10,7 @@ import model.core.Player;
 import model.item.MagicItem;
 import model.service.ClassService;
 import model.util.GameException;
+import persistence.SaveLoadService;
 import view.CharacterDeleteView;
 import view.CharacterEditView;
 import view.CharacterListViewingView;
@@ -256,12 +257,15 @@ public class PlayerCharacterManagementController {
                     return;
                 }
 
-                if (player.removeCharacter(name)) {
-                    delView.showInfoMessage("Character " + name + " deleted.");
-                    refreshCharacterList(delView);
-                    gameManagerController.handleSaveGameRequest();
-                } else {
-                    delView.showErrorMessage("Character not found");
+                try {
+                    if (SaveLoadService.getRepository().removeCharacter(player, name)) { // journaled
+                        delView.showInfoMessage("Character " + name + " deleted.");
+                        refreshCharacterList(delView);
+                    } else {
+                        delView.showErrorMessage("Character not found");
+                    }
+                } catch (GameException ex) {
+                    delView.showErrorMessage(ex.getMessage());
                 }
             }
         });
@@ -12,7 +12,6 @@ import model.core.Character;
 import model.core.Player;
 import model.util.DialogUtils;
 import model.util.GameException;
-import persistence.GameData;
 import persistence.SaveLoadService;
 import view.BattleView;
 import view.CharacterManagementMenuView;
@@ -163,8 +162,7 @@ public final class SceneManager {
             root.add(savedPlayersRegView, CARD_SAVED_PLAYER_REG);
         }
         try {
-            GameData data = SaveLoadService.loadGame();
-            List<Player> ps = data.getAllPlayers();
+            List<Player> ps = SaveLoadService.getRepository().getPlayers();
             String[] opts = ps.stream().map(Player::getName).toArray(String[]::new);
             savedPlayersRegView.setPlayer1Options(opts);
             savedPlayersRegView.setPlayer2Options(opts);
@@ -5,7 +5,6 @@ import model.core.Player;
 import model.item.MagicItem;
 import model.util.GameException;
 import model.util.InputValidator;
-import persistence.GameData;
 import persistence.SaveLoadService;
 import view.TradeView;
 
@@ -19,8 +18,8 @@ import java.util.List;
 /**
  * Controller handling magic item trading between players.
  * <p>
- * Validates selections, performs the exchange, and saves
- * updated player data via {@link SaveLoadService}.
+ * Validates selections, performs the exchange, and journals
+ * the trade via {@link SaveLoadService#getRepository()}.
  */
 public class TradeController implements ActionListener {
 
@@ -111,10 +110,12 @@ public class TradeController implements ActionListener {
 
             MagicItem m1 = sel1.get(0);
             MagicItem m2 = sel2.get(0);
+            int i1 = c1.getInventory().getAllItems().indexOf(m1);
+            int i2 = c2.getInventory().getAllItems().indexOf(m2);
 
             executeTrade(c1, m1, c2, m2);
 
-            persist();
+            persist(c1, i1, c2, i2);
             view.showInfo("Trade completed successfully.");
             view.refreshLists();
         } catch (GameException ex) {
@@ -135,11 +136,10 @@ public class TradeController implements ActionListener {
         throw new GameException("Character does not belong to any loaded player.");
     }
 
-    private void persist() {
+    private void persist(Character a, int aItemIndex, Character b, int bItemIndex) {
         try {
-            GameData data = SaveLoadService.loadGame();
-            data.setAllPlayers(players);
-            SaveLoadService.saveGame(data);
+            SaveLoadService.getRepository().recordTrade(findPlayerForCharacter(a), a, aItemIndex,
+                                                        findPlayerForCharacter(b), b, bItemIndex);
         } catch (GameException e) {
             JOptionPane.showMessageDialog(view, "Failed to save game: " + e.getMessage(),
                     "Save Error", JOptionPane.ERROR_MESSAGE);
@@ -41,23 +41,38 @@ public final class AbilityMove implements Move {
     public void execute(Character user, Character target, CombatLog log) throws GameException {
         // Spend EP upfront; if not enough EP the move fails
         int cost = ability.getEpCost();
+        int epBefore = user.getCurrentEp();
         if (cost > 0 && !user.spendEp(cost)) {
             throw new GameException(user.getName() + " does not have enough EP to use " + ability.getName());
         }
 
-        log.addEntry(user.getName() + " uses " + ability.getName() + "!");
-
         // Modular and extensible effect processing
+        Character affected;
+        int hpBefore;
         switch (ability.getAbilityEffectType()) {
-            case DAMAGE -> target.takeDamage(ability.getEffectValue());
-            case HEAL -> user.heal(ability.getEffectValue());
+            case DAMAGE -> {
+                affected = target;
+                hpBefore = target.getCurrentHp();
+                target.takeDamage(ability.getEffectValue());
+            }
+            case HEAL -> {
+                affected = user;
+                hpBefore = user.getCurrentHp();
+                user.heal(ability.getEffectValue());
+            }
             case APPLY_STATUS -> {
+                affected = target;
+                hpBefore = target.getCurrentHp();
                 // Create the correct status effect using the factory
                 var statusType = ability.getStatusEffectApplied();
                 target.addStatusEffect(StatusEffectFactory.create(statusType));
             }
             default -> throw new GameException("Unhandled ability effect: " + ability.getAbilityEffectType());
         }
+
+        log.record(CombatEventType.ABILITY_USED, user, affected, ability.getName(),
+                ability.getEffectValue(), hpBefore, affected.getCurrentHp(),
+                epBefore, user.getCurrentEp());
     }
 
     /**
@@ -70,6 +85,19 @@ public final class AbilityMove implements Move {
         return ability.getName();
     }
 
+    /**
+     * Plays the ability on a simulated battle.
+     *
+     * @param state the simulated battle
+     * @param actor seat of the user
+     * @throws GameException if the ability is not the actor's, cannot be
+     *         simulated, or costs more EP than the actor has
+     */
+    @Override
+    public void execute(BattleState state, int actor) throws GameException {
+        state.playAbility(actor, ability);
+    }
+
     /**
      * Gets the description of the ability.
      *
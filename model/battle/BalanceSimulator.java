@@ -0,0 +1,271 @@
+package model.battle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import model.core.Ability;
+import model.core.Character;
+import model.core.ClassType;
+import model.core.RaceType;
+import model.service.ClassService;
+import model.util.Constants;
+import model.util.GameException;
+import model.util.InputValidator;
+import model.util.SimpleBot;
+
+/**
+ * Monte-Carlo balance simulator that plays every loadout against every
+ * other loadout through the headless {@link BattleEngine}.
+ *
+ * <p>A loadout is one {@link RaceType} × {@link ClassType} pairing plus one
+ * ability subset drawn from {@link ClassService#getAvailableAbilities}.  The
+ * subset size follows the race (three abilities, plus any extra race slot),
+ * so every enumerated loadout is a legal {@link Character}.</p>
+ *
+ * <h3>Reproducibility</h3>
+ * <p>Each pairing derives its own {@link Random} from the run seed and the
+ * pairing coordinates, so results are identical for a given seed no matter
+ * how many workers run or in which order pairings are scheduled.</p>
+ */
+public final class BalanceSimulator {
+
+    /** Pairings handled by one fork-join leaf task. */
+    private static final int ROWS_PER_TASK = 1;
+
+    /** Pool that runs the bouts. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator that uses every available core.
+     */
+    public BalanceSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator with a fixed number of worker threads.
+     *
+     * @param parallelism worker count (positive)
+     * @throws GameException if {@code parallelism} is not positive
+     */
+    public BalanceSimulator(int parallelism) throws GameException {
+        InputValidator.requirePositive(parallelism, "parallelism");
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /* ================================================= PUBLIC API */
+
+    /**
+     * A race, class and ability selection that can be turned into a fresh
+     * {@link Character} for each bout.
+     *
+     * @param race      character race
+     * @param classType character class
+     * @param abilities ability subset in class-list order
+     */
+    public record Loadout(RaceType race, ClassType classType, List<Ability> abilities) {
+
+        /**
+         * Builds a new full-health character with this loadout.
+         *
+         * @param name character name (non-blank)
+         * @return a fresh character
+         */
+        public Character create(String name) {
+            return new Character(name, race, classType, abilities);
+        }
+
+        /** @return compact label such as {@code ELF MAGE [Arcane Bolt, Fireball, Frost Nova]} */
+        public String label() {
+            return race + " " + classType + " " + abilities;
+        }
+    }
+
+    /**
+     * Result of a simulation run.  {@code winRate(i, j)} is the share of bouts
+     * loadout {@code i} won against loadout {@code j}; draws count as half.
+     *
+     * @param loadouts        row/column labels
+     * @param winRates        square matrix indexed like {@code loadouts}
+     * @param boutsPerPairing bouts played for every ordered pairing
+     */
+    public record WinRateMatrix(List<Loadout> loadouts, double[][] winRates, int boutsPerPairing) {
+
+        /** @return win rate of loadout {@code i} against loadout {@code j} */
+        public double winRate(int i, int j) {
+            return winRates[i][j];
+        }
+
+        /** @return mean win rate of loadout {@code i} against the whole field */
+        public double overallWinRate(int i) {
+            double sum = 0;
+            for (double rate : winRates[i]) {
+                sum += rate;
+            }
+            return sum / winRates[i].length;
+        }
+
+        /**
+         * Renders the matrix as CSV with a header row of loadout labels.
+         *
+         * @return CSV text
+         */
+        public String toCsv() {
+            StringBuilder sb = new StringBuilder("loadout");
+            for (Loadout l : loadouts) {
+                sb.append(",\"").append(l.label()).append('"');
+            }
+            sb.append('\n');
+            for (int i = 0; i < loadouts.size(); i++) {
+                sb.append('"').append(loadouts.get(i).label()).append('"');
+                for (double rate : winRates[i]) {
+                    sb.append(',').append(String.format(Locale.ROOT, "%.4f", rate));
+                }
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Enumerates every race × class × ability-subset loadout.
+     *
+     * @return immutable list of loadouts in enum order
+     */
+    public static List<Loadout> enumerateLoadouts() {
+        List<Loadout> result = new ArrayList<>();
+        for (RaceType race : RaceType.values()) {
+            int size = Constants.NUM_ABILITIES_PER_CHAR + race.getExtraAbilitySlots();
+            for (ClassType classType : ClassType.values()) {
+                List<Ability> pool = ClassService.INSTANCE.getAvailableAbilities(classType);
+                addSubsets(race, classType, pool, size, 0, new ArrayList<>(size), result);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Plays {@code boutsPerPairing} bouts for every ordered pair of loadouts.
+     *
+     * @param boutsPerPairing bouts per pairing (positive)
+     * @param seed            master seed
+     * @return the resulting win-rate matrix
+     * @throws GameException if {@code boutsPerPairing} is not positive
+     */
+    public WinRateMatrix simulate(int boutsPerPairing, long seed) throws GameException {
+        return simulate(enumerateLoadouts(), boutsPerPairing, seed);
+    }
+
+    /**
+     * Plays {@code boutsPerPairing} bouts for every ordered pair of the given loadouts.
+     *
+     * @param loadouts        loadouts to compare (non-empty)
+     * @param boutsPerPairing bouts per pairing (positive)
+     * @param seed            master seed
+     * @return the resulting win-rate matrix
+     * @throws GameException if arguments are invalid
+     */
+    public WinRateMatrix simulate(List<Loadout> loadouts, int boutsPerPairing, long seed)
+            throws GameException {
+        InputValidator.requireNonNull(loadouts, "loadouts");
+        InputValidator.requirePositive(loadouts.size(), "loadout count");
+        InputValidator.requirePositive(boutsPerPairing, "boutsPerPairing");
+
+        List<Loadout> copy = List.copyOf(loadouts);
+        double[][] rates = new double[copy.size()][copy.size()];
+        pool.invoke(new RowTask(copy, rates, boutsPerPairing, seed, 0, copy.size()));
+        return new WinRateMatrix(copy, rates, boutsPerPairing);
+    }
+
+    /** Releases the worker threads. */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /* ================================================= INTERNAL FLOW */
+
+    private static void addSubsets(RaceType race, ClassType classType, List<Ability> pool, int size,
+                                   int from, List<Ability> current, List<Loadout> out) {
+        if (current.size() == size) {
+            out.add(new Loadout(race, classType, List.copyOf(current)));
+            return;
+        }
+        for (int i = from; i <= pool.size() - (size - current.size()); i++) {
+            current.add(pool.get(i));
+            addSubsets(race, classType, pool, size, i + 1, current, out);
+            current.remove(current.size() - 1);
+        }
+    }
+
+    /** Splits the matrix by rows until a leaf handles {@link #ROWS_PER_TASK} rows. */
+    private static final class RowTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Loadout> loadouts; // fork-join tasks are never serialized
+        private final double[][] rates;
+        private final int bouts;
+        private final long seed;
+        private final int fromRow;
+        private final int toRow;
+
+        RowTask(List<Loadout> loadouts, double[][] rates, int bouts, long seed, int fromRow, int toRow) {
+            this.loadouts = loadouts;
+            this.rates = rates;
+            this.bouts = bouts;
+            this.seed = seed;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                for (int i = fromRow; i < toRow; i++) {
+                    for (int j = 0; j < loadouts.size(); j++) {
+                        rates[i][j] = playPairing(i, j);
+                    }
+                }
+                return;
+            }
+            int mid = (fromRow + toRow) >>> 1;
+            invokeAll(new RowTask(loadouts, rates, bouts, seed, fromRow, mid),
+                      new RowTask(loadouts, rates, bouts, seed, mid, toRow));
+        }
+
+        /** Plays all bouts of one pairing, alternating seats to cancel first-move bias. */
+        private double playPairing(int i, int j) {
+            Random random = new Random(pairingSeed(seed, i, j));
+            SimpleBot bot = new SimpleBot(random);
+            double score = 0;
+            for (int bout = 0; bout < bouts; bout++) {
+                Character mine = loadouts.get(i).create("Challenger");
+                Character theirs = loadouts.get(j).create("Defender");
+                boolean mineFirst = (bout & 1) == 0;
+                BattleEngine engine = mineFirst
+                        ? new BattleEngine(mine, theirs)
+                        : new BattleEngine(theirs, mine);
+                Character winner = engine.run(bot, bot);
+                if (winner == mine) {
+                    score += 1;
+                } else if (winner == null) {
+                    score += 0.5;
+                }
+            }
+            return score / bouts;
+        }
+    }
+
+    /** Mixes the run seed with the pairing coordinates (SplitMix64 finaliser). */
+    private static long pairingSeed(long seed, int i, int j) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) i << 32) | (j & 0xFFFFFFFFL)) + 1;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
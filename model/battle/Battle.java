@@ -28,7 +28,7 @@ public final class Battle {
     private int roundNumber = 1;
 
     /** Combat log recording turn-by-turn narrative. */
-    private final CombatLog combatLog = new CombatLog();
+    private final CombatLog combatLog;
 
     /** Flag indicating whether the battle is finished. */
     private boolean isFinished = false;
@@ -41,6 +41,18 @@ public final class Battle {
      * @throws GameException if validation fails
      */
     public Battle(Character combatant1, Character combatant2) throws GameException {
+        this(combatant1, combatant2, CombatLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a battle session whose log retains {@code logCapacity} events.
+     *
+     * @param combatant1  first character (non-null)
+     * @param combatant2  second character (non-null, must not equal {@code combatant1})
+     * @param logCapacity combat log ring size (positive)
+     * @throws GameException if validation fails
+     */
+    public Battle(Character combatant1, Character combatant2, int logCapacity) throws GameException {
         InputValidator.requireNonNull(combatant1, "combatant1");
         InputValidator.requireNonNull(combatant2, "combatant2");
 
@@ -49,8 +61,10 @@ public final class Battle {
         }
 
         this.combatants = List.of(combatant1, combatant2);
-        combatLog.addEntry("Battle started between " + combatant1.getName()
-                           + " and " + combatant2.getName() + ".");
+        this.combatLog = new CombatLog(logCapacity);
+        combatLog.record(CombatEventType.BATTLE_START, combatant1, combatant2, null, 0,
+                         combatant2.getCurrentHp(), combatant2.getCurrentHp(),
+                         combatant1.getCurrentEp(), combatant1.getCurrentEp());
     }
 
     /**
@@ -117,7 +131,7 @@ public final class Battle {
             throw new GameException("Cannot advance rounds on a finished battle.");
         }
         roundNumber++;
-        combatLog.addEntry("── Round " + roundNumber + " ──");
+        combatLog.record(CombatEventType.ROUND_START, null, null, null, roundNumber, 0, 0, 0, 0);
     }
 
     /**
@@ -0,0 +1,254 @@
+package model.battle;
+
+import model.core.Character;
+import model.util.AIMoveStrategy;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Swing-free rules engine that resolves the turns of a single {@link Battle}.
+ *
+ * <p>The engine owns turn ordering, move execution, round progression and
+ * win detection.  Anything presentation-related is pushed out through a
+ * {@link BattleListener}, so the same rules drive both the GUI (via
+ * {@code BattleController}) and headless bot-vs-bot simulations.</p>
+ *
+ * <h3>Design Notes:</h3>
+ * <ul>
+ *   <li><strong>Composition:</strong> Wraps a {@link Battle} for session state.</li>
+ *   <li><strong>Observer:</strong> Emits log lines and outcomes to a listener.</li>
+ *   <li><strong>Not thread-safe:</strong> one engine per bout, one thread per engine.</li>
+ * </ul>
+ */
+public final class BattleEngine {
+
+    /** Round cap for {@link #run(AIMoveStrategy, AIMoveStrategy)}; stalemates end as draws. */
+    public static final int DEFAULT_MAX_ROUNDS = 200;
+
+    /** Session state being played. */
+    private final Battle battle;
+
+    /** Receiver of engine events; {@link BattleListener#NONE} when headless. */
+    private final BattleListener listener;
+
+    /** Index of the first log entry not yet forwarded to the listener. */
+    private long lastLogIndex = 0;
+
+    /**
+     * Creates a headless engine that raises no events.  Nobody reads its log
+     * back, so it keeps only the last {@link CombatLog#HEADLESS_CAPACITY}
+     * events.
+     *
+     * @param c1 first combatant (non-null, alive)
+     * @param c2 second combatant (non-null, alive, distinct from {@code c1})
+     * @throws GameException if validation fails
+     */
+    public BattleEngine(Character c1, Character c2) throws GameException {
+        this(c1, c2, BattleListener.NONE, CombatLog.HEADLESS_CAPACITY);
+    }
+
+    /**
+     * Creates an engine that reports to {@code listener}.
+     *
+     * @param c1       first combatant (non-null, alive)
+     * @param c2       second combatant (non-null, alive, distinct from {@code c1})
+     * @param listener event receiver (non-null; use {@link BattleListener#NONE} for none)
+     * @throws GameException if validation fails
+     */
+    public BattleEngine(Character c1, Character c2, BattleListener listener) throws GameException {
+        this(c1, c2, listener, CombatLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an engine that reports to {@code listener} and whose log
+     * retains {@code logCapacity} events.
+     *
+     * @param c1          first combatant (non-null, alive)
+     * @param c2          second combatant (non-null, alive, distinct from {@code c1})
+     * @param listener    event receiver (non-null; use {@link BattleListener#NONE} for none)
+     * @param logCapacity combat log ring size (positive)
+     * @throws GameException if validation fails
+     */
+    public BattleEngine(Character c1, Character c2, BattleListener listener, int logCapacity)
+            throws GameException {
+        InputValidator.requireNonNull(c1, "character 1");
+        InputValidator.requireNonNull(c2, "character 2");
+        InputValidator.requireNonNull(listener, "listener");
+
+        if (!c1.isAlive() || !c2.isAlive()) {
+            throw new GameException("Both characters must be alive to start a battle.");
+        }
+
+        this.battle = new Battle(c1, c2, logCapacity);
+        this.listener = listener;
+    }
+
+    /* ================================================= PUBLIC API */
+
+    /**
+     * Returns the battle driven by this engine.
+     *
+     * @return battle session (never {@code null})
+     */
+    public Battle getBattle() {
+        return battle;
+    }
+
+    /**
+     * Resolves one turn in which {@code c1} plays {@code m1} and {@code c2}
+     * plays {@code m2}.  Status effects tick first (see {@link RoundProcessor}),
+     * then moves run in priority order (see {@link Prioritised}); a move whose
+     * actor is stunned or whose actor or target is already down is skipped.
+     * Surviving combatants then regain {@code ROUND_EP_REGEN} EP.
+     *
+     * @param m1 move of the first combatant (non-null)
+     * @param m2 move of the second combatant (non-null)
+     * @throws GameException if the battle is over or a move fails
+     */
+    public void resolveTurn(Move m1, Move m2) throws GameException {
+        resolve(m1, m2, false);
+    }
+
+    /**
+     * Plays the battle to completion, asking each strategy for a move every
+     * turn.  A move that fails (e.g. not enough EP) is logged and forfeits
+     * that action instead of aborting the bout.
+     *
+     * @param s1 strategy for the first combatant (non-null)
+     * @param s2 strategy for the second combatant (non-null)
+     * @return the winner, or {@code null} if {@link #DEFAULT_MAX_ROUNDS} passed without one
+     * @throws GameException if a strategy cannot produce a move
+     */
+    public Character run(AIMoveStrategy s1, AIMoveStrategy s2) throws GameException {
+        return run(s1, s2, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * Plays the battle to completion or until {@code maxRounds} rounds have passed.
+     *
+     * @param s1        strategy for the first combatant (non-null)
+     * @param s2        strategy for the second combatant (non-null)
+     * @param maxRounds round cap (positive)
+     * @return the winner, or {@code null} on a draw or if the cap was reached first
+     * @throws GameException if a strategy cannot produce a move
+     */
+    public Character run(AIMoveStrategy s1, AIMoveStrategy s2, int maxRounds) throws GameException {
+        InputValidator.requireNonNull(s1, "strategy 1");
+        InputValidator.requireNonNull(s2, "strategy 2");
+        InputValidator.requirePositive(maxRounds, "maxRounds");
+
+        Character c1 = battle.getCharacter1();
+        Character c2 = battle.getCharacter2();
+        while (!isOver() && battle.getRoundNumber() <= maxRounds) {
+            resolve(s1.decideMove(c1, c2), s2.decideMove(c2, c1), true);
+        }
+        return getWinner();
+    }
+
+    /**
+     * Returns whether one combatant has been defeated.
+     *
+     * @return {@code true} once the battle has a winner
+     */
+    public boolean isOver() {
+        return !battle.getCharacter1().isAlive() || !battle.getCharacter2().isAlive();
+    }
+
+    /**
+     * Returns the surviving combatant once the battle is over.  When both
+     * fall in the same round, e.g. to poison ticks before anyone moves, the
+     * battle is a draw and neither wins.
+     *
+     * @return winner, or {@code null} on a draw or while the battle is still running
+     */
+    public Character getWinner() {
+        Character c1 = battle.getCharacter1();
+        Character c2 = battle.getCharacter2();
+        if (c1.isAlive() == c2.isAlive()) {
+            return null;
+        }
+        return c1.isAlive() ? c1 : c2;
+    }
+
+    /**
+     * Returns the defeated combatant once the battle is over.
+     *
+     * @return loser, or {@code null} on a draw or while the battle is still running
+     */
+    public Character getLoser() {
+        Character winner = getWinner();
+        if (winner == null) {
+            return null;
+        }
+        return winner == battle.getCharacter1() ? battle.getCharacter2() : battle.getCharacter1();
+    }
+
+    /* ================================================= INTERNAL FLOW */
+
+    private void resolve(Move m1, Move m2, boolean forfeitOnFailure) throws GameException {
+        InputValidator.requireNonNull(m1, "move 1");
+        InputValidator.requireNonNull(m2, "move 2");
+        if (battle.isFinished() || isOver()) {
+            throw new GameException("Cannot resolve a turn on a finished battle.");
+        }
+
+        Character c1 = battle.getCharacter1();
+        Character c2 = battle.getCharacter2();
+        CombatLog log = battle.getCombatLog();
+
+        RoundProcessor.startRound(c1, log);
+        RoundProcessor.startRound(c2, log);
+
+        /* order by priority – higher first, ties keep seat order */
+        if (priorityOf(m2) > priorityOf(m1)) {
+            execute(c2, c1, m2, forfeitOnFailure);
+            execute(c1, c2, m1, forfeitOnFailure);
+        } else {
+            execute(c1, c2, m1, forfeitOnFailure);
+            execute(c2, c1, m2, forfeitOnFailure);
+        }
+
+        if (!isOver()) {
+            RoundProcessor.endRound(c1, log);
+            RoundProcessor.endRound(c2, log);
+        }
+
+        forwardLog();
+        listener.onTurnResolved(battle);
+
+        if (isOver()) {
+            battle.setFinished(true);
+            listener.onBattleEnd(getWinner(), getLoser());
+        } else {
+            battle.nextRound();
+        }
+    }
+
+    private void execute(Character actor, Character target, Move move, boolean forfeitOnFailure)
+            throws GameException {
+        if (!actor.isAlive() || !target.isAlive() || !RoundProcessor.canAct(actor, battle.getCombatLog())) {
+            return;
+        }
+        if (!forfeitOnFailure) {
+            move.execute(actor, target, battle.getCombatLog());
+            return;
+        }
+        try {
+            move.execute(actor, target, battle.getCombatLog());
+        } catch (GameException e) {
+            battle.getCombatLog().addEntry(e.getMessage());
+        }
+    }
+
+    /** Pushes log entries written since the previous turn to the listener. */
+    private void forwardLog() {
+        if (listener == BattleListener.NONE) {
+            return;
+        }
+        lastLogIndex = battle.getCombatLog().forEachSince(lastLogIndex, listener::onLogEntry);
+    }
+
+    private static int priorityOf(Move move) {
+        return (move instanceof Prioritised p) ? p.getPriority() : 0;
+    }
+}
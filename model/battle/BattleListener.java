@@ -0,0 +1,38 @@
+package model.battle;
+
+import model.core.Character;
+
+/**
+ * Observer for events raised by a {@link BattleEngine}.
+ *
+ * <p>All callbacks have empty default implementations so a listener only
+ * overrides what it needs.  Headless simulations simply pass
+ * {@link #NONE}, which lets the engine skip log forwarding entirely.</p>
+ */
+public interface BattleListener {
+
+    /** Listener that ignores every event. */
+    BattleListener NONE = new BattleListener() { };
+
+    /**
+     * Called once for every combat log line produced since the last turn.
+     *
+     * @param entry non-blank log text
+     */
+    default void onLogEntry(String entry) { }
+
+    /**
+     * Called after both moves of a turn have been resolved.
+     *
+     * @param battle the battle being played (non-null)
+     */
+    default void onTurnResolved(Battle battle) { }
+
+    /**
+     * Called once when one combatant has been defeated.
+     *
+     * @param winner the surviving character, {@code null} if both fell
+     * @param loser  the defeated character, {@code null} if both fell
+     */
+    default void onBattleEnd(Character winner, Character loser) { }
+}
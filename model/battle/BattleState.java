@@ -0,0 +1,816 @@
+package model.battle;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import model.core.Ability;
+import model.core.Character;
+import model.item.MagicItem;
+import model.item.SingleUseItem;
+import model.util.Constants;
+import model.util.GameException;
+import model.util.InputValidator;
+import model.util.StatusEffect;
+import model.util.StatusEffectType;
+import model.util.effects.PoisonEffect;
+import model.util.effects.StunEffect;
+
+/**
+ * Compact, copyable snapshot of a battle between two characters, for AI
+ * search and simulations.
+ *
+ * <p>Everything that changes during a bout – HP, EP, status bits, status
+ * durations, the stunned flag and whether the equipped single-use item is
+ * still available – lives in one small {@code int[]}, {@value #SIDE_SIZE}
+ * slots per side.  What cannot change (the abilities and the item itself)
+ * sits in a per-character loadout that copies share.  A {@link #copy()} is
+ * therefore a single array clone, and the Zobrist {@link #hash()} is kept
+ * up to date on every field write instead of being recomputed.</p>
+ *
+ * <p>Moves are plain {@code int} codes: {@code 0..n-1} for the character's
+ * abilities, then {@link #MOVE_ITEM}, {@link #MOVE_DEFEND} and
+ * {@link #MOVE_RECHARGE}.  {@link #apply(int, int)} resolves a whole round
+ * with the same rules as {@link BattleEngine} and {@link RoundProcessor},
+ * without a combat log.</p>
+ *
+ * <p>For depth-first search, {@link #make} does the same but records every
+ * overwritten field on a reusable undo journal, and {@link #unmake()}
+ * restores them and the hash.  After the journal has grown to the search
+ * depth, neither allocates.</p>
+ *
+ * <h3>Design Notes:</h3>
+ * <ul>
+ *   <li><strong>Value semantics:</strong> {@link #equals} and {@link #hashCode}
+ *       compare the packed fields, so states can key transposition tables.</li>
+ *   <li><strong>Not thread-safe:</strong> copy a state before handing it to
+ *       another thread.</li>
+ * </ul>
+ */
+public final class BattleState {
+
+    /* ------------------------------------------------------------ MOVES */
+
+    /** Uses the equipped single-use item. */
+    public static final int MOVE_ITEM = 0x100;
+
+    /** Plays {@link Defend}. */
+    public static final int MOVE_DEFEND = 0x101;
+
+    /** Plays {@link Recharge}. */
+    public static final int MOVE_RECHARGE = 0x102;
+
+    /** Upper bound on {@link #legalMoves} for any character. */
+    public static final int MAX_MOVES = 16;
+
+    /* ----------------------------------------------------------- LAYOUT */
+
+    static final int HP = 0;
+    static final int MAX_HP = 1;
+    static final int EP = 2;
+    static final int MAX_EP = 3;
+    static final int STATUS = 4;       // StatusEffectType bits, as Character#getStatusEffectMask
+    static final int STUNNED = 5;      // 1 while the side skips this round's move
+    static final int STUN_TURNS = 6;
+    static final int POISON_TURNS = 7;
+    static final int ITEM = 8;         // 1 while the single-use item is unused
+    static final int SIDE_SIZE = 9;
+    static final int FIELDS = 2 * SIDE_SIZE;
+
+    private static final int STUN_BIT = 1 << StatusEffectType.STUNNED.ordinal();
+    private static final int POISON_BIT = 1 << StatusEffectType.POISONED.ordinal();
+
+    /** Bumped whenever round resolution changes, so stored tablebases go stale. */
+    private static final int RULES_REVISION = 2;
+
+    /* Zobrist keys: one per (field, value mod VALUE_KEYS). */
+    private static final int VALUE_KEYS = 1024;
+    private static final long[] ZOBRIST = new long[FIELDS * VALUE_KEYS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_BA77_1E57_A7E5L);
+        for (int i = 0; i < ZOBRIST.length; i++) {
+            ZOBRIST[i] = random.nextLong();
+        }
+    }
+
+    /** Hash of the all-zero layout; every state starts from it. */
+    private static final long EMPTY_HASH;
+
+    static {
+        long h = 0L;
+        for (int i = 0; i < FIELDS; i++) {
+            h ^= zobrist(i, 0);
+        }
+        EMPTY_HASH = h;
+    }
+
+    /* ---------------------------------------------------------- LOADOUT */
+
+    /* Ability kinds the simulation understands. */
+    private static final int KIND_UNSUPPORTED = 0;
+    private static final int KIND_DAMAGE = 1;
+    private static final int KIND_HEAL = 2;
+    private static final int KIND_POISON = 3;
+    private static final int KIND_STUN = 4;
+
+    /** Battle-invariant part of a combatant, shared by every copy. */
+    private static final class Loadout {
+        final Ability[] abilities;
+        final int[] kind;
+        final int[] cost;
+        final int[] value;
+        final SingleUseItem item; // null ⇢ no single-use item equipped
+
+        Loadout(Character c) {
+            List<Ability> list = c.getAbilities();
+            int n = list.size();
+            abilities = list.toArray(new Ability[0]);
+            kind = new int[n];
+            cost = new int[n];
+            value = new int[n];
+            for (int i = 0; i < n; i++) {
+                Ability a = abilities[i];
+                kind[i] = kindOf(a);
+                cost[i] = a.getEpCost();
+                value[i] = a.getEffectValue();
+            }
+            MagicItem equipped = c.getInventory().getEquippedItem();
+            item = equipped instanceof SingleUseItem sui ? sui : null;
+        }
+
+        private static int kindOf(Ability a) {
+            return switch (a.getAbilityEffectType()) {
+                case DAMAGE -> KIND_DAMAGE;
+                case HEAL -> KIND_HEAL;
+                case APPLY_STATUS -> switch (a.getStatusEffectApplied()) {
+                    case POISONED -> KIND_POISON;
+                    case STUNNED -> KIND_STUN;
+                    default -> KIND_UNSUPPORTED; // StatusEffectFactory rejects it too
+                };
+                default -> KIND_UNSUPPORTED;      // AbilityMove rejects it too
+            };
+        }
+    }
+
+    /**
+     * Returns whether the simulation can play {@code a}; abilities it cannot
+     * are never legal moves.
+     *
+     * @param a ability (non-null)
+     * @return {@code true} if {@code a} damages, heals, poisons or stuns
+     */
+    public static boolean models(Ability a) {
+        return Loadout.kindOf(a) != KIND_UNSUPPORTED;
+    }
+
+    /* ------------------------------------------------------------ STATE */
+
+    private final Loadout[] loadouts;
+    private final int[] data;
+    private long hash;
+
+    /* Undo journal: (field index, old value) pairs, and per-frame bottoms
+       and hashes.  Allocated on the first make() and reused after that. */
+    private int[] undoLog;
+    private int undoTop;
+    private int[] frameTops;
+    private long[] frameHashes;
+    private int frames;
+
+    private BattleState(Loadout[] loadouts, int[] data, long hash) {
+        this.loadouts = loadouts;
+        this.data = data;
+        this.hash = hash;
+    }
+
+    /**
+     * Captures the current state of two combatants.
+     *
+     * @param c1 first combatant (non-null)
+     * @param c2 second combatant (non-null, distinct from {@code c1})
+     * @return new state
+     * @throws GameException if a character is null or carries a status
+     *         effect other than stun or poison
+     */
+    public static BattleState of(Character c1, Character c2) throws GameException {
+        InputValidator.requireNonNull(c1, "character 1");
+        InputValidator.requireNonNull(c2, "character 2");
+        if (c1 == c2) {
+            throw new GameException("A character cannot battle itself.");
+        }
+        Loadout[] loadouts = {new Loadout(c1), new Loadout(c2)};
+        BattleState s = new BattleState(loadouts, new int[FIELDS], EMPTY_HASH);
+        s.capture(0, c1);
+        s.capture(1, c2);
+        return s;
+    }
+
+    /**
+     * Returns an independent copy sharing only the immutable loadouts.  The
+     * copy starts with an empty undo journal.
+     *
+     * @return new state equal to this one
+     */
+    public BattleState copy() {
+        return new BattleState(loadouts, data.clone(), hash);
+    }
+
+    /**
+     * Returns the Zobrist hash of the packed fields.
+     *
+     * @return 64-bit hash; equal states have equal hashes
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /* ================================================= QUERIES */
+
+    /** @return current HP of {@code side} (0 or 1) */
+    public int hp(int side) {
+        return get(side, HP);
+    }
+
+    /** @return maximum HP of {@code side} */
+    public int maxHp(int side) {
+        return get(side, MAX_HP);
+    }
+
+    /** @return current EP of {@code side} */
+    public int ep(int side) {
+        return get(side, EP);
+    }
+
+    /** @return maximum EP of {@code side} */
+    public int maxEp(int side) {
+        return get(side, MAX_EP);
+    }
+
+    /** @return status bits of {@code side}, as {@link Character#getStatusEffectMask()} */
+    public int statusMask(int side) {
+        return get(side, STATUS);
+    }
+
+    /**
+     * Returns the turns left on a status effect of {@code side}.
+     *
+     * @param side 0 or 1
+     * @param type status type
+     * @return remaining turns, {@code 0} if absent or not modelled
+     */
+    public int statusTurns(int side, StatusEffectType type) {
+        return switch (type) {
+            case STUNNED -> (get(side, STATUS) & STUN_BIT) != 0 ? get(side, STUN_TURNS) : 0;
+            case POISONED -> (get(side, STATUS) & POISON_BIT) != 0 ? get(side, POISON_TURNS) : 0;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns whether {@code side} will skip its move next round, i.e. whether
+     * its stun is still running after the start-of-round countdown.
+     */
+    public boolean isStunned(int side) {
+        return statusTurns(side, StatusEffectType.STUNNED) > 1;
+    }
+
+    /** @return whether {@code side} can still use its single-use item */
+    public boolean hasItem(int side) {
+        return get(side, ITEM) != 0;
+    }
+
+    /** @return whether a combatant is down */
+    public boolean isOver() {
+        return data[HP] == 0 || data[SIDE_SIZE + HP] == 0;
+    }
+
+    /** @return winning side, or {@code -1} on a draw or while the battle is running */
+    public int winner() {
+        if ((data[HP] == 0) == (data[SIDE_SIZE + HP] == 0)) {
+            return -1;
+        }
+        return data[HP] > 0 ? 0 : 1;
+    }
+
+    /**
+     * Writes the moves {@code side} may play into {@code out}.
+     *
+     * @param side 0 or 1
+     * @param out  destination of at least {@link #MAX_MOVES} slots
+     * @return number of moves written
+     */
+    public int legalMoves(int side, int[] out) {
+        Loadout l = loadouts[side];
+        int ep = get(side, EP);
+        int n = 0;
+        for (int i = 0; i < l.kind.length && n < MAX_MOVES - 3; i++) {
+            if (l.kind[i] != KIND_UNSUPPORTED && ep >= l.cost[i]) {
+                out[n++] = i;
+            }
+        }
+        if (get(side, ITEM) != 0) {
+            out[n++] = MOVE_ITEM;
+        }
+        if (ep >= Constants.DEFEND_EP_COST) {
+            out[n++] = MOVE_DEFEND;
+        }
+        out[n++] = MOVE_RECHARGE;
+        return n;
+    }
+
+    /**
+     * Returns whether {@code side} may play {@code move} now.
+     *
+     * @param side 0 or 1
+     * @param move move code
+     * @return {@code true} if {@link #apply} would accept it
+     */
+    public boolean isLegal(int side, int move) {
+        Loadout l = loadouts[side];
+        int ep = get(side, EP);
+        return switch (move) {
+            case MOVE_ITEM -> get(side, ITEM) != 0;
+            case MOVE_DEFEND -> ep >= Constants.DEFEND_EP_COST;
+            case MOVE_RECHARGE -> true;
+            default -> move >= 0 && move < l.kind.length
+                    && l.kind[move] != KIND_UNSUPPORTED && ep >= l.cost[move];
+        };
+    }
+
+    /**
+     * Builds the engine {@link Move} for a move code.
+     *
+     * @param side 0 or 1
+     * @param move legal move code
+     * @return new move object
+     * @throws GameException if the code does not name a move of {@code side}
+     */
+    public Move toMove(int side, int move) throws GameException {
+        Loadout l = loadouts[side];
+        return switch (move) {
+            case MOVE_ITEM -> {
+                if (l.item == null) {
+                    throw new GameException("No single-use item equipped.");
+                }
+                yield new ItemMove(l.item);
+            }
+            case MOVE_DEFEND -> new Defend();
+            case MOVE_RECHARGE -> new Recharge();
+            default -> {
+                if (move < 0 || move >= l.abilities.length) {
+                    throw new GameException("Unknown move code: " + move);
+                }
+                yield new AbilityMove(l.abilities[move]);
+            }
+        };
+    }
+
+    /* ================================================= TRANSITIONS */
+
+    /**
+     * Resolves one round in place: status ticks, both moves in seat order
+     * (no built-in move is {@link Prioritised}), then expiry and EP regen.
+     * Inside a {@link #make} frame the changes are journaled like any other.
+     *
+     * @param move1 move of side 0
+     * @param move2 move of side 1
+     * @throws GameException if the battle is over or a move is not legal
+     */
+    public void apply(int move1, int move2) throws GameException {
+        requireRunning();
+        if (!isLegal(0, move1) || !isLegal(1, move2)) {
+            throw new GameException("Illegal move for this state.");
+        }
+        startRound(0);
+        startRound(1);
+        if (canAct(0, 1)) {
+            play(0, 1, move1);
+        }
+        if (canAct(1, 0)) {
+            play(1, 0, move2);
+        }
+        finishRound();
+    }
+
+    /**
+     * Resolves one round like {@link #apply(int, int)} and records every
+     * field it changes, so that {@link #unmake()} can restore this state.
+     *
+     * @param move1 move of side 0
+     * @param move2 move of side 1
+     * @throws GameException if the battle is over or a move is not legal;
+     *         nothing is changed or recorded in that case
+     */
+    public void make(int move1, int move2) throws GameException {
+        pushFrame();
+        try {
+            apply(move1, move2);
+        } catch (GameException e) {
+            unmake();
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves one round with engine {@link Move} objects, through their
+     * {@link Move#execute(BattleState, int)} mode, and records it for
+     * {@link #unmake()}.
+     *
+     * @param move1 move of side 0 (non-null)
+     * @param move2 move of side 1 (non-null)
+     * @throws GameException if the battle is over or a move cannot be
+     *         played; any partial round is rolled back
+     */
+    public void make(Move move1, Move move2) throws GameException {
+        InputValidator.requireNonNull(move1, "move 1");
+        InputValidator.requireNonNull(move2, "move 2");
+        requireRunning();
+        pushFrame();
+        try {
+            startRound(0);
+            startRound(1);
+            if (canAct(0, 1)) {
+                move1.execute(this, 0);
+            }
+            if (canAct(1, 0)) {
+                move2.execute(this, 1);
+            }
+            finishRound();
+        } catch (GameException e) {
+            unmake();
+            throw e;
+        }
+    }
+
+    /**
+     * Reverts the most recent {@link #make} that has not been undone yet.
+     *
+     * @throws GameException if there is nothing to undo
+     */
+    public void unmake() throws GameException {
+        if (frames == 0) {
+            throw new GameException("No move to unmake.");
+        }
+        frames--;
+        int bottom = frameTops[frames];
+        while (undoTop > bottom) {
+            undoTop -= 2;
+            data[undoLog[undoTop]] = undoLog[undoTop + 1];
+        }
+        hash = frameHashes[frames];
+    }
+
+    /** @return number of {@link #make} calls not yet undone */
+    public int depth() {
+        return frames;
+    }
+
+    /* ---- move primitives, reached through Move#execute(BattleState, int) */
+
+    /** Plays {@code ability}, one of {@code actor}'s abilities. */
+    void playAbility(int actor, Ability ability) throws GameException {
+        Ability[] abilities = loadouts[actor].abilities;
+        for (int i = 0; i < abilities.length; i++) {
+            if (abilities[i] == ability) {
+                if (loadouts[actor].kind[i] == KIND_UNSUPPORTED) {
+                    throw new GameException(ability.getName() + " cannot be simulated.");
+                }
+                if (get(actor, EP) < loadouts[actor].cost[i]) {
+                    throw new GameException("Not enough EP to use " + ability.getName());
+                }
+                useAbility(actor, 1 - actor, i);
+                return;
+            }
+        }
+        throw new GameException(ability.getName() + " is not an ability of this combatant.");
+    }
+
+    /** Uses {@code item}, which must be {@code actor}'s unused single-use item. */
+    void playItem(int actor, SingleUseItem item) throws GameException {
+        if (item != loadouts[actor].item || get(actor, ITEM) == 0) {
+            throw new GameException("Item not found in inventory.");
+        }
+        useItem(actor);
+    }
+
+    /** Spends the defend cost. */
+    void playDefend(int actor) throws GameException {
+        if (get(actor, EP) < Constants.DEFEND_EP_COST) {
+            throw new GameException("Not enough EP to defend.");
+        }
+        set(actor, EP, get(actor, EP) - Constants.DEFEND_EP_COST);
+    }
+
+    /** Regains the recharge EP. */
+    void playRecharge(int actor) {
+        gainEp(actor, Constants.RECHARGE_EP_GAIN);
+    }
+
+    /* ---- round phases */
+
+    private void requireRunning() throws GameException {
+        if (isOver()) {
+            throw new GameException("Cannot resolve a turn on a finished battle.");
+        }
+    }
+
+    private void startRound(int side) {
+        int status = get(side, STATUS);
+        if ((status & STUN_BIT) != 0 && get(side, HP) > 0) {
+            int left = Math.max(0, get(side, STUN_TURNS) - 1);
+            set(side, STUN_TURNS, left);
+            set(side, STUNNED, left > 0 ? 1 : 0);
+        }
+        if ((status & POISON_BIT) != 0 && get(side, HP) > 0) {
+            set(side, HP, Math.max(0, get(side, HP) - PoisonEffect.DAMAGE_PER_TURN));
+            set(side, POISON_TURNS, Math.max(0, get(side, POISON_TURNS) - 1));
+        }
+    }
+
+    /** Mirrors {@link BattleEngine}: downed or stunned actors skip their move. */
+    private boolean canAct(int actor, int target) {
+        return get(actor, HP) > 0 && get(target, HP) > 0 && get(actor, STUNNED) == 0;
+    }
+
+    private void play(int actor, int target, int move) {
+        switch (move) {
+            case MOVE_ITEM -> useItem(actor);
+            case MOVE_DEFEND -> set(actor, EP, get(actor, EP) - Constants.DEFEND_EP_COST);
+            case MOVE_RECHARGE -> gainEp(actor, Constants.RECHARGE_EP_GAIN);
+            default -> useAbility(actor, target, move);
+        }
+    }
+
+    private void useAbility(int actor, int target, int index) {
+        Loadout l = loadouts[actor];
+        set(actor, EP, get(actor, EP) - l.cost[index]);
+        int v = l.value[index];
+        switch (l.kind[index]) {
+            case KIND_DAMAGE -> set(target, HP, Math.max(0, get(target, HP) - v));
+            case KIND_HEAL -> set(actor, HP, Math.min(get(actor, MAX_HP), get(actor, HP) + v));
+            case KIND_POISON -> addStatus(target, POISON_BIT, POISON_TURNS, PoisonEffect.DURATION_TURNS);
+            case KIND_STUN -> addStatus(target, STUN_BIT, STUN_TURNS, StunEffect.DURATION_TURNS);
+            default -> throw new IllegalStateException("Unsupported ability kind");
+        }
+    }
+
+    private void useItem(int actor) {
+        SingleUseItem item = loadouts[actor].item;
+        switch (item.getEffectType()) {
+            case HEAL_HP -> set(actor, HP, Math.min(get(actor, MAX_HP), get(actor, HP) + item.getEffectValue()));
+            case RESTORE_EP -> gainEp(actor, item.getEffectValue());
+            default -> { } // REVIVE on a living user is wasted
+        }
+        set(actor, ITEM, 0);
+    }
+
+    /** Mirrors {@link Character#addStatusEffect}: replace, or add if under the cap. */
+    private boolean addStatus(int side, int bit, int durationField, int duration) {
+        int status = get(side, STATUS);
+        if ((status & bit) == 0 && Integer.bitCount(status) >= Constants.MAX_STATUS_EFFECTS) {
+            return false;
+        }
+        set(side, STATUS, status | bit);
+        set(side, durationField, duration);
+        return true;
+    }
+
+    private void finishRound() {
+        if (!isOver()) {
+            endRound(0);
+            endRound(1);
+        }
+    }
+
+    private void endRound(int side) {
+        int status = get(side, STATUS);
+        if ((status & STUN_BIT) != 0 && get(side, STUN_TURNS) <= 0) {
+            status &= ~STUN_BIT;
+        }
+        set(side, STUNNED, 0);
+        if ((status & POISON_BIT) != 0 && get(side, POISON_TURNS) <= 0) {
+            status &= ~POISON_BIT;
+        }
+        set(side, STATUS, status);
+        if (get(side, HP) > 0) {
+            gainEp(side, Constants.ROUND_EP_REGEN);
+        }
+    }
+
+    private void gainEp(int side, int amount) {
+        set(side, EP, Math.min(get(side, MAX_EP), get(side, EP) + amount));
+    }
+
+    /* ---- undo journal */
+
+    private void pushFrame() {
+        if (undoLog == null) {
+            undoLog = new int[4 * FIELDS];
+            frameTops = new int[8];
+            frameHashes = new long[8];
+        }
+        if (frames == frameTops.length) {
+            frameTops = Arrays.copyOf(frameTops, frames * 2);
+            frameHashes = Arrays.copyOf(frameHashes, frames * 2);
+        }
+        frameTops[frames] = undoTop;
+        frameHashes[frames] = hash;
+        frames++;
+    }
+
+    /* ================================================= TABLEBASE SUPPORT */
+
+    /** @return whether an ability of {@code side} applies {@code type} */
+    boolean canInflict(int side, StatusEffectType type) {
+        int kind = type == StatusEffectType.STUNNED ? KIND_STUN
+                : type == StatusEffectType.POISONED ? KIND_POISON : KIND_UNSUPPORTED;
+        for (int k : loadouts[side].kind) {
+            if (k != KIND_UNSUPPORTED && k == kind) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return whether {@code side} has a single-use item equipped, used or not */
+    boolean hasItemEquipped(int side) {
+        return loadouts[side].item != null;
+    }
+
+    /** @return whether {@code other} descends from the same {@link #of} capture */
+    boolean sameLoadouts(BattleState other) {
+        return other.loadouts == loadouts;
+    }
+
+    /**
+     * Returns whether the status fields of {@code side} are in the form
+     * reached between rounds: each bit set exactly while its turn count is
+     * positive, and the stunned flag clear (it only lives within a round).
+     */
+    boolean hasCanonicalStatus(int side) {
+        int status = get(side, STATUS);
+        int stun = get(side, STUN_TURNS);
+        int poison = get(side, POISON_TURNS);
+        return (status & ~(STUN_BIT | POISON_BIT)) == 0
+                && ((status & STUN_BIT) != 0) == (stun > 0)
+                && get(side, STUNNED) == 0
+                && ((status & POISON_BIT) != 0) == (poison > 0);
+    }
+
+    /** Writes canonical status fields for the given turn counts. */
+    void setStatus(int side, int stunTurns, int poisonTurns) {
+        set(side, STATUS, (stunTurns > 0 ? STUN_BIT : 0) | (poisonTurns > 0 ? POISON_BIT : 0));
+        set(side, STUNNED, 0);
+        set(side, STUN_TURNS, stunTurns);
+        set(side, POISON_TURNS, poisonTurns);
+    }
+
+    /**
+     * Fingerprints everything besides HP, EP and status that decides how a
+     * round plays out: both loadouts, both maxima and the balance constants.
+     */
+    long rulesKey() {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int side = 0; side < 2; side++) {
+            Loadout l = loadouts[side];
+            for (int i = 0; i < l.abilities.length; i++) {
+                h = mix(h, l.abilities[i].getName().hashCode());
+                h = mix(h, l.kind[i]);
+                h = mix(h, l.cost[i]);
+                h = mix(h, l.value[i]);
+            }
+            h = mix(h, l.item == null ? -1 : l.item.getEffectType().ordinal());
+            h = mix(h, l.item == null ? -1 : l.item.getEffectValue());
+            h = mix(h, get(side, MAX_HP));
+            h = mix(h, get(side, MAX_EP));
+        }
+        int[] rules = {Constants.DEFEND_EP_COST, Constants.RECHARGE_EP_GAIN, Constants.ROUND_EP_REGEN,
+                Constants.MAX_STATUS_EFFECTS, PoisonEffect.DAMAGE_PER_TURN, PoisonEffect.DURATION_TURNS,
+                StunEffect.DURATION_TURNS, RULES_REVISION};
+        for (int r : rules) {
+            h = mix(h, r);
+        }
+        return h;
+    }
+
+    private static long mix(long h, int v) {
+        h = (h ^ v) * 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 29);
+    }
+
+    /* ================================================= CONVERSION */
+
+    /**
+     * Writes HP, EP, status effects and item use back onto the characters
+     * this state was captured from.
+     *
+     * @param c1 first combatant (non-null, same abilities as at capture)
+     * @param c2 second combatant (non-null, same abilities as at capture)
+     * @throws GameException if a character does not match its loadout
+     */
+    public void applyTo(Character c1, Character c2) throws GameException {
+        InputValidator.requireNonNull(c1, "character 1");
+        InputValidator.requireNonNull(c2, "character 2");
+        restore(0, c1);
+        restore(1, c2);
+    }
+
+    private void capture(int side, Character c) throws GameException {
+        int status = c.getStatusEffectMask();
+        if ((status & ~(STUN_BIT | POISON_BIT)) != 0) {
+            throw new GameException(c.getName() + " has a status effect the simulation does not model.");
+        }
+        set(side, HP, c.getCurrentHp());
+        set(side, MAX_HP, c.getMaxHp());
+        set(side, EP, c.getCurrentEp());
+        set(side, MAX_EP, c.getMaxEp());
+        set(side, STATUS, status);
+        set(side, STUNNED, c.isStunned() ? 1 : 0);
+        set(side, STUN_TURNS, durationOf(c, StatusEffectType.STUNNED));
+        set(side, POISON_TURNS, durationOf(c, StatusEffectType.POISONED));
+        set(side, ITEM, loadouts[side].item != null
+                && c.getInventory().getAllItems().contains(loadouts[side].item) ? 1 : 0);
+    }
+
+    private void restore(int side, Character c) throws GameException {
+        Loadout l = loadouts[side];
+        if (!c.getAbilities().equals(Arrays.asList(l.abilities))) {
+            throw new GameException(c.getName() + " does not match the captured state.");
+        }
+        c.restoreState(c.getLevel(), c.getXp(), c.getWinCount(),
+                get(side, MAX_HP), get(side, HP), get(side, MAX_EP), get(side, EP));
+
+        for (int bits = c.getStatusEffectMask(); bits != 0; bits &= bits - 1) {
+            c.removeStatusEffect(StatusEffectType.values()[Integer.numberOfTrailingZeros(bits)]);
+        }
+        int status = get(side, STATUS);
+        if ((status & STUN_BIT) != 0) {
+            c.addStatusEffect(new StunEffect(Math.max(1, get(side, STUN_TURNS))));
+        }
+        if ((status & POISON_BIT) != 0) {
+            c.addStatusEffect(new PoisonEffect(Math.max(1, get(side, POISON_TURNS))));
+        }
+        c.setStunned(get(side, STUNNED) != 0);
+
+        if (l.item != null && get(side, ITEM) == 0 && c.getInventory().getAllItems().contains(l.item)) {
+            c.getInventory().useSingleUseItem(l.item);
+        }
+    }
+
+    private static int durationOf(Character c, StatusEffectType type) {
+        StatusEffect effect = c.getStatusEffect(type);
+        return effect == null ? 0 : effect.getDuration();
+    }
+
+    /* ================================================= PACKED FIELDS */
+
+    int get(int side, int field) {
+        return data[side * SIDE_SIZE + field];
+    }
+
+    /**
+     * Writes a field, folding the old and new values out of and into the
+     * hash and journaling the old value while a {@link #make} frame is open.
+     */
+    void set(int side, int field, int value) {
+        int i = side * SIDE_SIZE + field;
+        int old = data[i];
+        if (old == value) {
+            return;
+        }
+        if (frames > 0) {
+            if (undoTop == undoLog.length) {
+                undoLog = Arrays.copyOf(undoLog, undoTop * 2);
+            }
+            undoLog[undoTop++] = i;
+            undoLog[undoTop++] = old;
+        }
+        hash ^= zobrist(i, old) ^ zobrist(i, value);
+        data[i] = value;
+    }
+
+    private static long zobrist(int index, int value) {
+        return ZOBRIST[index * VALUE_KEYS + (value & (VALUE_KEYS - 1))];
+    }
+
+    /* ================================================= OBJECT */
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BattleState other
+                && other.loadouts[0] == loadouts[0] && other.loadouts[1] == loadouts[1]
+                && Arrays.equals(other.data, data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BattleState[HP %d/%d EP %d/%d | HP %d/%d EP %d/%d]",
+                hp(0), maxHp(0), ep(0), maxEp(0), hp(1), maxHp(1), ep(1), maxEp(1));
+    }
+}
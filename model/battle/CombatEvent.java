@@ -0,0 +1,70 @@
+package model.battle;
+
+import model.core.Character;
+
+/**
+ * Immutable, typed snapshot of one combat log event.
+ *
+ * <p>HP fields describe the character the action affected ({@code target};
+ * the actor itself for heals, recharges and items), EP fields describe the
+ * actor.  Instances are materialised only when a reader asks for them;
+ * {@link CombatLog} stores events in primitive columns.</p>
+ *
+ * @param type     event kind (non-null)
+ * @param actor    character performing the action, may be {@code null} for
+ *                 {@link CombatEventType#MESSAGE}/{@link CombatEventType#ROUND_START}
+ * @param target   affected character, may be {@code null}
+ * @param subject  ability or item name, may be {@code null}
+ * @param amount   damage, heal, EP, XP or round number depending on {@code type}
+ * @param hpBefore HP of {@code target} before the action
+ * @param hpAfter  HP of {@code target} after the action
+ * @param epBefore EP of {@code actor} before the action
+ * @param epAfter  EP of {@code actor} after the action
+ * @param text     free text for {@link CombatEventType#MESSAGE}, otherwise {@code null}
+ */
+public record CombatEvent(CombatEventType type,
+                          Character actor,
+                          Character target,
+                          String subject,
+                          int amount,
+                          int hpBefore,
+                          int hpAfter,
+                          int epBefore,
+                          int epAfter,
+                          String text) {
+
+    /**
+     * Renders the human-readable log line shown in the battle view.
+     *
+     * @return non-blank text
+     */
+    public String render() {
+        return switch (type) {
+            case MESSAGE -> text;
+            case BATTLE_START -> "Battle started between " + actor.getName()
+                    + " and " + target.getName() + ".";
+            case ROUND_START -> "── Round " + amount + " ──";
+            case ABILITY_USED -> actor.getName() + " uses " + subject + "!";
+            case DEFEND -> actor.getName() + " takes a defensive stance.";
+            case RECHARGE -> actor.getName() + " recharges and gains " + amount + " EP.";
+            case ITEM_HEAL -> actor.getName() + " uses " + subject
+                    + " and restores " + amount + " HP!";
+            case ITEM_RESTORE_EP -> actor.getName() + " uses " + subject
+                    + " and gains " + amount + " EP!";
+            case ITEM_REVIVE -> actor.getName() + " is revived by " + subject
+                    + " with " + amount + " HP!";
+            case ITEM_REVIVE_WASTED -> actor.getName() + " uses " + subject
+                    + " but is already conscious.";
+            case XP_GAINED -> actor.getName() + " gains " + amount + " XP.";
+            case STATUS_DAMAGE -> actor.getName() + " suffers " + amount + " damage (" + subject + ").";
+            case STUNNED_SKIP -> actor.getName() + " is stunned and cannot act!";
+            case STATUS_EXPIRED -> actor.getName() + " is no longer " + subject + ".";
+            case EP_REGEN -> actor.getName() + " regains " + amount + " EP.";
+        };
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
@@ -0,0 +1,56 @@
+package model.battle;
+
+/**
+ * Enumerates the kinds of {@link CombatEvent} a {@link CombatLog} records.
+ *
+ * <p>Each literal documents which event fields it uses; unused fields are
+ * left at zero / {@code null}.  {@link #MESSAGE} carries free text for
+ * anything that has no structured form.</p>
+ */
+public enum CombatEventType {
+
+    /** Free-text entry; only {@code text} is set. */
+    MESSAGE,
+
+    /** Battle opened; {@code actor} and {@code target} are the combatants. */
+    BATTLE_START,
+
+    /** New round began; {@code amount} is the round number. */
+    ROUND_START,
+
+    /** {@code actor} used ability {@code subject} with effect value {@code amount} on {@code target}. */
+    ABILITY_USED,
+
+    /** {@code actor} defended, paying {@code amount} EP. */
+    DEFEND,
+
+    /** {@code actor} recharged {@code amount} EP. */
+    RECHARGE,
+
+    /** {@code actor} used item {@code subject} to restore {@code amount} HP. */
+    ITEM_HEAL,
+
+    /** {@code actor} used item {@code subject} to restore {@code amount} EP. */
+    ITEM_RESTORE_EP,
+
+    /** {@code actor} was revived by item {@code subject} with {@code amount} HP. */
+    ITEM_REVIVE,
+
+    /** {@code actor} used revive item {@code subject} while still conscious. */
+    ITEM_REVIVE_WASTED,
+
+    /** {@code actor} gained {@code amount} XP. */
+    XP_GAINED,
+
+    /** {@code actor} lost {@code amount} HP to status effect {@code subject} at round start. */
+    STATUS_DAMAGE,
+
+    /** {@code actor} is stunned and loses this round's action. */
+    STUNNED_SKIP,
+
+    /** Status effect {@code subject} on {@code actor} wore off. */
+    STATUS_EXPIRED,
+
+    /** {@code actor} regained {@code amount} EP at round end. */
+    EP_REGEN
+}
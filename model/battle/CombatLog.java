@@ -3,50 +3,283 @@ package model.battle;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import model.core.Character;
 import model.util.GameException;
 import model.util.InputValidator;
 
 /**
- * Stores an ordered list of textual battle events.
+ * Stores an ordered stream of typed battle events.
  *
- * <p>The log is cleared at the start of each new {@code Battle}.  UI layers
- * must treat the list returned by {@link #getLogEntries()} as <em>read-only</em>;
- * mutation is only allowed through {@link #addEntry(String)} and
+ * <p>Events are recorded into preallocated, column-per-field ring buffers,
+ * so {@link #record} performs no string building and no allocation.  Text
+ * is rendered only when a reader asks for it through
+ * {@link #getLogEntries()}, {@link #entriesSince(long)} or
+ * {@link #forEachSince(long, Consumer)}; machine readers use the
+ * {@link CombatEvent} accessors instead.</p>
+ *
+ * <p>Entries are addressed by a sequence number that starts at 0 and grows
+ * by one per event until {@link #clearLog()}; it is a {@code long}, so it
+ * cannot wrap in the life of a process.  Once more than
+ * {@link #getCapacity()} events have been written, the oldest are
+ * overwritten; cursor reads then resume at the oldest retained event.
+ * UI layers must treat returned lists as <em>read-only</em>; mutation is
+ * only allowed through {@link #addEntry(String)}, {@link #record} and
  * {@link #clearLog()} to preserve consistency.</p>
+ *
+ * <p>Readers that poll after every turn should keep a cursor and use
+ * {@link #forEachSince(long, Consumer)} or {@link #entriesSince(long)}, which
+ * touch only the new tail instead of copying the whole log.</p>
  */
 public final class CombatLog {
 
-    /** Internal backing list; never exposed directly. */
-    private final List<String> logEntries = new ArrayList<>();
+    /** Events retained by a log built with the no-arg constructor. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Events retained by logs nobody reads back, such as those of headless
+     * {@link BattleEngine} runs; enough for a post-mortem of the last round.
+     */
+    public static final int HEADLESS_CAPACITY = 16;
+
+    /* ring-buffer columns, indexed by sequence % capacity */
+    private final CombatEventType[] types;
+    private final Character[] actors;
+    private final Character[] targets;
+    private final String[] subjects;
+    private final String[] texts;
+    private final int[] amounts;
+    private final int[] hpBefore;
+    private final int[] hpAfter;
+    private final int[] epBefore;
+    private final int[] epAfter;
 
-    /** Creates an empty log. */
-    public CombatLog() { /* nothing to initialise */ }
+    /** Sequence number of the next event; also the total written since the last clear. */
+    private long written = 0;
+
+    /** Creates an empty log holding {@link #DEFAULT_CAPACITY} events. */
+    public CombatLog() {
+        this(DEFAULT_CAPACITY);
+    }
 
     /**
-     * Appends a new entry to the combat log.
+     * Creates an empty log holding up to {@code capacity} events.
+     *
+     * @param capacity ring size (positive)
+     * @throws GameException if {@code capacity} is not positive
+     */
+    public CombatLog(int capacity) throws GameException {
+        InputValidator.requirePositive(capacity, "CombatLog capacity");
+        types = new CombatEventType[capacity];
+        actors = new Character[capacity];
+        targets = new Character[capacity];
+        subjects = new String[capacity];
+        texts = new String[capacity];
+        amounts = new int[capacity];
+        hpBefore = new int[capacity];
+        hpAfter = new int[capacity];
+        epBefore = new int[capacity];
+        epAfter = new int[capacity];
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Writing                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Appends a free-text entry to the combat log.
      *
      * @param entry non-blank event text
      * @throws GameException if {@code entry} is null or blank
      */
     public synchronized void addEntry(String entry) throws GameException {
         InputValidator.requireNonBlank(entry, "CombatLog entry");
-        logEntries.add(entry);
+        int slot = claimSlot(CombatEventType.MESSAGE);
+        texts[slot] = entry;
+        actors[slot] = null;
+        targets[slot] = null;
+        subjects[slot] = null;
+        amounts[slot] = 0;
+        hpBefore[slot] = 0;
+        hpAfter[slot] = 0;
+        epBefore[slot] = 0;
+        epAfter[slot] = 0;
+    }
+
+    /**
+     * Records a structured event without rendering any text.
+     *
+     * @param type     event kind (non-null, not {@link CombatEventType#MESSAGE})
+     * @param actor    acting character
+     * @param target   affected character
+     * @param subject  ability or item name
+     * @param amount   type-specific magnitude
+     * @param hpBefore HP of {@code target} before the action
+     * @param hpAfter  HP of {@code target} after the action
+     * @param epBefore EP of {@code actor} before the action
+     * @param epAfter  EP of {@code actor} after the action
+     * @throws GameException if {@code type} is null or {@link CombatEventType#MESSAGE}
+     */
+    public synchronized void record(CombatEventType type, Character actor, Character target,
+                                    String subject, int amount,
+                                    int hpBefore, int hpAfter,
+                                    int epBefore, int epAfter) throws GameException {
+        InputValidator.requireNonNull(type, "CombatEvent type");
+        if (type == CombatEventType.MESSAGE) {
+            throw new GameException("Use addEntry(String) for free-text entries.");
+        }
+        int slot = claimSlot(type);
+        actors[slot] = actor;
+        targets[slot] = target;
+        subjects[slot] = subject;
+        amounts[slot] = amount;
+        this.hpBefore[slot] = hpBefore;
+        this.hpAfter[slot] = hpAfter;
+        this.epBefore[slot] = epBefore;
+        this.epAfter[slot] = epAfter;
     }
 
     /**
-     * Returns an unmodifiable view of the current log entries in insertion order.
+     * Removes all entries from the log.
+     */
+    public synchronized void clearLog() {
+        int retained = (int) Math.min(written, types.length);
+        for (int i = 0; i < retained; i++) {
+            types[i] = null;
+            actors[i] = null;
+            targets[i] = null;
+            subjects[i] = null;
+            texts[i] = null;
+        }
+        written = 0;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Reading                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the rendered text of every retained entry in insertion order.
      *
      * @return immutable list of log lines
      */
     public synchronized List<String> getLogEntries() {
-        return Collections.unmodifiableList(new ArrayList<>(logEntries));
+        return entriesSince(0);
+    }
+
+    /**
+     * Returns the sequence number of the next event, i.e. the cursor value
+     * a reader holds after consuming everything.
+     *
+     * @return total events written since the last clear
+     */
+    public synchronized long size() {
+        return written;
     }
 
+    /**
+     * Returns the number of events the ring retains.
+     *
+     * @return ring capacity
+     */
+    public int getCapacity() {
+        return types.length;
+    }
 
     /**
-     * Removes all entries from the log.
+     * Returns the rendered text of entries at or after {@code fromIndex}.
+     * Only the tail is rendered, so polling per turn stays O(new entries).
+     *
+     * @param fromIndex cursor from a previous call to {@link #size()} (≥ 0);
+     *                  values past the end yield an empty list
+     * @return immutable list of the new entries
+     * @throws GameException if {@code fromIndex} is negative
      */
-    public synchronized void clearLog() {
-        logEntries.clear();
+    public synchronized List<String> entriesSince(long fromIndex) throws GameException {
+        InputValidator.requirePositiveOrZero(fromIndex, "fromIndex");
+        long start = firstReadable(fromIndex);
+        if (start >= written) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>((int) (written - start));
+        for (long seq = start; seq < written; seq++) {
+            result.add(render(seq));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Passes the rendered text of every entry at or after {@code fromIndex}
+     * to {@code action} and returns the new cursor.
+     *
+     * <p>{@code action} runs while the log is locked, so it must not write
+     * back to this log.  If the log was cleared since the cursor was taken,
+     * reading restarts from the first entry.</p>
+     *
+     * @param fromIndex cursor from a previous call (≥ 0)
+     * @param action    receiver of each new entry (non-null)
+     * @return cursor to pass on the next call
+     * @throws GameException if {@code fromIndex} is negative or {@code action} is null
+     */
+    public synchronized long forEachSince(long fromIndex, Consumer<? super String> action)
+            throws GameException {
+        InputValidator.requirePositiveOrZero(fromIndex, "fromIndex");
+        InputValidator.requireNonNull(action, "action");
+        for (long seq = firstReadable(fromIndex); seq < written; seq++) {
+            action.accept(render(seq));
+        }
+        return written;
+    }
+
+    /**
+     * Returns the typed events at or after {@code fromIndex}.
+     *
+     * @param fromIndex cursor (≥ 0)
+     * @return immutable list of events in sequence order
+     * @throws GameException if {@code fromIndex} is negative
+     */
+    public synchronized List<CombatEvent> eventsSince(long fromIndex) throws GameException {
+        InputValidator.requirePositiveOrZero(fromIndex, "fromIndex");
+        long start = firstReadable(fromIndex);
+        List<CombatEvent> result = new ArrayList<>((int) Math.max(0, written - start));
+        for (long seq = start; seq < written; seq++) {
+            result.add(eventAt(seq));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Internals                                                          */
+    /* ------------------------------------------------------------------ */
+
+    private int claimSlot(CombatEventType type) {
+        int slot = slotOf(written);
+        types[slot] = type;
+        texts[slot] = null;
+        written++;
+        return slot;
+    }
+
+    private int slotOf(long seq) {
+        return (int) (seq % types.length);
+    }
+
+    /** Clamps a cursor to the oldest retained event; a cursor past the end after a clear restarts at 0. */
+    private long firstReadable(long fromIndex) {
+        if (fromIndex > written) {
+            fromIndex = 0;
+        }
+        return Math.max(fromIndex, written - types.length);
+    }
+
+    private CombatEvent eventAt(long seq) {
+        int s = slotOf(seq);
+        return new CombatEvent(types[s], actors[s], targets[s], subjects[s], amounts[s],
+                hpBefore[s], hpAfter[s], epBefore[s], epAfter[s], texts[s]);
+    }
+
+    private String render(long seq) {
+        int s = slotOf(seq);
+        return types[s] == CombatEventType.MESSAGE ? texts[s] : eventAt(seq).render();
     }
 }
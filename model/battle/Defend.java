@@ -34,11 +34,19 @@ public final class Defend implements MoveAction {
         InputValidator.requireNonNull(user, "user");
         InputValidator.requireNonNull(log, "combat log");
 
+        int epBefore = user.getCurrentEp();
         if (!user.spendEp(Constants.DEFEND_EP_COST)) {
             throw new GameException(user.getName() + " does not have enough EP to defend.");
         }
 
-        log.addEntry(user.getName() + " takes a defensive stance.");
+        int hp = user.getCurrentHp();
+        log.record(CombatEventType.DEFEND, user, user, getName(), Constants.DEFEND_EP_COST,
+                hp, hp, epBefore, user.getCurrentEp());
         // Any damage mitigation would be handled by the battle system
     }
+
+    @Override
+    public void execute(BattleState state, int actor) throws GameException {
+        state.playDefend(actor);
+    }
 }
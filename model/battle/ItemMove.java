@@ -46,4 +46,9 @@ public final class ItemMove implements Move {
         item.applyEffect(user, log);
         user.getInventory().useSingleUseItem(item);
     }
+
+    @Override
+    public void execute(BattleState state, int actor) throws GameException {
+        state.playItem(actor, item);
+    }
 }
@@ -51,4 +51,16 @@ public interface Move {
      * @throws GameException if the move fails or an effect cannot be applied
      */
     void execute(Character user, Character target, CombatLog combatLog) throws GameException;
+
+    /**
+     * Plays the move on a packed {@link BattleState} for search.  Inside
+     * {@link BattleState#make(Move, Move)} every change is journaled, so the
+     * round can be undone with {@link BattleState#unmake()}.  Nothing is
+     * logged and nothing is allocated.
+     *
+     * @param state the simulated battle (non-null)
+     * @param actor seat of the user, 0 or 1; the other seat is the target
+     * @throws GameException if the move cannot be played in {@code state}
+     */
+    void execute(BattleState state, int actor) throws GameException;
 }
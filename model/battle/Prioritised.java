@@ -0,0 +1,15 @@
+package model.battle;
+
+/**
+ * Optional contract for moves that must resolve before (or after) others
+ * in the same turn.  Moves that do not implement it have priority {@code 0}.
+ */
+public interface Prioritised {
+
+    /**
+     * Returns the turn priority of this move; higher executes first.
+     *
+     * @return priority value
+     */
+    int getPriority();
+}
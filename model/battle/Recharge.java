@@ -30,7 +30,15 @@ public final class Recharge implements MoveAction {
         InputValidator.requireNonNull(user, "user");
         InputValidator.requireNonNull(log, "combat log");
 
+        int epBefore = user.getCurrentEp();
         user.gainEp(Constants.RECHARGE_EP_GAIN);
-        log.addEntry(user.getName() + " recharges and gains " + Constants.RECHARGE_EP_GAIN + " EP.");
+        int hp = user.getCurrentHp();
+        log.record(CombatEventType.RECHARGE, user, user, getName(), Constants.RECHARGE_EP_GAIN,
+                hp, hp, epBefore, user.getCurrentEp());
+    }
+
+    @Override
+    public void execute(BattleState state, int actor) {
+        state.playRecharge(actor);
     }
 }
@@ -0,0 +1,108 @@
+package model.battle;
+
+import java.util.Locale;
+
+import model.core.Character;
+import model.util.Constants;
+import model.util.GameException;
+import model.util.StatusEffect;
+import model.util.StatusEffectType;
+
+/**
+ * Drives the per-round status effect lifecycle and end-of-round upkeep.
+ *
+ * <p>Each round of {@link BattleEngine} runs in three phases:</p>
+ * <ol>
+ *   <li>{@link #startRound} – every active effect's {@code onTurnStart}
+ *       hook (poison damage, stun countdown).  A stun only blocks from the
+ *       round after it lands, so the victim's seat does not change how many
+ *       moves it costs;</li>
+ *   <li>the moves, each gated by {@link #canAct} (stunned actors skip);</li>
+ *   <li>{@link #endRound} – {@code onTurnEnd} hooks, expiry of effects whose
+ *       duration reached zero, then {@link Constants#ROUND_EP_REGEN}.</li>
+ * </ol>
+ *
+ * <p>Effects are visited by walking {@link Character#getStatusEffectMask()}
+ * bit by bit, so no list is scanned or allocated.  Nothing on this path
+ * allocates, which keeps headless simulations free of per-turn garbage.</p>
+ */
+final class RoundProcessor {
+
+    private static final StatusEffectType[] TYPES = StatusEffectType.values();
+
+    /** Log subjects by type ordinal, built once so a tick renders nothing. */
+    private static final String[] LABELS = new String[TYPES.length];
+
+    static {
+        for (StatusEffectType type : TYPES) {
+            LABELS[type.ordinal()] = type.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private RoundProcessor() {
+        // static utility
+    }
+
+    /**
+     * Runs the start-of-round hooks of every effect on {@code c}.
+     *
+     * @throws GameException if an effect hook fails
+     */
+    static void startRound(Character c, CombatLog log) throws GameException {
+        for (int bits = c.getStatusEffectMask(); bits != 0 && c.isAlive(); bits &= bits - 1) {
+            StatusEffectType type = TYPES[Integer.numberOfTrailingZeros(bits)];
+            StatusEffect effect = c.getStatusEffect(type);
+            int hp = c.getCurrentHp();
+            effect.onTurnStart(c);
+            if (c.getCurrentHp() < hp) {
+                log.record(CombatEventType.STATUS_DAMAGE, c, c, label(type), hp - c.getCurrentHp(),
+                           hp, c.getCurrentHp(), c.getCurrentEp(), c.getCurrentEp());
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code c} may act this round, logging a skipped turn.
+     *
+     * @throws GameException if the log rejects the event
+     */
+    static boolean canAct(Character c, CombatLog log) throws GameException {
+        if (!c.isStunned()) {
+            return true;
+        }
+        log.record(CombatEventType.STUNNED_SKIP, c, c, null, 0,
+                   c.getCurrentHp(), c.getCurrentHp(), c.getCurrentEp(), c.getCurrentEp());
+        return false;
+    }
+
+    /**
+     * Runs end-of-round hooks, expires finished effects and regenerates EP.
+     *
+     * @throws GameException if an effect hook fails
+     */
+    static void endRound(Character c, CombatLog log) throws GameException {
+        for (int bits = c.getStatusEffectMask(); bits != 0; bits &= bits - 1) {
+            StatusEffectType type = TYPES[Integer.numberOfTrailingZeros(bits)];
+            StatusEffect effect = c.getStatusEffect(type);
+            effect.onTurnEnd(c);
+            if (effect.getDuration() <= 0) {
+                c.removeStatusEffect(type);
+                log.record(CombatEventType.STATUS_EXPIRED, c, c, label(type), 0,
+                           c.getCurrentHp(), c.getCurrentHp(), c.getCurrentEp(), c.getCurrentEp());
+            }
+        }
+        if (!c.isAlive()) {
+            return;
+        }
+        int ep = c.getCurrentEp();
+        c.gainEp(Constants.ROUND_EP_REGEN);
+        if (c.getCurrentEp() > ep) {
+            log.record(CombatEventType.EP_REGEN, c, c, null, c.getCurrentEp() - ep,
+                       c.getCurrentHp(), c.getCurrentHp(), ep, c.getCurrentEp());
+        }
+    }
+
+    private static String label(StatusEffectType type) {
+        return LABELS[type.ordinal()];
+    }
+}
@@ -0,0 +1,388 @@
+package model.battle;
+
+import java.nio.ByteBuffer;
+
+import model.core.Character;
+import model.util.GameException;
+import model.util.InputValidator;
+import model.util.StatusEffectType;
+import model.util.effects.PoisonEffect;
+import model.util.effects.StunEffect;
+
+/**
+ * Solved endgame table for one matchup: which low-HP states a side can win
+ * by force, in how many rounds, and with which move.
+ *
+ * <p>The table covers every state of the two captured characters with both
+ * HP values at most {@code hpCap} and both EP values at most {@code epCap},
+ * in every status and item combination their loadouts can produce.  A side
+ * <em>forces</em> a win in {@code n} rounds if it has a move that wins in
+ * under {@code n} more rounds whatever the opponent picks at the same time.
+ * {@link #solve} finds these by backward induction: pass {@code n} marks
+ * the states forced through states marked in earlier passes, until a pass
+ * adds nothing.  The rules have no random effects, so a forced result is
+ * certain; the other states are left open because their outcome depends on
+ * guessing the opponent.  Rounds that leave the table, for example by
+ * healing past {@code hpCap}, are never counted as forced.</p>
+ *
+ * <p>Each state takes two bytes, its signed value and the forcing move, in
+ * a dense array with no slots for statuses neither loadout can inflict.
+ * The array may be a heap buffer or a read-only mapping of a tablebase
+ * file (see {@code persistence.TablebaseFile}); a probe is a bounds check
+ * and one {@link ByteBuffer#get(int)}, so search can call it at every
+ * node.  Instances are immutable and thread-safe.</p>
+ */
+public final class Tablebase {
+
+    /** Value of states with no forced result, or outside the table. */
+    public static final int OPEN = 0;
+
+    /** Longest forced win the table records, in rounds. */
+    public static final int MAX_DISTANCE = Byte.MAX_VALUE;
+
+    private static final byte NO_MOVE = -1;
+    private static final int ENTRY_BYTES = 2;
+
+    /* dimension sizes per side: stun turns, poison turns, item */
+    private static final int STUN = 0;
+    private static final int POISON = 1;
+    private static final int ITEM = 2;
+    private static final int RADICES = 3;
+
+    private final long rulesKey;
+    private final int hpCap;
+    private final int epCap;
+    private final int[] radices;
+    private final int states;
+    private final ByteBuffer entries;
+
+    /* last state seen to match, compared by loadout identity */
+    private volatile BattleState matched;
+
+    /**
+     * Wraps solved entries.
+     *
+     * @param rulesKey fingerprint of the matchup and balance constants
+     * @param hpCap    highest HP covered (&gt; 0)
+     * @param epCap    highest EP covered (&ge; 0)
+     * @param radices  stun, poison and item sizes of side 0, then side 1 (positive)
+     * @param entries  two bytes per state (non-null)
+     * @throws GameException if the sizes do not match
+     */
+    public Tablebase(long rulesKey, int hpCap, int epCap, int[] radices, ByteBuffer entries) throws GameException {
+        InputValidator.requirePositive(hpCap, "hpCap");
+        InputValidator.requirePositiveOrZero(epCap, "epCap");
+        InputValidator.requireNonNull(radices, "radices");
+        InputValidator.requireNonNull(entries, "entries");
+        InputValidator.requireSize(radices.length, 2 * RADICES, "radices");
+        for (int r : radices) {
+            InputValidator.requirePositive(r, "radix");
+        }
+        this.rulesKey = rulesKey;
+        this.hpCap = hpCap;
+        this.epCap = epCap;
+        this.radices = radices.clone();
+        this.states = stateCount(hpCap, epCap, radices);
+        if (entries.capacity() != (long) states * ENTRY_BYTES) {
+            throw new GameException("Tablebase size does not match its dimensions.");
+        }
+        this.entries = entries;
+    }
+
+    /* ================================================= SOLVER */
+
+    /**
+     * Solves every low-HP state of a matchup.
+     *
+     * <p>Caps may not exceed either combatant's maximum HP or EP, so every
+     * state the table covers is one both sides can actually reach and
+     * {@link #audit()} counts only those.</p>
+     *
+     * @param c1    first combatant, side 0 of every probe (non-null)
+     * @param c2    second combatant, side 1 (non-null)
+     * @param hpCap highest HP covered (&gt; 0, at most both maximum HPs)
+     * @param epCap highest EP covered (&ge; 0, at most both maximum EPs)
+     * @return solved table on a heap buffer
+     * @throws GameException if an argument is invalid or the table would be too large
+     */
+    public static Tablebase solve(Character c1, Character c2, int hpCap, int epCap) throws GameException {
+        InputValidator.requireNonNull(c1, "c1");
+        InputValidator.requireNonNull(c2, "c2");
+        InputValidator.requireRange(hpCap, 1, Math.min(c1.getMaxHp(), c2.getMaxHp()), "hpCap");
+        InputValidator.requireRange(epCap, 0, Math.min(c1.getMaxEp(), c2.getMaxEp()), "epCap");
+        BattleState s = BattleState.of(c1, c2);
+        int[] radices = new int[2 * RADICES];
+        for (int side = 0; side < 2; side++) {
+            radices[side * RADICES + STUN] = s.canInflict(1 - side, StatusEffectType.STUNNED)
+                    ? StunEffect.DURATION_TURNS + 1 : 1;
+            radices[side * RADICES + POISON] = s.canInflict(1 - side, StatusEffectType.POISONED)
+                    ? PoisonEffect.DURATION_TURNS + 1 : 1;
+            radices[side * RADICES + ITEM] = s.hasItemEquipped(side) ? 2 : 1;
+        }
+        int states = stateCount(hpCap, epCap, radices);
+        byte[] entries = new byte[states * ENTRY_BYTES];
+        for (int i = 1; i < entries.length; i += ENTRY_BYTES) {
+            entries[i] = NO_MOVE;
+        }
+        Tablebase table = new Tablebase(s.rulesKey(), hpCap, epCap, radices, ByteBuffer.wrap(entries));
+
+        int[] own = new int[BattleState.MAX_MOVES];
+        int[] theirs = new int[BattleState.MAX_MOVES];
+        for (int n = 1; n <= MAX_DISTANCE; n++) {
+            boolean changed = false;
+            for (int i = 0; i < states; i++) {
+                if (entries[i * ENTRY_BYTES] != OPEN) {
+                    continue;
+                }
+                table.decode(s, i);
+                if (s.isOver()) {
+                    continue;
+                }
+                int k0 = s.legalMoves(0, own);
+                int k1 = s.legalMoves(1, theirs);
+                int value = n;
+                int move = table.forcingMove(s, 0, own, k0, theirs, k1, n, entries);
+                if (move < 0) {
+                    value = -n;
+                    move = table.forcingMove(s, 1, theirs, k1, own, k0, n, entries);
+                    if (move < 0) {
+                        continue;
+                    }
+                }
+                entries[i * ENTRY_BYTES] = (byte) value;
+                entries[i * ENTRY_BYTES + 1] = encodeMove(move);
+                changed = true;
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns a move of {@code side} that wins within {@code n} rounds against
+     * every reply, given the values settled before pass {@code n}, or -1.
+     * Values settled in pass {@code n} itself are {@code n} and never count.
+     */
+    private int forcingMove(BattleState s, int side, int[] own, int k, int[] replies, int r,
+                            int n, byte[] entries) throws GameException {
+        for (int a = 0; a < k; a++) {
+            boolean forced = true;
+            for (int b = 0; b < r && forced; b++) {
+                if (side == 0) {
+                    s.make(own[a], replies[b]);
+                } else {
+                    s.make(replies[b], own[a]);
+                }
+                forced = wonBy(s, side, n, entries);
+                s.unmake();
+            }
+            if (forced) {
+                return own[a];
+            }
+        }
+        return -1;
+    }
+
+    private boolean wonBy(BattleState s, int side, int n, byte[] entries) {
+        if (s.isOver()) {
+            return s.winner() == side; // a double knock-out is a draw, won by neither
+        }
+        int i = index(s);
+        if (i < 0) {
+            return false;
+        }
+        int v = side == 0 ? entries[i * ENTRY_BYTES] : -entries[i * ENTRY_BYTES];
+        return v > 0 && v < n;
+    }
+
+    /* ================================================= PROBES */
+
+    /**
+     * Returns whether {@code s} is a state of the matchup this table was
+     * solved for, with the same seat order and balance constants.
+     *
+     * @param s state to check (non-null)
+     * @return {@code true} if probes of {@code s} and its successors are valid
+     */
+    public boolean matches(BattleState s) {
+        BattleState last = matched;
+        if (last != null && last.sameLoadouts(s)) {
+            return true;
+        }
+        if (s.rulesKey() != rulesKey) {
+            return false;
+        }
+        matched = s;
+        return true;
+    }
+
+    /**
+     * Returns the solved value of {@code s}: {@code n > 0} if side 0 forces a
+     * win in {@code n} rounds, {@code -n} if side 1 does, and {@link #OPEN}
+     * otherwise.  A non-zero value at the opening state of a matchup means
+     * the current balance constants give one side a dominant strategy.
+     *
+     * @param s state of the matchup (see {@link #matches})
+     * @return signed rounds to a forced win, or {@link #OPEN}
+     */
+    public int value(BattleState s) {
+        int i = matches(s) ? index(s) : -1;
+        return i < 0 ? OPEN : entries.get(i * ENTRY_BYTES);
+    }
+
+    /**
+     * Returns the move that forces the result reported by {@link #value},
+     * for side 0 if the value is positive and side 1 if it is negative.
+     *
+     * @param s state of the matchup (see {@link #matches})
+     * @return {@link BattleState} move code, or -1 for an open state
+     */
+    public int bestMove(BattleState s) {
+        int i = matches(s) ? index(s) : -1;
+        return i < 0 ? -1 : decodeMove(entries.get(i * ENTRY_BYTES + 1));
+    }
+
+    /**
+     * Counts the forced states of the table, to compare balance sets.
+     *
+     * @return state counts
+     */
+    public Audit audit() {
+        int wins0 = 0;
+        int wins1 = 0;
+        int longest = 0;
+        for (int i = 0; i < states; i++) {
+            int v = entries.get(i * ENTRY_BYTES);
+            if (v > 0) {
+                wins0++;
+            } else if (v < 0) {
+                wins1++;
+            }
+            longest = Math.max(longest, Math.abs(v));
+        }
+        return new Audit(states, wins0, wins1, longest);
+    }
+
+    /**
+     * Summary of a solved table.
+     *
+     * @param states       states covered, including finished ones
+     * @param side0Forced  states side 0 wins by force
+     * @param side1Forced  states side 1 wins by force
+     * @param longestForce longest forced win, in rounds
+     */
+    public record Audit(int states, int side0Forced, int side1Forced, int longestForce) {
+
+        /** @return share of covered states that one side wins by force */
+        public double forcedShare() {
+            return states == 0 ? 0.0 : (double) (side0Forced + side1Forced) / states;
+        }
+    }
+
+    /* ================================================= ACCESSORS */
+
+    /** @return fingerprint of the matchup and balance constants */
+    public long rulesKey() {
+        return rulesKey;
+    }
+
+    /** @return highest HP covered */
+    public int hpCap() {
+        return hpCap;
+    }
+
+    /** @return highest EP covered */
+    public int epCap() {
+        return epCap;
+    }
+
+    /** @return stun, poison and item sizes of side 0, then side 1 */
+    public int[] radices() {
+        return radices.clone();
+    }
+
+    /** @return read-only view of the entries, positioned at 0 */
+    public ByteBuffer entries() {
+        return entries.asReadOnlyBuffer().clear();
+    }
+
+    /* ================================================= ENCODING */
+
+    private static int stateCount(int hpCap, int epCap, int[] radices) throws GameException {
+        long perSide0 = (long) (hpCap + 1) * (epCap + 1) * radices[STUN] * radices[POISON] * radices[ITEM];
+        long perSide1 = (long) (hpCap + 1) * (epCap + 1)
+                * radices[RADICES + STUN] * radices[RADICES + POISON] * radices[RADICES + ITEM];
+        long total = perSide0 * perSide1;
+        if (total > Integer.MAX_VALUE / ENTRY_BYTES) {
+            throw new GameException("Tablebase too large: " + total + " states.");
+        }
+        return (int) total;
+    }
+
+    /** Table offset of {@code s}, or -1 if it lies outside the table. */
+    private int index(BattleState s) {
+        int i = 0;
+        for (int side = 0; side < 2; side++) {
+            int hp = s.hp(side);
+            int ep = s.ep(side);
+            int stun = s.statusTurns(side, StatusEffectType.STUNNED);
+            int poison = s.statusTurns(side, StatusEffectType.POISONED);
+            int item = s.hasItem(side) ? 1 : 0;
+            int base = side * RADICES;
+            if (hp > hpCap || ep > epCap || stun >= radices[base + STUN] || poison >= radices[base + POISON]
+                    || item >= radices[base + ITEM] || !s.hasCanonicalStatus(side)) {
+                return -1;
+            }
+            i = i * (hpCap + 1) + hp;
+            i = i * (epCap + 1) + ep;
+            i = i * radices[base + STUN] + stun;
+            i = i * radices[base + POISON] + poison;
+            i = i * radices[base + ITEM] + item;
+        }
+        return i;
+    }
+
+    /** Writes the state at offset {@code i} into {@code s}. */
+    private void decode(BattleState s, int i) {
+        for (int side = 1; side >= 0; side--) {
+            int base = side * RADICES;
+            int item = i % radices[base + ITEM];
+            i /= radices[base + ITEM];
+            int poison = i % radices[base + POISON];
+            i /= radices[base + POISON];
+            int stun = i % radices[base + STUN];
+            i /= radices[base + STUN];
+            int ep = i % (epCap + 1);
+            i /= epCap + 1;
+            int hp = i % (hpCap + 1);
+            i /= hpCap + 1;
+            s.set(side, BattleState.HP, hp);
+            s.set(side, BattleState.EP, ep);
+            s.set(side, BattleState.ITEM, item);
+            s.setStatus(side, stun, poison);
+        }
+    }
+
+    /* Moves fit in one byte: ability slots first, then item, defend, recharge. */
+
+    private static byte encodeMove(int move) {
+        return switch (move) {
+            case BattleState.MOVE_ITEM -> BattleState.MAX_MOVES - 3;
+            case BattleState.MOVE_DEFEND -> BattleState.MAX_MOVES - 2;
+            case BattleState.MOVE_RECHARGE -> BattleState.MAX_MOVES - 1;
+            default -> (byte) move;
+        };
+    }
+
+    private static int decodeMove(byte code) {
+        return switch (code) {
+            case NO_MOVE -> -1;
+            case BattleState.MAX_MOVES - 3 -> BattleState.MOVE_ITEM;
+            case BattleState.MAX_MOVES - 2 -> BattleState.MOVE_DEFEND;
+            case BattleState.MAX_MOVES - 1 -> BattleState.MOVE_RECHARGE;
+            default -> code;
+        };
+    }
+}
@@ -8,6 +8,8 @@ import model.util.GameException;
 import model.util.InputValidator;
 import model.util.StatusEffect;
 import model.util.StatusEffectType;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 import java.util.ArrayList;
@@ -25,6 +27,8 @@ public class Character implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    private static final StatusEffectType[] STATUS_TYPES = StatusEffectType.values();
+
     // --- Core Immutable Attributes ---
     private final String name;
     private final RaceType race;
@@ -32,8 +36,12 @@ public class Character implements Serializable {
 
     // --- Core Mutable Attributes ---
     private final List<Ability> abilities;
+    // Read-only view of abilities, made once so callers can cache by its identity
+    private transient List<Ability> abilitiesView;
     private final Inventory inventory;
-    private final transient List<StatusEffect> activeStatusEffects;
+    // Battle-scoped, so not serialised; readObject re-creates the store after a load
+    private transient StatusEffect[] statusEffects; // indexed by StatusEffectType ordinal
+    private transient int statusMask;               // bit per ordinal present in statusEffects
     private MagicItem equippedItem;
 
     // --- Dynamic Stats ---
@@ -79,8 +87,9 @@ public class Character implements Serializable {
         this.race = race;
         this.classType = classType;
         this.abilities = new ArrayList<>(abilities); // Defensive copy
+        this.abilitiesView = Collections.unmodifiableList(this.abilities);
         this.inventory = new Inventory();
-        this.activeStatusEffects = new ArrayList<>();
+        this.statusEffects = new StatusEffect[STATUS_TYPES.length];
         this.equippedItem = null;
         this.isStunned = false;
 
@@ -118,7 +127,7 @@ public class Character implements Serializable {
     public String getName() { return name; }
     public RaceType getRaceType() { return race; }
     public ClassType getClassType() { return classType; }
-    public List<Ability> getAbilities() { return Collections.unmodifiableList(abilities); }
+    public List<Ability> getAbilities() { return abilitiesView; }
     public Inventory getInventory() { return inventory; }
     public MagicItem getEquippedItem() { return equippedItem; }
 
@@ -203,6 +212,30 @@ public class Character implements Serializable {
 
     public void recordWin() { this.winCount++; }
 
+    /**
+     * Restores saved progression and vitals verbatim, bypassing level-up
+     * processing; should only be called by the persistence layer.
+     *
+     * @throws GameException if any value is out of range
+     */
+    public void restoreState(int level, int xp, int winCount,
+                             int maxHp, int currentHp, int maxEp, int currentEp) throws GameException {
+        InputValidator.requirePositive(level, "level");
+        InputValidator.requirePositiveOrZero(xp, "xp");
+        InputValidator.requirePositiveOrZero(winCount, "winCount");
+        InputValidator.requirePositive(maxHp, "maxHp");
+        InputValidator.requireRange(currentHp, 0, maxHp, "currentHp");
+        InputValidator.requirePositiveOrZero(maxEp, "maxEp");
+        InputValidator.requireRange(currentEp, 0, maxEp, "currentEp");
+        this.level = level;
+        this.xp = xp;
+        this.winCount = winCount;
+        this.maxHp = maxHp;
+        this.currentHp = currentHp;
+        this.maxEp = maxEp;
+        this.currentEp = currentEp;
+    }
+
     // --- Equipment & Ability Management ---
 
     public void equipItem(MagicItem item) {
@@ -230,30 +263,68 @@ public class Character implements Serializable {
 
     // --- Status Effect Management ---
 
+    // One slot per StatusEffectType plus a bitmask, so membership is a single bit test.
+
     public boolean hasStatusEffect(StatusEffectType type) {
-        return activeStatusEffects.stream().anyMatch(effect -> effect.getType() == type);
+        return type != null && (statusMask & (1 << type.ordinal())) != 0;
     }
 
+    /**
+     * Adds {@code effect}, replacing (and so refreshing) an active effect of the
+     * same type. New types are ignored once {@link Constants#MAX_STATUS_EFFECTS} are active.
+     */
     public void addStatusEffect(StatusEffect effect) {
         InputValidator.requireNonNull(effect, "Status effect");
-        if (activeStatusEffects.size() >= Constants.MAX_STATUS_EFFECTS) {
+        int bit = 1 << effect.getType().ordinal();
+        if ((statusMask & bit) == 0 && Integer.bitCount(statusMask) >= Constants.MAX_STATUS_EFFECTS) {
             return; // Or throw exception
         }
-        activeStatusEffects.add(effect);
+        statusEffects[effect.getType().ordinal()] = effect;
+        statusMask |= bit;
         effect.applyEffect(this);
     }
 
+    /** Drops the effect of {@code type}, running its {@link StatusEffect#remove} hook. */
     public void removeStatusEffect(StatusEffectType type) {
-        activeStatusEffects.removeIf(effect -> effect.getType() == type);
+        StatusEffect effect = getStatusEffect(type);
+        if (effect == null) {
+            return;
+        }
+        statusEffects[type.ordinal()] = null;
+        statusMask &= ~(1 << type.ordinal());
+        effect.remove(this);
+    }
+
+    /** Returns the active effect of {@code type}, or {@code null}. */
+    public StatusEffect getStatusEffect(StatusEffectType type) {
+        return hasStatusEffect(type) ? statusEffects[type.ordinal()] : null;
+    }
+
+    /** Returns the bit set of active effect ordinals; iterate it without allocating. */
+    public int getStatusEffectMask() {
+        return statusMask;
     }
 
     public List<StatusEffect> getActiveStatusEffects() {
-        return Collections.unmodifiableList(activeStatusEffects);
+        List<StatusEffect> active = new ArrayList<>(Integer.bitCount(statusMask));
+        for (int bits = statusMask; bits != 0; bits &= bits - 1) {
+            active.add(statusEffects[Integer.numberOfTrailingZeros(bits)]);
+        }
+        return Collections.unmodifiableList(active);
     }
     
     public boolean isStunned() { return this.isStunned; }
     public void setStunned(boolean stunned) { this.isStunned = stunned; }
 
+    /** Re-creates the transient effect store; battle state never survives a save. */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.abilitiesView = Collections.unmodifiableList(abilities);
+        this.statusEffects = new StatusEffect[STATUS_TYPES.length];
+        this.statusMask = 0;
+        this.isStunned = false;
+    }
+
     // --- Overridden Methods ---
 
     @Override
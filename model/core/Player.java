@@ -61,6 +61,12 @@ public final class Player implements Serializable {
         this.cumulativeWins++;
     }
 
+    /** Restores a saved win total; should only be called by the persistence layer. */
+    public void restoreCumulativeWins(int wins) throws GameException {
+        InputValidator.requirePositiveOrZero(wins, "cumulativeWins");
+        this.cumulativeWins = wins;
+    }
+
     @Override
     public String toString() {
         return String.format("Player [name=%s, characters=%d, wins=%d]",
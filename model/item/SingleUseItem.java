@@ -1,5 +1,6 @@
 package model.item;
 
+import model.battle.CombatEventType;
 import model.battle.CombatLog;
 import model.core.Character;
 import model.util.Constants;
@@ -92,26 +93,28 @@ public final class SingleUseItem extends MagicItem {
         InputValidator.requireNonNull(user, "item user");
         InputValidator.requireNonNull(log,  "combat log");
 
+        int hpBefore = user.getCurrentHp();
+        int ep = user.getCurrentEp();
         switch (effectType) {
             case HEAL_HP -> {
                 user.heal(effectValue);
-                log.addEntry(user.getName() + " uses " + getName()
-                        + " and restores " + effectValue + " HP!");
+                log.record(CombatEventType.ITEM_HEAL, user, user, getName(), effectValue,
+                        hpBefore, user.getCurrentHp(), ep, ep);
             }
             case RESTORE_EP -> {
                 user.gainEp(effectValue);
-                log.addEntry(user.getName() + " uses " + getName()
-                        + " and gains " + effectValue + " EP!");
+                log.record(CombatEventType.ITEM_RESTORE_EP, user, user, getName(), effectValue,
+                        hpBefore, hpBefore, ep, user.getCurrentEp());
             }
             case REVIVE -> {
                 if (user.isAlive()) {
-                    log.addEntry(user.getName() + " uses " + getName()
-                            + " but is already conscious.");
+                    log.record(CombatEventType.ITEM_REVIVE_WASTED, user, user, getName(), 0,
+                            hpBefore, hpBefore, ep, ep);
                 } else {
                     int restore = user.getMaxHp() * effectValue / 100;
                     user.heal(restore);
-                    log.addEntry(user.getName() + " is revived by " + getName()
-                            + " with " + restore + " HP!");
+                    log.record(CombatEventType.ITEM_REVIVE, user, user, getName(), restore,
+                            hpBefore, user.getCurrentHp(), ep, ep);
                 }
             }
             default -> throw new GameException("Unhandled single-use effect: "
@@ -0,0 +1,316 @@
+package model.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.core.Character;
+import model.core.Player;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Top-K leaderboard of characters by wins, maintained one win at a time.
+ *
+ * <p>Every character with at least one win is indexed by (player name,
+ * character name).  The best {@code capacity} of them are also held in a
+ * bounded min-heap whose root is the weakest qualifying entry, so a win
+ * costs one hash lookup plus O(log K): either the entry is already in the
+ * heap and sifts down, or it is compared against the root and replaces it
+ * if it now ranks higher.  Characters without wins take no space.</p>
+ *
+ * <p>Only {@link #removePlayer} and {@link #removeCharacter} may rescan
+ * the index, to refill the heap slots freed by removed characters.  All
+ * methods are thread-safe.</p>
+ */
+public final class CharacterLeaderboard {
+
+    /**
+     * One character's standing.
+     *
+     * @param playerName    owning player
+     * @param characterName character
+     * @param wins          recorded wins
+     */
+    public record Standing(String playerName, String characterName, int wins) {
+        @Override
+        public String toString() {
+            return characterName + " (" + playerName + ") - Wins: " + wins;
+        }
+    }
+
+    /** Mutable index entry; {@code heapIndex} is -1 while outside the top K. */
+    private static final class Entry {
+        final String playerName;
+        final String characterName;
+        int wins;
+        int heapIndex = -1;
+
+        Entry(String playerName, String characterName) {
+            this.playerName = playerName;
+            this.characterName = characterName;
+        }
+
+        Standing toStanding() {
+            return new Standing(playerName, characterName, wins);
+        }
+    }
+
+    /** Ascending = weaker first: fewer wins, then later names. */
+    private static final Comparator<Entry> WEAKER_FIRST = Comparator
+            .comparingInt((Entry e) -> e.wins)
+            .thenComparing((Entry e) -> e.playerName, Comparator.reverseOrder())
+            .thenComparing((Entry e) -> e.characterName, Comparator.reverseOrder());
+
+    private final int capacity;
+
+    /* guarded by this */
+    private final Map<String, Map<String, Entry>> byPlayer = new HashMap<>();
+    private final Entry[] heap;
+    private int heapSize;
+
+    /**
+     * Creates an empty leaderboard that tracks the best {@code capacity} characters.
+     *
+     * @param capacity number of top entries kept (&gt; 0)
+     * @throws GameException if {@code capacity} is not positive
+     */
+    public CharacterLeaderboard(int capacity) throws GameException {
+        InputValidator.requirePositive(capacity, "capacity");
+        this.capacity = capacity;
+        this.heap = new Entry[capacity];
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Updates                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Replaces the contents with the current win counts of every character
+     * in {@code players}.  This is the only full pass and is meant for load.
+     *
+     * @param players saved players (non-null)
+     * @throws GameException if {@code players} is null
+     */
+    public synchronized void reset(List<Player> players) throws GameException {
+        InputValidator.requireNonNull(players, "players");
+        byPlayer.clear();
+        Arrays.fill(heap, null);
+        heapSize = 0;
+        for (Player p : players) {
+            for (Character c : p.getCharacters()) {
+                if (c.getWinCount() > 0) {
+                    Entry e = entry(p.getName(), c.getName());
+                    e.wins = c.getWinCount();
+                    offer(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds one win for {@code characterName} owned by {@code playerName}.
+     *
+     * @param playerName    owning player (non-blank)
+     * @param characterName character (non-blank)
+     * @return the character's new win count on the leaderboard
+     * @throws GameException if a name is blank
+     */
+    public synchronized int recordWin(String playerName, String characterName) throws GameException {
+        return recordWins(playerName, characterName, 1);
+    }
+
+    /**
+     * Adds {@code count} wins for a character in a single heap adjustment.
+     *
+     * @param playerName    owning player (non-blank)
+     * @param characterName character (non-blank)
+     * @param count         wins to add (&gt; 0)
+     * @return the character's new win count on the leaderboard
+     * @throws GameException if the arguments are invalid
+     */
+    public synchronized int recordWins(String playerName, String characterName, int count) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requireNonBlank(characterName, "characterName");
+        InputValidator.requirePositive(count, "count");
+        Entry e = entry(playerName, characterName);
+        e.wins += count;
+        if (e.heapIndex >= 0) {
+            siftDown(e.heapIndex);
+        } else {
+            offer(e);
+        }
+        return e.wins;
+    }
+
+    /**
+     * Drops every character of {@code playerName}, refilling the freed top
+     * slots from the remaining entries.
+     *
+     * @param playerName player to remove (non-blank)
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized void removePlayer(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        Map<String, Entry> removed = byPlayer.remove(playerName);
+        if (removed == null) {
+            return;
+        }
+        boolean freedSlot = false;
+        for (Entry e : removed.values()) {
+            if (e.heapIndex >= 0) {
+                removeAt(e.heapIndex);
+                freedSlot = true;
+            }
+        }
+        if (freedSlot) {
+            refill();
+        }
+    }
+
+    /**
+     * Drops one character of {@code playerName}, refilling its top slot
+     * from the remaining entries if it held one.
+     *
+     * @param playerName    owning player (non-blank)
+     * @param characterName character to remove (non-blank)
+     * @throws GameException if a name is blank
+     */
+    public synchronized void removeCharacter(String playerName, String characterName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requireNonBlank(characterName, "characterName");
+        Map<String, Entry> characters = byPlayer.get(playerName);
+        Entry removed = characters == null ? null : characters.remove(characterName);
+        if (removed == null) {
+            return;
+        }
+        if (characters.isEmpty()) {
+            byPlayer.remove(playerName);
+        }
+        if (removed.heapIndex >= 0) {
+            removeAt(removed.heapIndex);
+            refill();
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Queries                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the top characters, best first.
+     *
+     * @return new list of at most {@code capacity} standings
+     */
+    public synchronized List<Standing> top() {
+        Entry[] best = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(best, WEAKER_FIRST.reversed());
+        List<Standing> out = new ArrayList<>(best.length);
+        for (Entry e : best) {
+            out.add(e.toStanding());
+        }
+        return out;
+    }
+
+    /**
+     * Returns the wins recorded for a character.
+     *
+     * @param playerName    owning player (non-blank)
+     * @param characterName character (non-blank)
+     * @return wins, or {@code 0} if the character has none
+     * @throws GameException if a name is blank
+     */
+    public synchronized int winsOf(String playerName, String characterName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requireNonBlank(characterName, "characterName");
+        Map<String, Entry> characters = byPlayer.get(playerName);
+        Entry e = characters == null ? null : characters.get(characterName);
+        return e == null ? 0 : e.wins;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Bounded heap                                                       */
+    /* ------------------------------------------------------------------ */
+
+    /** Offers every entry outside the heap again, after top slots were freed. */
+    private void refill() {
+        for (Map<String, Entry> characters : byPlayer.values()) {
+            for (Entry e : characters.values()) {
+                if (e.heapIndex < 0) {
+                    offer(e);
+                }
+            }
+        }
+    }
+
+    private Entry entry(String playerName, String characterName) {
+        return byPlayer.computeIfAbsent(playerName, k -> new HashMap<>())
+                .computeIfAbsent(characterName, k -> new Entry(playerName, characterName));
+    }
+
+    /** Inserts {@code e} if there is room or it beats the weakest top entry. */
+    private void offer(Entry e) {
+        if (heapSize < capacity) {
+            heap[heapSize] = e;
+            e.heapIndex = heapSize++;
+            siftUp(e.heapIndex);
+        } else if (WEAKER_FIRST.compare(e, heap[0]) > 0) {
+            heap[0].heapIndex = -1;
+            heap[0] = e;
+            e.heapIndex = 0;
+            siftDown(0);
+        }
+    }
+
+    private void removeAt(int i) {
+        Entry gone = heap[i];
+        gone.heapIndex = -1;
+        Entry last = heap[--heapSize];
+        heap[heapSize] = null;
+        if (i < heapSize) {
+            heap[i] = last;
+            last.heapIndex = i;
+            siftDown(i);
+            siftUp(last.heapIndex);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (WEAKER_FIRST.compare(heap[i], heap[parent]) >= 0) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                return;
+            }
+            if (child + 1 < heapSize && WEAKER_FIRST.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (WEAKER_FIRST.compare(heap[i], heap[child]) <= 0) {
+                return;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry t = heap[i];
+        heap[i] = heap[j];
+        heap[j] = t;
+        heap[i].heapIndex = i;
+        heap[j].heapIndex = j;
+    }
+}
@@ -0,0 +1,242 @@
+package model.ranking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Player win leaderboard that answers ranking queries without sorting.
+ *
+ * <p>Standings are kept in an order-statistic tree ordered by wins
+ * (descending) and then name, alongside a name → wins tree.  Both are
+ * persistent, so each update costs O(log n) and publishes a new immutable
+ * {@link Snapshot}.  Readers call {@link #snapshot()} and query it without
+ * taking any lock while updates continue; writers are serialised.</p>
+ */
+public final class Leaderboard {
+
+    /** Position in the ordering: most wins first, ties broken by name. */
+    private record Standing(String name, int wins) {
+    }
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingInt((Standing s) -> -s.wins())
+            .thenComparing(Standing::name);
+
+    private volatile Snapshot current = new Snapshot(
+            new PersistentTreap<>(ORDER), new PersistentTreap<>(Comparator.naturalOrder()));
+
+    /** Creates an empty leaderboard. */
+    public Leaderboard() {
+    }
+
+    /**
+     * Creates a leaderboard holding {@code entries}.
+     *
+     * @param entries initial standings (non-null); later duplicates win
+     * @throws GameException if {@code entries} is null
+     */
+    public Leaderboard(Collection<HallOfFameEntry> entries) throws GameException {
+        reset(entries);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Updates                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Sets the win count of {@code playerName}, adding the player if needed.
+     *
+     * @param playerName player name (non-blank)
+     * @param wins       new total (≥ 0)
+     * @throws GameException if the arguments are invalid
+     */
+    public synchronized void update(String playerName, int wins) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requirePositiveOrZero(wins, "wins");
+        current = current.with(playerName, wins);
+    }
+
+    /**
+     * Adds one win to {@code playerName}.
+     *
+     * @param playerName player name (non-blank)
+     * @return the new win total
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized int addWin(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        Integer old = current.byName.get(playerName);
+        int wins = old == null ? 1 : old + 1;
+        current = current.with(playerName, wins);
+        return wins;
+    }
+
+    /**
+     * Removes {@code playerName} from the standings.
+     *
+     * @param playerName player name (non-blank)
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized void remove(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        current = current.without(playerName);
+    }
+
+    /**
+     * Replaces all standings with {@code entries}.
+     *
+     * @param entries new standings (non-null); later duplicates win
+     * @throws GameException if {@code entries} is null
+     */
+    public synchronized void reset(Collection<HallOfFameEntry> entries) throws GameException {
+        InputValidator.requireNonNull(entries, "entries");
+        Snapshot s = new Snapshot(new PersistentTreap<>(ORDER), new PersistentTreap<>(Comparator.naturalOrder()));
+        for (HallOfFameEntry e : entries) {
+            s = s.with(e.getPlayerName(), e.getWins());
+        }
+        current = s;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Queries                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the current standings.  The snapshot never changes, so several
+     * queries against it see the same state.
+     *
+     * @return immutable snapshot; no lock is taken
+     */
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /** @see Snapshot#top(int) */
+    public List<HallOfFameEntry> top(int count) throws GameException {
+        return current.top(count);
+    }
+
+    /** @see Snapshot#rankOf(String) */
+    public OptionalInt rankOf(String playerName) throws GameException {
+        return current.rankOf(playerName);
+    }
+
+    /** @see Snapshot#around(String, int) */
+    public List<HallOfFameEntry> around(String playerName, int radius) throws GameException {
+        return current.around(playerName, radius);
+    }
+
+    /**
+     * Immutable view of the leaderboard at one point in time.
+     */
+    public static final class Snapshot {
+
+        private final PersistentTreap<Standing, Void> standings;
+        private final PersistentTreap<String, Integer> byName;
+
+        private Snapshot(PersistentTreap<Standing, Void> standings, PersistentTreap<String, Integer> byName) {
+            this.standings = standings;
+            this.byName = byName;
+        }
+
+        private Snapshot with(String name, int wins) {
+            Integer old = byName.get(name);
+            PersistentTreap<Standing, Void> s = old == null ? standings : standings.remove(new Standing(name, old));
+            return new Snapshot(s.put(new Standing(name, wins), null), byName.put(name, wins));
+        }
+
+        private Snapshot without(String name) {
+            Integer old = byName.get(name);
+            if (old == null) {
+                return this;
+            }
+            return new Snapshot(standings.remove(new Standing(name, old)), byName.remove(name));
+        }
+
+        /**
+         * Returns the number of ranked players.
+         *
+         * @return player count
+         */
+        public int size() {
+            return byName.size();
+        }
+
+        /**
+         * Returns the win total of {@code playerName}.
+         *
+         * @param playerName player name (non-blank)
+         * @return wins, or empty if the player is not ranked
+         * @throws GameException if {@code playerName} is blank
+         */
+        public OptionalInt winsOf(String playerName) throws GameException {
+            InputValidator.requireNonBlank(playerName, "playerName");
+            Integer wins = byName.get(playerName);
+            return wins == null ? OptionalInt.empty() : OptionalInt.of(wins);
+        }
+
+        /**
+         * Returns the {@code count} players with the most wins.
+         *
+         * @param count maximum number of entries (≥ 0)
+         * @return new entries, best first
+         * @throws GameException if {@code count} is negative
+         */
+        public List<HallOfFameEntry> top(int count) throws GameException {
+            InputValidator.requirePositiveOrZero(count, "count");
+            return slice(0, count);
+        }
+
+        /**
+         * Returns the competition rank of {@code playerName}: one more than
+         * the number of players with strictly more wins, so ties share a rank.
+         *
+         * @param playerName player name (non-blank)
+         * @return 1-based rank, or empty if the player is not ranked
+         * @throws GameException if {@code playerName} is blank
+         */
+        public OptionalInt rankOf(String playerName) throws GameException {
+            InputValidator.requireNonBlank(playerName, "playerName");
+            Integer wins = byName.get(playerName);
+            if (wins == null) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(standings.countLess(new Standing("", wins)) + 1);
+        }
+
+        /**
+         * Returns {@code playerName} together with up to {@code radius}
+         * neighbours on each side of it in the ordering.
+         *
+         * @param playerName player name (non-blank)
+         * @param radius     neighbours per side (≥ 0)
+         * @return new entries, best first; empty if the player is not ranked
+         * @throws GameException if the arguments are invalid
+         */
+        public List<HallOfFameEntry> around(String playerName, int radius) throws GameException {
+            InputValidator.requireNonBlank(playerName, "playerName");
+            InputValidator.requirePositiveOrZero(radius, "radius");
+            Integer wins = byName.get(playerName);
+            if (wins == null) {
+                return new ArrayList<>();
+            }
+            int position = standings.countLess(new Standing(playerName, wins));
+            int from = Math.max(position - radius, 0);
+            return slice(from, position - from + radius + 1);
+        }
+
+        private List<HallOfFameEntry> slice(int from, int limit) {
+            List<HallOfFameEntry> out = new ArrayList<>(Math.min(limit, size()));
+            standings.forEachInRange(from, limit,
+                    (s, unused) -> out.add(new HallOfFameEntry(s.name(), s.wins())));
+            return out;
+        }
+    }
+}
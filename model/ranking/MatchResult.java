@@ -0,0 +1,29 @@
+package model.ranking;
+
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * One externally produced battle result, e.g. from a tournament or a
+ * simulation run, for bulk ingestion into the Hall of Fame.
+ *
+ * @param playerName    player the result belongs to (non-blank)
+ * @param characterName character that fought (non-blank)
+ * @param outcome       result of the battle (non-null)
+ */
+public record MatchResult(String playerName, String characterName, Outcome outcome) {
+
+    /** Result of a battle from the player's side. */
+    public enum Outcome { WIN, LOSS }
+
+    /**
+     * Validates the components.
+     *
+     * @throws GameException if a component is blank or null
+     */
+    public MatchResult {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requireNonBlank(characterName, "characterName");
+        InputValidator.requireNonNull(outcome, "outcome");
+    }
+}
@@ -0,0 +1,195 @@
+package model.ranking;
+
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable, size-augmented treap.
+ *
+ * <p>Every update copies only the O(log n) nodes on the search path and
+ * returns a new treap; the old one stays valid and unchanged.  A reference
+ * to a treap is therefore a consistent snapshot that can be read from any
+ * thread without locking.  Subtree sizes make rank and select O(log n).</p>
+ *
+ * <p>Priorities are derived from the key's hash, so the shape depends only
+ * on the set of keys and not on insertion order or a random source.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type ({@code null} values are allowed)
+ */
+final class PersistentTreap<K, V> {
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int priority;
+        final int size;
+        final Node<K, V> left;
+        final Node<K, V> right;
+
+        Node(K key, V value, int priority, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + sizeOf(left) + sizeOf(right);
+        }
+
+        Node<K, V> with(Node<K, V> newLeft, Node<K, V> newRight) {
+            return new Node<>(key, value, priority, newLeft, newRight);
+        }
+    }
+
+    private final Comparator<? super K> order;
+    private final Node<K, V> root;
+
+    /** Creates an empty treap ordered by {@code order}. */
+    PersistentTreap(Comparator<? super K> order) {
+        this(order, null);
+    }
+
+    private PersistentTreap(Comparator<? super K> order, Node<K, V> root) {
+        this.order = order;
+        this.root = root;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    /** Returns the value mapped to {@code key}, or {@code null}. */
+    V get(K key) {
+        Node<K, V> n = root;
+        while (n != null) {
+            int c = order.compare(key, n.key);
+            if (c == 0) {
+                return n.value;
+            }
+            n = c < 0 ? n.left : n.right;
+        }
+        return null;
+    }
+
+    boolean containsKey(K key) {
+        Node<K, V> n = root;
+        while (n != null) {
+            int c = order.compare(key, n.key);
+            if (c == 0) {
+                return true;
+            }
+            n = c < 0 ? n.left : n.right;
+        }
+        return false;
+    }
+
+    /** Returns the number of keys strictly less than {@code key}; {@code key} need not be present. */
+    int countLess(K key) {
+        int count = 0;
+        Node<K, V> n = root;
+        while (n != null) {
+            if (order.compare(key, n.key) <= 0) {
+                n = n.left;
+            } else {
+                count += sizeOf(n.left) + 1;
+                n = n.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visits keys in order starting at position {@code from} (0-based),
+     * stopping after {@code limit} entries.
+     */
+    void forEachInRange(int from, int limit, BiConsumer<? super K, ? super V> action) {
+        visit(root, Math.max(from, 0), Math.max(limit, 0), action);
+    }
+
+    /** Returns a treap with {@code key} mapped to {@code value}. */
+    PersistentTreap<K, V> put(K key, V value) {
+        Node<K, V> base = containsKey(key) ? remove(root, key) : root;
+        return new PersistentTreap<>(order, insert(base, new Node<>(key, value, priority(key), null, null)));
+    }
+
+    /** Returns a treap without {@code key}; {@code this} if it was absent. */
+    PersistentTreap<K, V> remove(K key) {
+        return containsKey(key) ? new PersistentTreap<>(order, remove(root, key)) : this;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Path-copying primitives                                            */
+    /* ------------------------------------------------------------------ */
+
+    private Node<K, V> insert(Node<K, V> n, Node<K, V> fresh) {
+        if (n == null) {
+            return fresh;
+        }
+        if (fresh.priority > n.priority) {
+            Node<K, V>[] parts = split(n, fresh.key);
+            return fresh.with(parts[0], parts[1]);
+        }
+        return order.compare(fresh.key, n.key) < 0
+                ? n.with(insert(n.left, fresh), n.right)
+                : n.with(n.left, insert(n.right, fresh));
+    }
+
+    private Node<K, V> remove(Node<K, V> n, K key) {
+        int c = order.compare(key, n.key);
+        if (c == 0) {
+            return merge(n.left, n.right);
+        }
+        return c < 0 ? n.with(remove(n.left, key), n.right) : n.with(n.left, remove(n.right, key));
+    }
+
+    /** Splits into keys {@code < key} and {@code >= key}. */
+    @SuppressWarnings("unchecked")
+    private Node<K, V>[] split(Node<K, V> n, K key) {
+        if (n == null) {
+            return (Node<K, V>[]) new Node<?, ?>[2];
+        }
+        if (order.compare(n.key, key) < 0) {
+            Node<K, V>[] parts = split(n.right, key);
+            parts[0] = n.with(n.left, parts[0]);
+            return parts;
+        }
+        Node<K, V>[] parts = split(n.left, key);
+        parts[1] = n.with(parts[1], n.right);
+        return parts;
+    }
+
+    /** Joins two treaps where every key in {@code a} precedes every key in {@code b}. */
+    private Node<K, V> merge(Node<K, V> a, Node<K, V> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.priority > b.priority ? a.with(a.left, merge(a.right, b)) : b.with(merge(a, b.left), b.right);
+    }
+
+    private static <K, V> int visit(Node<K, V> n, int skip, int limit, BiConsumer<? super K, ? super V> action) {
+        if (n == null || limit == 0) {
+            return limit;
+        }
+        int leftSize = sizeOf(n.left);
+        if (skip < leftSize) {
+            limit = visit(n.left, skip, limit, action);
+        }
+        if (limit > 0 && skip <= leftSize) {
+            action.accept(n.key, n.value);
+            limit--;
+        }
+        return visit(n.right, Math.max(skip - leftSize - 1, 0), limit, action);
+    }
+
+    private static int sizeOf(Node<?, ?> n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static int priority(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,307 @@
+package model.ranking;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Elo skill ratings for players, with a recorded match history.
+ *
+ * <p>Ratings live in primitive arrays indexed by a dense player id; a
+ * finished match is two array updates plus an append to the history
+ * arrays.  {@link #recompute(long)} replays the whole history in rating
+ * periods ("epochs"): within an epoch every match is scored against the
+ * ratings at the start of the epoch, so the per-player adjustments are
+ * independent and are summed in parallel; epochs are then applied in
+ * order.  This is the Glicko-style rating period model, so a recompute
+ * does not reproduce the match-by-match online values exactly.</p>
+ *
+ * <p>Rounded ratings are mirrored into a {@link Leaderboard}, which
+ * serves the rating views and opponent suggestions.  All methods are
+ * thread-safe.</p>
+ */
+public final class RatingEngine {
+
+    /** Rating given to a player's first match. */
+    public static final float INITIAL_RATING = 1500f;
+
+    /** Maximum rating change per match. */
+    public static final float K_FACTOR = 32f;
+
+    /**
+     * Plain-array copy of the engine, for saving and restoring.
+     *
+     * @param names        player names by id
+     * @param ratings      rating by id
+     * @param games        matches played by id
+     * @param matchTimes   epoch milliseconds of each match, in play order
+     * @param matchWinners winner id of each match
+     * @param matchLosers  loser id of each match
+     */
+    public record State(List<String> names, float[] ratings, int[] games,
+                        long[] matchTimes, int[] matchWinners, int[] matchLosers) {
+    }
+
+    /**
+     * One player's place on the rating table.
+     *
+     * @param name   player name
+     * @param rating current rating
+     */
+    public record RatedPlayer(String name, double rating) {
+    }
+
+    private final Clock clock;
+
+    /* guarded by this */
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private float[] ratings = new float[16];
+    private int[] games = new int[16];
+    private long[] matchTimes = new long[64];
+    private int[] matchWinners = new int[64];
+    private int[] matchLosers = new int[64];
+    private int matchCount;
+    private final Leaderboard board = new Leaderboard();
+
+    /**
+     * Creates an engine with no players.
+     *
+     * @param clock timestamps recorded matches (non-null)
+     * @throws GameException if {@code clock} is null
+     */
+    public RatingEngine(Clock clock) throws GameException {
+        InputValidator.requireNonNull(clock, "clock");
+        this.clock = clock;
+    }
+
+    /**
+     * Creates an engine holding a saved {@link State}.
+     *
+     * @param clock timestamps recorded matches (non-null)
+     * @param state saved engine contents (non-null, arrays of matching lengths)
+     * @throws GameException if the state is inconsistent
+     */
+    public RatingEngine(Clock clock, State state) throws GameException {
+        this(clock);
+        InputValidator.requireNonNull(state, "state");
+        int n = state.names().size();
+        int m = state.matchTimes().length;
+        if (state.ratings().length != n || state.games().length != n
+                || state.matchWinners().length != m || state.matchLosers().length != m) {
+            throw new GameException("Inconsistent rating state.");
+        }
+        for (int i = 0; i < n; i++) {
+            int id = idOf(state.names().get(i));
+            ratings[id] = state.ratings()[i];
+            games[id] = state.games()[i];
+            publish(id);
+        }
+        for (int i = 0; i < m; i++) {
+            int w = state.matchWinners()[i];
+            int l = state.matchLosers()[i];
+            if (w < 0 || w >= n || l < 0 || l >= n) {
+                throw new GameException("Invalid player id in match #" + i + ".");
+            }
+            appendMatch(state.matchTimes()[i], w, l);
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Updates                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Applies one finished match and appends it to the history.
+     *
+     * @param winnerName winning player (non-blank)
+     * @param loserName  losing player (non-blank, different from the winner)
+     * @throws GameException if the names are blank or equal
+     */
+    public synchronized void recordMatch(String winnerName, String loserName) throws GameException {
+        InputValidator.requireNonBlank(winnerName, "winnerName");
+        InputValidator.requireNonBlank(loserName, "loserName");
+        if (winnerName.equals(loserName)) {
+            throw new GameException("A player cannot be rated against themselves.");
+        }
+        int w = idOf(winnerName);
+        int l = idOf(loserName);
+        float delta = K_FACTOR * (1f - expectedScore(ratings[w], ratings[l]));
+        ratings[w] += delta;
+        ratings[l] -= delta;
+        games[w]++;
+        games[l]++;
+        appendMatch(clock.millis(), w, l);
+        publish(w);
+        publish(l);
+    }
+
+    /**
+     * Recomputes every rating from the match history, one rating period
+     * of {@code epochMillis} at a time.
+     *
+     * @param epochMillis length of a rating period in milliseconds (&gt; 0)
+     * @throws GameException if {@code epochMillis} is not positive
+     */
+    public synchronized void recompute(long epochMillis) throws GameException {
+        if (epochMillis <= 0) {
+            throw new GameException("epochMillis must be positive.");
+        }
+        int n = names.size();
+        float[] next = new float[n];
+        Arrays.fill(next, INITIAL_RATING);
+        Arrays.fill(games, 0, n, 0);
+
+        int start = 0;
+        while (start < matchCount) {
+            long epoch = Math.floorDiv(matchTimes[start], epochMillis);
+            int end = start + 1;
+            while (end < matchCount && Math.floorDiv(matchTimes[end], epochMillis) == epoch) {
+                end++;
+            }
+            float[] base = next;
+            double[] delta = IntStream.range(start, end).parallel().collect(
+                    () -> new double[n],
+                    (acc, i) -> {
+                        int w = matchWinners[i];
+                        int l = matchLosers[i];
+                        double d = K_FACTOR * (1f - expectedScore(base[w], base[l]));
+                        acc[w] += d;
+                        acc[l] -= d;
+                    },
+                    (a, b) -> {
+                        for (int p = 0; p < n; p++) {
+                            a[p] += b[p];
+                        }
+                    });
+            next = new float[n];
+            for (int p = 0; p < n; p++) {
+                next[p] = (float) (base[p] + delta[p]);
+            }
+            for (int i = start; i < end; i++) {
+                games[matchWinners[i]]++;
+                games[matchLosers[i]]++;
+            }
+            start = end;
+        }
+
+        System.arraycopy(next, 0, ratings, 0, n);
+        for (int p = 0; p < n; p++) {
+            publish(p);
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Queries                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the rating of {@code playerName}.
+     *
+     * @param playerName player name (non-blank)
+     * @return rating, or {@link #INITIAL_RATING} if the player has not played
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized float ratingOf(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        Integer id = ids.get(playerName);
+        return id == null ? INITIAL_RATING : ratings[id];
+    }
+
+    /**
+     * Returns the best rated players, ranked by rounded rating.
+     *
+     * @param count maximum number of entries (≥ 0)
+     * @return new list, highest rating first
+     * @throws GameException if {@code count} is negative
+     */
+    public synchronized List<RatedPlayer> top(int count) throws GameException {
+        List<HallOfFameEntry> best = board.top(count);
+        List<RatedPlayer> out = new ArrayList<>(best.size());
+        for (HallOfFameEntry e : best) {
+            out.add(new RatedPlayer(e.getPlayerName(), ratings[ids.get(e.getPlayerName())]));
+        }
+        return out;
+    }
+
+    /**
+     * Suggests opponents of similar skill: the players rated just above and
+     * below {@code playerName}.
+     *
+     * @param playerName player looking for a match (non-blank)
+     * @param count      opponents per side (≥ 0)
+     * @return player names, highest rating first, excluding {@code playerName}
+     * @throws GameException if the arguments are invalid
+     */
+    public List<String> suggestOpponents(String playerName, int count) throws GameException {
+        List<String> out = new ArrayList<>();
+        for (HallOfFameEntry e : board.around(playerName, count)) {
+            if (!e.getPlayerName().equals(playerName)) {
+                out.add(e.getPlayerName());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns a copy of the engine's contents for saving.
+     *
+     * @return new state object
+     */
+    public synchronized State state() {
+        int n = names.size();
+        return new State(List.copyOf(names), Arrays.copyOf(ratings, n), Arrays.copyOf(games, n),
+                Arrays.copyOf(matchTimes, matchCount), Arrays.copyOf(matchWinners, matchCount),
+                Arrays.copyOf(matchLosers, matchCount));
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Internals                                                          */
+    /* ------------------------------------------------------------------ */
+
+    /** Probability that a player rated {@code a} beats one rated {@code b}. */
+    static float expectedScore(float a, float b) {
+        return (float) (1.0 / (1.0 + Math.pow(10.0, (b - a) / 400.0)));
+    }
+
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int fresh = names.size();
+        if (fresh == ratings.length) {
+            ratings = Arrays.copyOf(ratings, fresh * 2);
+            games = Arrays.copyOf(games, fresh * 2);
+        }
+        ratings[fresh] = INITIAL_RATING;
+        ids.put(name, fresh);
+        names.add(name);
+        return fresh;
+    }
+
+    private void appendMatch(long time, int winner, int loser) {
+        if (matchCount == matchTimes.length) {
+            int grown = matchCount * 2;
+            matchTimes = Arrays.copyOf(matchTimes, grown);
+            matchWinners = Arrays.copyOf(matchWinners, grown);
+            matchLosers = Arrays.copyOf(matchLosers, grown);
+        }
+        matchTimes[matchCount] = time;
+        matchWinners[matchCount] = winner;
+        matchLosers[matchCount] = loser;
+        matchCount++;
+    }
+
+    private void publish(int id) {
+        board.update(names.get(id), Math.max(0, Math.round(ratings[id])));
+    }
+}
@@ -0,0 +1,141 @@
+package model.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Per-player and per-character totals of a stream of {@link MatchResult}s.
+ *
+ * <p>Each distinct player and (player, character) pair gets a dense index
+ * on first sight; the counts themselves are plain {@code int} arrays, so
+ * aggregating a result is one hash lookup and an array increment with no
+ * boxing.  Consumers then apply one update per player or character rather
+ * than one per result.</p>
+ */
+public final class ResultBatch {
+
+    private final Map<String, Integer> playerIndex = new HashMap<>();
+    private final List<String> players = new ArrayList<>();
+    private int[] wins = new int[16];
+    private int[] losses = new int[16];
+
+    private final Map<String, Map<String, Integer>> characterIndex = new HashMap<>();
+    private final List<String> characterOwners = new ArrayList<>();
+    private final List<String> characterNames = new ArrayList<>();
+    private int[] characterWins = new int[16];
+
+    private int resultCount;
+
+    private ResultBatch() {
+    }
+
+    /**
+     * Consumes {@code results} and totals them.
+     *
+     * @param results results to aggregate (non-null, no null elements)
+     * @return the totals
+     * @throws GameException if {@code results} or one of its elements is null
+     */
+    public static ResultBatch aggregate(Stream<MatchResult> results) throws GameException {
+        InputValidator.requireNonNull(results, "results");
+        ResultBatch batch = new ResultBatch();
+        results.forEachOrdered(batch::add);
+        return batch;
+    }
+
+    private void add(MatchResult r) {
+        InputValidator.requireNonNull(r, "result");
+        int p = playerSlot(r.playerName());
+        if (r.outcome() == MatchResult.Outcome.WIN) {
+            wins[p]++;
+            int c = characterSlot(r.playerName(), r.characterName()); // may grow characterWins
+            characterWins[c]++;
+        } else {
+            losses[p]++;
+        }
+        resultCount++;
+    }
+
+    /** @return number of results aggregated */
+    public int resultCount() {
+        return resultCount;
+    }
+
+    /** @return number of distinct players */
+    public int playerCount() {
+        return players.size();
+    }
+
+    /** @return name of player {@code i} ({@code 0 ≤ i < playerCount()}) */
+    public String playerName(int i) {
+        return players.get(i);
+    }
+
+    /** @return wins of player {@code i} */
+    public int wins(int i) {
+        return wins[i];
+    }
+
+    /** @return losses of player {@code i} */
+    public int losses(int i) {
+        return losses[i];
+    }
+
+    /** @return number of distinct (player, character) pairs with at least one win */
+    public int characterCount() {
+        return characterNames.size();
+    }
+
+    /** @return owning player of character {@code i} */
+    public String characterOwner(int i) {
+        return characterOwners.get(i);
+    }
+
+    /** @return name of character {@code i} */
+    public String characterName(int i) {
+        return characterNames.get(i);
+    }
+
+    /** @return wins of character {@code i} */
+    public int characterWins(int i) {
+        return characterWins[i];
+    }
+
+    private int playerSlot(String name) {
+        Integer slot = playerIndex.get(name);
+        if (slot != null) {
+            return slot;
+        }
+        int fresh = players.size();
+        if (fresh == wins.length) {
+            wins = Arrays.copyOf(wins, fresh * 2);
+            losses = Arrays.copyOf(losses, fresh * 2);
+        }
+        playerIndex.put(name, fresh);
+        players.add(name);
+        return fresh;
+    }
+
+    private int characterSlot(String owner, String name) {
+        Map<String, Integer> owned = characterIndex.computeIfAbsent(owner, k -> new HashMap<>());
+        Integer slot = owned.get(name);
+        if (slot != null) {
+            return slot;
+        }
+        int fresh = characterNames.size();
+        if (fresh == characterWins.length) {
+            characterWins = Arrays.copyOf(characterWins, fresh * 2);
+        }
+        owned.put(name, fresh);
+        characterOwners.add(owner);
+        characterNames.add(name);
+        return fresh;
+    }
+}
@@ -0,0 +1,260 @@
+package model.ranking;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Daily, weekly and seasonal win leaderboards.
+ *
+ * <p>Wins are counted into one bucket per calendar day, kept in a ring
+ * that spans the longest window.  Each {@link Window} keeps running totals
+ * and a {@link Leaderboard} of them.  When the day changes, each window
+ * subtracts the single bucket that just fell out of it, and the ring slot
+ * of the expired day is reused.  History is never re-summed, and
+ * {@link #top} costs O(K log N) however many days have been recorded.</p>
+ *
+ * <p>The day is read from the supplied {@link Clock}; buckets roll forward
+ * lazily on the next call.  All methods are thread-safe.</p>
+ */
+public final class WindowedLeaderboard {
+
+    /** Supported rolling windows, each ending today. */
+    public enum Window {
+        DAY(1),
+        WEEK(7),
+        SEASON(91);
+
+        private final int days;
+
+        Window(int days) {
+            this.days = days;
+        }
+
+        /** @return number of days covered, including today */
+        public int getDays() {
+            return days;
+        }
+    }
+
+    /** Ring length: the longest window. */
+    private static final int HORIZON = Window.SEASON.days;
+
+    private static final long NO_DAY = Long.MIN_VALUE;
+
+    private final Clock clock;
+
+    /* guarded by this */
+    private final long[] bucketDay = new long[HORIZON];
+    @SuppressWarnings("unchecked")
+    private final Map<String, Integer>[] buckets = (Map<String, Integer>[]) new Map<?, ?>[HORIZON];
+    private final Map<Window, Map<String, Integer>> totals = new HashMap<>();
+    private final Map<Window, Leaderboard> boards = new HashMap<>();
+    private long today;
+
+    /**
+     * Creates empty windows that follow the days of {@code clock}.
+     *
+     * @param clock source of the current date (non-null)
+     * @throws GameException if {@code clock} is null
+     */
+    public WindowedLeaderboard(Clock clock) throws GameException {
+        InputValidator.requireNonNull(clock, "clock");
+        this.clock = clock;
+        for (int i = 0; i < HORIZON; i++) {
+            bucketDay[i] = NO_DAY;
+            buckets[i] = new HashMap<>();
+        }
+        for (Window w : Window.values()) {
+            totals.put(w, new HashMap<>());
+            boards.put(w, new Leaderboard());
+        }
+        this.today = currentDay();
+    }
+
+    /**
+     * Adds one win for {@code playerName} to today's bucket.
+     *
+     * @param playerName player name (non-blank)
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized void recordWin(String playerName) throws GameException {
+        recordWins(playerName, 1);
+    }
+
+    /**
+     * Adds {@code count} wins for {@code playerName} to today's bucket.
+     *
+     * @param playerName player name (non-blank)
+     * @param count      wins to add (&gt; 0)
+     * @throws GameException if the arguments are invalid
+     */
+    public synchronized void recordWins(String playerName, int count) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requirePositive(count, "count");
+        roll();
+        add(today, playerName, count);
+    }
+
+    /**
+     * Returns the best {@code count} players within {@code window}.
+     *
+     * @param window time window (non-null)
+     * @param count  maximum number of entries (≥ 0)
+     * @return new entries, best first
+     * @throws GameException if the arguments are invalid
+     */
+    public synchronized List<HallOfFameEntry> top(Window window, int count) throws GameException {
+        InputValidator.requireNonNull(window, "window");
+        roll();
+        return boards.get(window).top(count);
+    }
+
+    /**
+     * Returns the wins of {@code playerName} within {@code window}.
+     *
+     * @param window     time window (non-null)
+     * @param playerName player name (non-blank)
+     * @return wins in the window, {@code 0} if none
+     * @throws GameException if the arguments are invalid
+     */
+    public synchronized int winsOf(Window window, String playerName) throws GameException {
+        InputValidator.requireNonNull(window, "window");
+        InputValidator.requireNonBlank(playerName, "playerName");
+        roll();
+        return totals.get(window).getOrDefault(playerName, 0);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Persistence support                                                */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the live buckets keyed by epoch day, for saving.
+     *
+     * @return new map of day → entries, oldest day first
+     */
+    public synchronized SortedMap<Long, List<HallOfFameEntry>> buckets() {
+        roll();
+        SortedMap<Long, List<HallOfFameEntry>> out = new TreeMap<>();
+        for (int i = 0; i < HORIZON; i++) {
+            if (bucketDay[i] == NO_DAY || buckets[i].isEmpty()) {
+                continue;
+            }
+            List<HallOfFameEntry> entries = new ArrayList<>(buckets[i].size());
+            buckets[i].forEach((name, wins) -> entries.add(new HallOfFameEntry(name, wins)));
+            out.put(bucketDay[i], entries);
+        }
+        return out;
+    }
+
+    /**
+     * Adds saved bucket contents back in.  Days that have already left
+     * every window are ignored.
+     *
+     * @param epochDay day the wins were recorded on
+     * @param entries  per-player wins for that day (non-null)
+     * @throws GameException if {@code entries} is null
+     */
+    public synchronized void restore(long epochDay, List<HallOfFameEntry> entries) throws GameException {
+        InputValidator.requireNonNull(entries, "entries");
+        roll();
+        if (epochDay > today || epochDay <= today - HORIZON) {
+            return;
+        }
+        for (HallOfFameEntry e : entries) {
+            if (e.getWins() > 0) {
+                add(epochDay, e.getPlayerName(), e.getWins());
+            }
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Internals                                                          */
+    /* ------------------------------------------------------------------ */
+
+    private long currentDay() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    /** Advances to the clock's day, expiring one bucket per window per elapsed day. */
+    private void roll() {
+        long now = currentDay();
+        if (now <= today) {
+            return; // same day, or the clock moved backwards
+        }
+        if (now - today >= HORIZON) {
+            clearAll();
+            today = now;
+            return;
+        }
+        while (today < now) {
+            today++;
+            for (Window w : Window.values()) {
+                expire(w, today - w.days);
+            }
+            int slot = slot(today);
+            buckets[slot].clear(); // its day left the longest window above
+            bucketDay[slot] = today;
+        }
+    }
+
+    /** Subtracts {@code day}'s bucket from {@code window}'s totals. */
+    private void expire(Window window, long day) {
+        int slot = slot(day);
+        if (bucketDay[slot] != day) {
+            return;
+        }
+        Map<String, Integer> windowTotals = totals.get(window);
+        Leaderboard board = boards.get(window);
+        buckets[slot].forEach((name, wins) -> {
+            int left = windowTotals.get(name) - wins;
+            if (left == 0) {
+                windowTotals.remove(name);
+                board.remove(name);
+            } else {
+                windowTotals.put(name, left);
+                board.update(name, left);
+            }
+        });
+    }
+
+    private void add(long day, String playerName, int wins) {
+        int slot = slot(day);
+        if (bucketDay[slot] != day) {
+            buckets[slot].clear();
+            bucketDay[slot] = day;
+        }
+        buckets[slot].merge(playerName, wins, Integer::sum);
+        for (Window w : Window.values()) {
+            if (day > today - w.days) {
+                int total = totals.get(w).merge(playerName, wins, Integer::sum);
+                boards.get(w).update(playerName, total);
+            }
+        }
+    }
+
+    private void clearAll() {
+        for (int i = 0; i < HORIZON; i++) {
+            bucketDay[i] = NO_DAY;
+            buckets[i].clear();
+        }
+        for (Window w : Window.values()) {
+            totals.get(w).clear();
+            boards.put(w, new Leaderboard());
+        }
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) HORIZON);
+    }
+}
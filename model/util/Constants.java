@@ -61,6 +61,9 @@ public final class Constants {
     /** EP automatically regained at end of each round. */
     public static final int ROUND_EP_REGEN = 5;
 
+    /** Thinking time per move of the search bot, in milliseconds. */
+    public static final int AI_SEARCH_BUDGET_MS = 200;
+
     // ────────────────────────────────────────────────────────
     // Reward thresholds
     // ────────────────────────────────────────────────────────
@@ -119,6 +122,11 @@ public static final int RALLYING_CRY_COST = 0;
 
 
 public static final String SAVE_FILE_PATH = "ff_tactics_save.dat";
+public static final String JOURNAL_FILE_PATH = "ff_tactics_save.journal";
 public static final String HALL_OF_FAME_SAVE_PATH = "save/hall_of_fame.dat";
+public static final String HALL_OF_FAME_INDEX_PATH = "save/hall_of_fame.idx";
+public static final String HALL_OF_FAME_NAMES_PATH = "save/hall_of_fame.names";
+public static final String WIN_HISTORY_PATH = "save/win_history.dat";
+public static final String RATINGS_PATH = "save/ratings.dat";
 
 }
@@ -92,6 +92,20 @@ public final class InputValidator {
         }
     }
 
+    /**
+    * Ensures a long is non-negative (≥ 0).
+    *
+    * @param value      the number to validate
+    * @param fieldName  logical field name for error messaging
+    * @throws GameException if {@code value} < 0
+    */
+    public static void requirePositiveOrZero(long value, String fieldName)
+            throws GameException {
+        if (value < 0) {
+            throw new GameException(fieldName + " must be ≥ 0 (was " + value + ')');
+        }
+    }
+
     /**
      * Ensures {@code value} lies in the inclusive range
      * {@code [min, max]}.
@@ -0,0 +1,259 @@
+package model.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import model.battle.BattleState;
+import model.battle.Move;
+import model.core.Character;
+
+/**
+ * <h2>MctsBot</h2>
+ *
+ * <p>Monte-Carlo tree search strategy that thinks for a fixed wall-clock
+ * budget on every available core.</p>
+ *
+ * <p>Search is root-parallel: each fork-join worker grows its own tree from
+ * a copy of the current {@link BattleState} until the deadline, and the
+ * root visit counts of all trees are summed to pick the move.  Workers
+ * share nothing while they run, so throughput grows with the number of
+ * cores.  Both combatants move at once, so every node keeps separate UCB1
+ * statistics for each side's moves (decoupled UCT) and a child per move
+ * pair.  Leaves are scored by a random playout on the headless rules,
+ * capped at {@value #ROLLOUT_ROUNDS} rounds and scored by HP share if
+ * nobody has fallen by then.</p>
+ *
+ * <p>Workers read the clock before every playout and a playout takes
+ * microseconds, so they stop within a playout of the deadline.  The caller
+ * waits for at most a small grace period after it, and any worker still
+ * running then is dropped.</p>
+ *
+ * <h3>Design</h3>
+ * <ul>
+ *   <li>One dedicated pool per bot, released by {@link #close()}; its
+ *       daemon threads never block exit</li>
+ *   <li>Thread-safe: {@link #decideMove} is synchronized</li>
+ * </ul>
+ */
+public final class MctsBot implements AIMoveStrategy, AutoCloseable {
+
+    /** Rounds a playout may run before it is scored on HP. */
+    static final int ROLLOUT_ROUNDS = 60;
+
+    /** UCB1 exploration constant. */
+    private static final double EXPLORATION = 1.4;
+
+    /** Wait allowed past the deadline for workers to hand in their trees. */
+    private static final long GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final long budgetNanos;
+    private final int workers;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seeds;
+
+    /**
+     * Creates a bot with the {@link Constants#AI_SEARCH_BUDGET_MS} budget and
+     * one worker per available processor.
+     */
+    public MctsBot() {
+        this(Duration.ofMillis(Constants.AI_SEARCH_BUDGET_MS),
+             Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /**
+     * Creates a bot with explicit settings.
+     *
+     * @param budget  thinking time per move (positive)
+     * @param workers independent trees searched in parallel (&gt; 0)
+     * @param seed    seed for the playout random streams
+     * @throws GameException if the arguments are invalid
+     */
+    public MctsBot(Duration budget, int workers, long seed) throws GameException {
+        InputValidator.requireNonNull(budget, "budget");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new GameException("budget must be positive.");
+        }
+        InputValidator.requirePositive(workers, "workers");
+        this.budgetNanos = budget.toNanos();
+        this.workers = workers;
+        this.pool = new ForkJoinPool(workers);
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Searches until the budget is spent and returns the most visited move.
+     *
+     * @param botCharacter      the AI-controlled character (non-null)
+     * @param opponentCharacter the opposing character (non-null)
+     * @return the chosen {@link Move}
+     * @throws GameException if inputs are null, the battle is already over
+     *         or the bot is closed
+     */
+    @Override
+    public synchronized Move decideMove(Character botCharacter, Character opponentCharacter) throws GameException {
+        InputValidator.requireNonNull(botCharacter, "botCharacter");
+        InputValidator.requireNonNull(opponentCharacter, "opponentCharacter");
+        if (pool.isShutdown()) {
+            throw new GameException("MCTS bot is closed.");
+        }
+
+        BattleState root = BattleState.of(botCharacter, opponentCharacter);
+        if (root.isOver()) {
+            throw new GameException("Cannot choose a move in a finished battle.");
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+
+        List<ForkJoinTask<Node>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            SplittableRandom random = seeds.split();
+            tasks.add(pool.submit(() -> grow(root.copy(), deadline, random)));
+        }
+
+        int[] moves = new int[BattleState.MAX_MOVES];
+        int n = root.legalMoves(0, moves);
+        long[] visits = new long[n];
+        for (ForkJoinTask<Node> task : tasks) {
+            Node tree = collect(task, deadline + GRACE_NANOS);
+            if (tree != null) {
+                for (int i = 0; i < n; i++) {
+                    visits[i] += tree.visits0[i]; // every tree lists root moves in the same order
+                }
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < n; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return root.toMove(0, moves[best]);
+    }
+
+    /**
+     * Stops the worker pool, abandoning a search in progress.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /** Returns a worker's tree, or {@code null} if it missed {@code cutoff}. */
+    private static Node collect(ForkJoinTask<Node> task, long cutoff) {
+        try {
+            return task.get(Math.max(0, cutoff - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            return null;
+        } catch (Exception e) {
+            task.cancel(true);
+            return null;
+        }
+    }
+
+    /* ================================================= WORKER */
+
+    /** Grows one tree from {@code root} until {@code deadline}. */
+    private static Node grow(BattleState root, long deadline, SplittableRandom random) {
+        Node tree = new Node(root);
+        int[] scratch = new int[BattleState.MAX_MOVES];
+        while (System.nanoTime() < deadline) {
+            BattleState s = root.copy();
+            tree.playout(s, random, scratch);
+        }
+        return tree;
+    }
+
+    /** Reward in [0, 1] for seat 0 of a finished or abandoned playout. */
+    private static double score(BattleState s) {
+        if (s.isOver()) {
+            int winner = s.winner();
+            return winner < 0 ? 0.5 : winner == 0 ? 1.0 : 0.0;
+        }
+        double own = (double) s.hp(0) / Math.max(1, s.maxHp(0));
+        double other = (double) s.hp(1) / Math.max(1, s.maxHp(1));
+        return 0.5 + 0.5 * (own - other);
+    }
+
+    /** Decoupled-UCT node: per-side move statistics and a child per move pair. */
+    private static final class Node {
+        final int[] moves0;
+        final int[] moves1;
+        final int[] visits0;
+        final int[] visits1;
+        final double[] reward0;   // summed reward of seat 0
+        final double[] reward1;   // summed reward of seat 1
+        final Node[] children;    // [i * moves1.length + j], created on first visit
+        int visits;
+
+        Node(BattleState s) {
+            int[] buffer = new int[BattleState.MAX_MOVES];
+            moves0 = Arrays.copyOf(buffer, s.legalMoves(0, buffer));
+            moves1 = Arrays.copyOf(buffer, s.legalMoves(1, buffer));
+            visits0 = new int[moves0.length];
+            visits1 = new int[moves1.length];
+            reward0 = new double[moves0.length];
+            reward1 = new double[moves1.length];
+            children = new Node[moves0.length * moves1.length];
+        }
+
+        /** Selects, expands, rolls out and backs up one playout; returns seat 0's reward. */
+        double playout(BattleState s, SplittableRandom random, int[] scratch) {
+            int i = select(visits0, reward0);
+            int j = select(visits1, reward1);
+            s.apply(moves0[i], moves1[j]);
+
+            double r;
+            int c = i * moves1.length + j;
+            if (s.isOver()) {
+                r = score(s);
+            } else if (children[c] == null) {
+                children[c] = new Node(s);
+                r = rollout(s, random, scratch);
+            } else {
+                r = children[c].playout(s, random, scratch);
+            }
+
+            visits++;
+            visits0[i]++;
+            visits1[j]++;
+            reward0[i] += r;
+            reward1[j] += 1.0 - r;
+            return r;
+        }
+
+        private int select(int[] counts, double[] rewards) {
+            double logN = Math.log(Math.max(1, visits));
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int m = 0; m < counts.length; m++) {
+                if (counts[m] == 0) {
+                    return m; // try every move once first
+                }
+                double value = rewards[m] / counts[m] + EXPLORATION * Math.sqrt(logN / counts[m]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = m;
+                }
+            }
+            return best;
+        }
+
+        /** Uniformly random legal moves for both sides until the battle ends or the cap. */
+        private static double rollout(BattleState s, SplittableRandom random, int[] scratch) {
+            for (int round = 0; round < ROLLOUT_ROUNDS && !s.isOver(); round++) {
+                int m0 = scratch[random.nextInt(s.legalMoves(0, scratch))];
+                int m1 = scratch[random.nextInt(s.legalMoves(1, scratch))];
+                s.apply(m0, m1);
+            }
+            return score(s);
+        }
+    }
+}
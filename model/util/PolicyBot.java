@@ -0,0 +1,100 @@
+package model.util;
+
+import java.util.List;
+
+import model.battle.AbilityMove;
+import model.battle.BattleState;
+import model.battle.Defend;
+import model.battle.ItemMove;
+import model.battle.Move;
+import model.battle.Recharge;
+import model.core.Ability;
+import model.core.Character;
+import model.item.SingleUseItem;
+
+/**
+ * <h2>PolicyBot</h2>
+ *
+ * <p>AI strategy that plays a pre-trained {@link PolicyTable}: the current
+ * state is discretised straight from the characters and its action is read
+ * with one buffer lookup, so a decision costs the same whatever the table
+ * size and builds no {@link BattleState}.  Characters whose
+ * ability set the table was not trained on are handed to a fallback
+ * strategy.  If the stored action is not playable right now (for example,
+ * its EP cost is no longer met), the bot recharges.</p>
+ *
+ * <h3>Design</h3>
+ * <ul>
+ *   <li>Stateless apart from the table; safe to share between threads</li>
+ *   <li>Defend and Recharge are immutable, so one instance of each is reused</li>
+ * </ul>
+ */
+public final class PolicyBot implements AIMoveStrategy {
+
+    private static final Move DEFEND = new Defend();
+    private static final Move RECHARGE = new Recharge();
+
+    private final PolicyTable table;
+    private final AIMoveStrategy fallback;
+
+    /**
+     * Creates a bot over a trained policy.
+     *
+     * @param table    trained policy (non-null)
+     * @param fallback strategy for ability sets outside the policy (non-null)
+     * @throws GameException if an argument is null
+     */
+    public PolicyBot(PolicyTable table, AIMoveStrategy fallback) throws GameException {
+        InputValidator.requireNonNull(table, "table");
+        InputValidator.requireNonNull(fallback, "fallback");
+        this.table = table;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Looks up the policy's move for the current state.
+     *
+     * @param botCharacter      the AI-controlled character (non-null)
+     * @param opponentCharacter the opposing character (non-null)
+     * @return the chosen {@link Move}
+     * @throws GameException if inputs are null or the battle is already over
+     */
+    @Override
+    public Move decideMove(Character botCharacter, Character opponentCharacter) throws GameException {
+        InputValidator.requireNonNull(botCharacter, "botCharacter");
+        InputValidator.requireNonNull(opponentCharacter, "opponentCharacter");
+
+        int setId = table.setIdOf(botCharacter);
+        if (setId < 0) {
+            return fallback.decideMove(botCharacter, opponentCharacter);
+        }
+        if (!botCharacter.isAlive() || !opponentCharacter.isAlive()) {
+            throw new GameException("Cannot choose a move in a finished battle.");
+        }
+        int action = table.actionAt(PolicyTable.index(setId, botCharacter, opponentCharacter));
+        return toMove(botCharacter, action);
+    }
+
+    /** Builds the move for {@code action}, or Recharge when it is not playable, as {@link BattleState#isLegal}. */
+    private static Move toMove(Character c, int action) throws GameException {
+        int ep = c.getCurrentEp();
+        if (action == PolicyTable.ACTION_ITEM) {
+            if (c.getInventory().getEquippedItem() instanceof SingleUseItem item) {
+                return new ItemMove(item);
+            }
+        } else if (action == PolicyTable.ACTION_DEFEND) {
+            if (ep >= Constants.DEFEND_EP_COST) {
+                return DEFEND;
+            }
+        } else if (action != PolicyTable.ACTION_RECHARGE) {
+            List<Ability> abilities = c.getAbilities();
+            if (action >= 0 && action < abilities.size()) {
+                Ability a = abilities.get(action);
+                if (ep >= a.getEpCost() && BattleState.models(a)) {
+                    return new AbilityMove(a);
+                }
+            }
+        }
+        return RECHARGE;
+    }
+}
@@ -0,0 +1,265 @@
+package model.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.battle.BattleState;
+import model.core.Ability;
+import model.core.Character;
+import model.item.SingleUseItem;
+
+/**
+ * Greedy battle policy over a discretised state space: one action byte per
+ * state, as trained by {@link PolicyTrainer} and used by {@link PolicyBot}.
+ *
+ * <p>A state is the acting character's ability set, both sides' HP in
+ * {@value #HP_BUCKETS} buckets and EP in {@value #EP_BUCKETS} buckets, and
+ * {@value #STATUS_BITS} flag bits (own stun, own poison, opponent stun,
+ * opponent poison, own item unused).  {@link #index} folds these into a
+ * dense offset, so a decision is a single {@link ByteBuffer#get(int)}.</p>
+ *
+ * <p>Ability sets are identified by their ordered ability names; their
+ * dictionary is kept beside the table so that a saved policy stays valid
+ * when the ability registry grows.  The backing buffer may be a heap array
+ * or a read-only mapping of a policy file (see
+ * {@code persistence.PolicyFile}); reads never move its position, so one
+ * table can serve any number of threads.</p>
+ *
+ * <p>{@link #setIdOf} remembers the id of each ability list it has seen by
+ * identity, and {@link #index(int, Character, Character)} reads the
+ * characters directly, so a warm decision allocates nothing.</p>
+ */
+public final class PolicyTable {
+
+    /** HP buckets per side. */
+    public static final int HP_BUCKETS = 10;
+
+    /** EP buckets per side. */
+    public static final int EP_BUCKETS = 6;
+
+    /** Flag bits per state. */
+    public static final int STATUS_BITS = 5;
+
+    /** Ability slots an action can name; larger sets are not supported. */
+    public static final int ABILITY_SLOTS = 8;
+
+    /** Action codes after the ability slots. */
+    public static final byte ACTION_ITEM = ABILITY_SLOTS;
+    public static final byte ACTION_DEFEND = ABILITY_SLOTS + 1;
+    public static final byte ACTION_RECHARGE = ABILITY_SLOTS + 2;
+
+    /** Number of distinct actions. */
+    public static final int ACTIONS = ABILITY_SLOTS + 3;
+
+    /** States per ability set. */
+    public static final int STATES_PER_SET = HP_BUCKETS * EP_BUCKETS * HP_BUCKETS * EP_BUCKETS * (1 << STATUS_BITS);
+
+    /** Slots of the set id cache; a power of two. */
+    private static final int SET_ID_CACHE_SIZE = 64;
+
+    private final List<List<String>> abilitySets;
+    private final Map<List<String>, Integer> setIds = new HashMap<>();
+    private final ByteBuffer actions;
+
+    /* Direct-mapped by ability-list identity.  Entries are immutable, so a
+       thread racing another at worst looks a set up twice. */
+    private final SetIdEntry[] setIdCache = new SetIdEntry[SET_ID_CACHE_SIZE];
+
+    /**
+     * Wraps a policy.
+     *
+     * @param abilitySets ordered ability names of each set, by set id (non-null)
+     * @param actions     {@link #STATES_PER_SET} action bytes per set (non-null)
+     * @throws GameException if the sizes do not match
+     */
+    public PolicyTable(List<List<String>> abilitySets, ByteBuffer actions) throws GameException {
+        InputValidator.requireNonNull(abilitySets, "abilitySets");
+        InputValidator.requireNonNull(actions, "actions");
+        if (actions.capacity() != (long) abilitySets.size() * STATES_PER_SET) {
+            throw new GameException("Policy size does not match its ability sets.");
+        }
+        List<List<String>> sets = new ArrayList<>(abilitySets.size());
+        for (List<String> set : abilitySets) {
+            List<String> copy = List.copyOf(set);
+            if (copy.size() > ABILITY_SLOTS) {
+                throw new GameException("Ability set too large for a policy: " + copy);
+            }
+            setIds.put(copy, sets.size());
+            sets.add(copy);
+        }
+        this.abilitySets = Collections.unmodifiableList(sets);
+        this.actions = actions;
+    }
+
+    /** @return ability sets by id */
+    public List<List<String>> abilitySets() {
+        return abilitySets;
+    }
+
+    /** @return read-only view of the action bytes, positioned at 0 */
+    public ByteBuffer actions() {
+        return actions.asReadOnlyBuffer().clear();
+    }
+
+    /**
+     * Returns the set id of {@code c}'s abilities.  Repeat calls for the same
+     * ability list are answered from a cache without allocating.
+     *
+     * @param c character (non-null)
+     * @return set id, or {@code -1} if the policy was not trained on it
+     */
+    public int setIdOf(Character c) {
+        List<Ability> abilities = c.getAbilities();
+        int slot = System.identityHashCode(abilities) & (SET_ID_CACHE_SIZE - 1);
+        SetIdEntry cached = setIdCache[slot];
+        if (cached != null && cached.matches(abilities)) {
+            return cached.setId;
+        }
+        List<String> names = new ArrayList<>(abilities.size());
+        for (Ability a : abilities) {
+            names.add(a.getName());
+        }
+        int setId = setIds.getOrDefault(names, -1);
+        setIdCache[slot] = new SetIdEntry(abilities, setId);
+        return setId;
+    }
+
+    /**
+     * Returns the action stored for a state.
+     *
+     * @param index offset from {@link #index}
+     * @return action code
+     */
+    public byte actionAt(int index) {
+        return actions.get(index);
+    }
+
+    /* ================================================= ENCODING */
+
+    /**
+     * Folds a discretised state into a table offset.
+     *
+     * @param setId    ability set of the acting side
+     * @param hp       acting side HP bucket input
+     * @param maxHp    acting side max HP
+     * @param ep       acting side EP
+     * @param maxEp    acting side max EP
+     * @param otherHp    opponent HP
+     * @param otherMaxHp opponent max HP
+     * @param otherEp    opponent EP
+     * @param otherMaxEp opponent max EP
+     * @param flags    {@link #flags} of the state
+     * @return offset into the action bytes
+     */
+    public static int index(int setId, int hp, int maxHp, int ep, int maxEp,
+                            int otherHp, int otherMaxHp, int otherEp, int otherMaxEp, int flags) {
+        int i = setId;
+        i = i * HP_BUCKETS + bucket(hp, maxHp, HP_BUCKETS);
+        i = i * EP_BUCKETS + bucket(ep, maxEp, EP_BUCKETS);
+        i = i * HP_BUCKETS + bucket(otherHp, otherMaxHp, HP_BUCKETS);
+        i = i * EP_BUCKETS + bucket(otherEp, otherMaxEp, EP_BUCKETS);
+        return (i << STATUS_BITS) | flags;
+    }
+
+    /**
+     * Packs the flag bits of a state.
+     *
+     * @return {@value #STATUS_BITS}-bit flag set
+     */
+    public static int flags(boolean stunned, boolean poisoned, boolean otherStunned,
+                            boolean otherPoisoned, boolean hasItem) {
+        return (stunned ? 1 : 0) | (poisoned ? 2 : 0) | (otherStunned ? 4 : 0)
+                | (otherPoisoned ? 8 : 0) | (hasItem ? 16 : 0);
+    }
+
+    /**
+     * Returns the offset of {@code self}'s view of a battle, read straight
+     * from the characters; equal to {@link #index(int, BattleState, int)} of
+     * the same position.
+     *
+     * @param setId ability set of {@code self}
+     * @param self  acting character (non-null)
+     * @param other opponent (non-null)
+     * @return offset into the action bytes
+     */
+    public static int index(int setId, Character self, Character other) {
+        int flags = flags(stunnedNextRound(self), self.hasStatusEffect(StatusEffectType.POISONED),
+                stunnedNextRound(other), other.hasStatusEffect(StatusEffectType.POISONED),
+                self.getInventory().getEquippedItem() instanceof SingleUseItem);
+        return index(setId, self.getCurrentHp(), self.getMaxHp(), self.getCurrentEp(), self.getMaxEp(),
+                other.getCurrentHp(), other.getMaxHp(), other.getCurrentEp(), other.getMaxEp(), flags);
+    }
+
+    /** As {@link BattleState#isStunned}: the stun outlasts the coming countdown. */
+    private static boolean stunnedNextRound(Character c) {
+        StatusEffect stun = c.getStatusEffect(StatusEffectType.STUNNED);
+        return stun != null && stun.getDuration() > 1;
+    }
+
+    /** Offset of {@code side}'s view of {@code s}, for training. */
+    static int index(int setId, BattleState s, int side) {
+        int other = 1 - side;
+        int flags = flags(s.isStunned(side), s.statusTurns(side, StatusEffectType.POISONED) > 0,
+                s.isStunned(other), s.statusTurns(other, StatusEffectType.POISONED) > 0, s.hasItem(side));
+        return index(setId, s.hp(side), s.maxHp(side), s.ep(side), s.maxEp(side),
+                s.hp(other), s.maxHp(other), s.ep(other), s.maxEp(other), flags);
+    }
+
+    /** Maps an action code to a {@link BattleState} move code. */
+    static int toMoveCode(int action) {
+        return switch (action) {
+            case ACTION_ITEM -> BattleState.MOVE_ITEM;
+            case ACTION_DEFEND -> BattleState.MOVE_DEFEND;
+            case ACTION_RECHARGE -> BattleState.MOVE_RECHARGE;
+            default -> action;
+        };
+    }
+
+    /** Maps a {@link BattleState} move code to an action code. */
+    static byte toAction(int moveCode) {
+        return switch (moveCode) {
+            case BattleState.MOVE_ITEM -> ACTION_ITEM;
+            case BattleState.MOVE_DEFEND -> ACTION_DEFEND;
+            case BattleState.MOVE_RECHARGE -> ACTION_RECHARGE;
+            default -> (byte) moveCode;
+        };
+    }
+
+    /** Bucket of {@code value} in {@code [0, max]}; zero only when {@code value} is. */
+    private static int bucket(int value, int max, int buckets) {
+        if (value <= 0 || max <= 0) {
+            return 0;
+        }
+        return 1 + Math.min(buckets - 2, (int) ((long) (value - 1) * (buckets - 1) / max));
+    }
+
+    /** A cached set id and the ability list, by element identity, it was computed for. */
+    private static final class SetIdEntry {
+        final List<Ability> list;
+        final Ability[] abilities;
+        final int setId;
+
+        SetIdEntry(List<Ability> list, int setId) {
+            this.list = list;
+            this.abilities = list.toArray(new Ability[0]);
+            this.setId = setId;
+        }
+
+        /** Same list object, still holding the same abilities (a list can be edited in place). */
+        boolean matches(List<Ability> other) {
+            if (other != list || other.size() != abilities.length) {
+                return false;
+            }
+            for (int i = 0; i < abilities.length; i++) {
+                if (other.get(i) != abilities[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package model.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import model.battle.BattleState;
+import model.core.Ability;
+import model.core.Character;
+
+/**
+ * <h2>PolicyTrainer</h2>
+ *
+ * <p>Offline self-play trainer for {@link PolicyTable}.  Random pairs from a
+ * roster fight each other on the headless {@link BattleState} rules, and
+ * both seats learn at once with tabular Q-learning over the
+ * {@link PolicyTable} state space.  A seat is rewarded +1 for a win and -1
+ * for a loss; battles still running after {@value #MAX_ROUNDS} rounds end
+ * with no reward.  The learned policy is the best visited action in each
+ * state, or Recharge where the state was never reached.</p>
+ *
+ * <p>The Q-table holds {@link PolicyTable#ACTIONS} floats per state, about
+ * 5 MB per ability set, and only lives while training runs.</p>
+ */
+public final class PolicyTrainer {
+
+    /** Rounds after which a self-play battle is abandoned. */
+    static final int MAX_ROUNDS = 100;
+
+    private static final double EPSILON = 0.1;
+    private static final float ALPHA = 0.1f;
+    private static final float GAMMA = 0.95f;
+
+    private final List<BattleState> openings = new ArrayList<>();
+    private final List<int[]> seatSets = new ArrayList<>();
+    private final List<List<String>> abilitySets = new ArrayList<>();
+    private final SplittableRandom random;
+
+    /**
+     * Prepares self-play between every ordered pair of {@code roster}.
+     *
+     * @param roster characters to train on, in their starting state (at least 2)
+     * @param seed   seed for move exploration
+     * @throws GameException if the roster is too small or a character has
+     *         more than {@link PolicyTable#ABILITY_SLOTS} abilities
+     */
+    public PolicyTrainer(List<Character> roster, long seed) throws GameException {
+        InputValidator.requireNonNull(roster, "roster");
+        if (roster.size() < 2) {
+            throw new GameException("Training needs at least two characters.");
+        }
+        Map<List<String>, Integer> ids = new HashMap<>();
+        int[] setOf = new int[roster.size()];
+        for (int i = 0; i < roster.size(); i++) {
+            Character c = roster.get(i);
+            InputValidator.requireNonNull(c, "roster entry");
+            List<String> names = new ArrayList<>();
+            for (Ability a : c.getAbilities()) {
+                names.add(a.getName());
+            }
+            if (names.size() > PolicyTable.ABILITY_SLOTS) {
+                throw new GameException("Ability set too large for a policy: " + names);
+            }
+            Integer id = ids.get(names);
+            if (id == null) {
+                id = abilitySets.size();
+                ids.put(names, id);
+                abilitySets.add(names);
+            }
+            setOf[i] = id;
+        }
+        for (int i = 0; i < roster.size(); i++) {
+            for (int j = 0; j < roster.size(); j++) {
+                if (i != j) {
+                    openings.add(BattleState.of(roster.get(i), roster.get(j)));
+                    seatSets.add(new int[] {setOf[i], setOf[j]});
+                }
+            }
+        }
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Plays {@code episodes} self-play battles and extracts the greedy policy.
+     *
+     * @param episodes number of battles (&gt; 0)
+     * @return trained policy on a heap buffer
+     * @throws GameException if {@code episodes} is not positive
+     */
+    public PolicyTable train(int episodes) throws GameException {
+        InputValidator.requirePositive(episodes, "episodes");
+        float[] q = new float[abilitySets.size() * PolicyTable.STATES_PER_SET * PolicyTable.ACTIONS];
+        Arrays.fill(q, Float.NaN); // NaN ⇢ never tried
+        int[] moves = new int[BattleState.MAX_MOVES];
+
+        for (int e = 0; e < episodes; e++) {
+            int pair = random.nextInt(openings.size());
+            BattleState s = openings.get(pair).copy();
+            int[] sets = seatSets.get(pair);
+            for (int round = 0; round < MAX_ROUNDS && !s.isOver(); round++) {
+                int state0 = PolicyTable.index(sets[0], s, 0);
+                int state1 = PolicyTable.index(sets[1], s, 1);
+                int move0 = choose(q, state0, s, 0, moves);
+                int move1 = choose(q, state1, s, 1, moves);
+                s.apply(move0, move1);
+                learn(q, state0, move0, s, 0, sets[0], moves);
+                learn(q, state1, move1, s, 1, sets[1], moves);
+            }
+        }
+        return new PolicyTable(abilitySets, ByteBuffer.wrap(extract(q)));
+    }
+
+    /** Epsilon-greedy legal move of {@code side}. */
+    private int choose(float[] q, int state, BattleState s, int side, int[] moves) {
+        int n = s.legalMoves(side, moves);
+        if (random.nextDouble() < EPSILON) {
+            return moves[random.nextInt(n)];
+        }
+        int best = moves[0];
+        float bestValue = Float.NEGATIVE_INFINITY;
+        int base = state * PolicyTable.ACTIONS;
+        for (int i = 0; i < n; i++) {
+            float v = q[base + PolicyTable.toAction(moves[i])];
+            if (Float.isNaN(v)) {
+                v = 0f;
+            }
+            if (v > bestValue) {
+                bestValue = v;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /** One Q-learning update for {@code side} after a round. */
+    private static void learn(float[] q, int state, int move, BattleState next, int side, int setId, int[] moves) {
+        float target;
+        if (next.isOver()) {
+            int winner = next.winner();
+            target = winner < 0 ? 0f : winner == side ? 1f : -1f;
+        } else {
+            int base = PolicyTable.index(setId, next, side) * PolicyTable.ACTIONS;
+            int n = next.legalMoves(side, moves);
+            float best = 0f;
+            boolean seen = false;
+            for (int i = 0; i < n; i++) {
+                float v = q[base + PolicyTable.toAction(moves[i])];
+                if (!Float.isNaN(v) && (!seen || v > best)) {
+                    best = v;
+                    seen = true;
+                }
+            }
+            target = GAMMA * best;
+        }
+        int slot = state * PolicyTable.ACTIONS + PolicyTable.toAction(move);
+        float old = Float.isNaN(q[slot]) ? 0f : q[slot];
+        q[slot] = old + ALPHA * (target - old);
+    }
+
+    /** Best tried action per state, Recharge where nothing was tried. */
+    private static byte[] extract(float[] q) {
+        byte[] policy = new byte[q.length / PolicyTable.ACTIONS];
+        for (int state = 0; state < policy.length; state++) {
+            int base = state * PolicyTable.ACTIONS;
+            byte best = PolicyTable.ACTION_RECHARGE;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            for (int a = 0; a < PolicyTable.ACTIONS; a++) {
+                float v = q[base + a];
+                if (!Float.isNaN(v) && v > bestValue) {
+                    bestValue = v;
+                    best = (byte) a;
+                }
+            }
+            policy[state] = best;
+        }
+        return policy;
+    }
+}
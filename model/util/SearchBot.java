@@ -0,0 +1,291 @@
+package model.util;
+
+import java.time.Duration;
+
+import model.battle.BattleState;
+import model.battle.Move;
+import model.battle.Tablebase;
+import model.core.Ability;
+import model.core.Character;
+import model.util.effects.PoisonEffect;
+
+/**
+ * <h2>SearchBot</h2>
+ *
+ * <p>Look-ahead AI strategy: an alpha-beta search over {@link BattleState}
+ * rounds, with iterative deepening against a wall-clock budget.</p>
+ *
+ * <p>Both combatants choose at the same time, so each round is searched
+ * pessimistically: the bot picks a move, then the opponent picks the reply
+ * that is worst for the bot.  Every move a character can currently play is
+ * considered, including items, Defend and Recharge.  Rounds are applied
+ * and undone in place with {@link BattleState#make(int, int)} and
+ * {@link BattleState#unmake()}.  The game has no random effects, so there
+ * are no chance nodes to average over.</p>
+ *
+ * <p>A Zobrist-keyed transposition table survives between calls, so the
+ * positions reached on one turn are still known on the next.  Each entry
+ * stores a bound, its depth and the best move, and that move is tried
+ * first when the position comes up again.  Search deepens one round at a
+ * time until the budget runs out.  The deepest round that finished is the
+ * one used, and depth 1 always finishes.</p>
+ *
+ * <p>With an endgame {@link Tablebase} for the matchup, every node below the
+ * root that the table has solved is scored from it at once, as a win or
+ * loss at the recorded distance, instead of being searched.</p>
+ *
+ * <h3>Design</h3>
+ * <ul>
+ *   <li>Allocation-free search once constructed</li>
+ *   <li>Thread-safe: {@link #decideMove} is synchronized</li>
+ * </ul>
+ */
+public final class SearchBot implements AIMoveStrategy {
+
+    /** Search depth cap in rounds. */
+    public static final int DEFAULT_MAX_DEPTH = 12;
+
+    private static final int WIN = 1_000_000;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private static final int TABLE_SIZE = 1 << 16;
+    private static final byte EXACT = 0;
+    private static final byte LOWER = 1;
+    private static final byte UPPER = 2;
+
+    /** Nodes between clock reads, counting leaves and finished states. */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final Tablebase tablebase;
+
+    /* transposition table, guarded by this */
+    private final long[] keys = new long[TABLE_SIZE];
+    private final int[] values = new int[TABLE_SIZE];
+    private final byte[] depths = new byte[TABLE_SIZE];
+    private final byte[] flags = new byte[TABLE_SIZE];
+    private final short[] bestMoves = new short[TABLE_SIZE];
+
+    /* per-search scratch, guarded by this */
+    private final int[][] ownMoves;
+    private final int[][] replies;
+    private long salt;
+    private boolean probing;
+    private long deadline;
+    private boolean aborted;
+    private int nodes;
+    private int rootMove;
+    private int rootScore;
+
+    /**
+     * Creates a bot with the default {@link Constants#AI_SEARCH_BUDGET_MS} budget.
+     */
+    public SearchBot() {
+        this(Duration.ofMillis(Constants.AI_SEARCH_BUDGET_MS), DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a bot with an explicit budget.
+     *
+     * @param budget   thinking time per move (positive)
+     * @param maxDepth depth cap in rounds (1 to 64)
+     * @throws GameException if the arguments are invalid
+     */
+    public SearchBot(Duration budget, int maxDepth) throws GameException {
+        this(budget, maxDepth, null);
+    }
+
+    /**
+     * Creates a bot with an explicit budget and an endgame table.
+     *
+     * @param budget    thinking time per move (positive)
+     * @param maxDepth  depth cap in rounds (1 to 64)
+     * @param tablebase table solved with the bot as side 0, or {@code null}
+     * @throws GameException if the arguments are invalid
+     */
+    public SearchBot(Duration budget, int maxDepth, Tablebase tablebase) throws GameException {
+        InputValidator.requireNonNull(budget, "budget");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new GameException("budget must be positive.");
+        }
+        InputValidator.requireRange(maxDepth, 1, 64, "maxDepth");
+        this.budgetNanos = budget.toNanos();
+        this.maxDepth = maxDepth;
+        this.tablebase = tablebase;
+        this.ownMoves = new int[maxDepth + 1][BattleState.MAX_MOVES];
+        this.replies = new int[maxDepth + 1][BattleState.MAX_MOVES];
+    }
+
+    /**
+     * Searches as deep as the budget allows and returns the best move found.
+     *
+     * @param botCharacter      the AI-controlled character (non-null)
+     * @param opponentCharacter the opposing character (non-null)
+     * @return the chosen {@link Move}
+     * @throws GameException if inputs are null or the battle is already over
+     */
+    @Override
+    public synchronized Move decideMove(Character botCharacter, Character opponentCharacter) throws GameException {
+        InputValidator.requireNonNull(botCharacter, "botCharacter");
+        InputValidator.requireNonNull(opponentCharacter, "opponentCharacter");
+
+        BattleState root = BattleState.of(botCharacter, opponentCharacter);
+        if (root.isOver()) {
+            throw new GameException("Cannot choose a move in a finished battle.");
+        }
+        salt = loadoutSalt(botCharacter) ^ Long.rotateLeft(loadoutSalt(opponentCharacter), 32);
+        probing = tablebase != null && tablebase.matches(root);
+        deadline = System.nanoTime() + budgetNanos;
+        aborted = false;
+        nodes = 0;
+
+        int best = BattleState.MOVE_RECHARGE; // always legal
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            search(root, depth, 0, -INFINITY, INFINITY);
+            if (aborted) {
+                break;
+            }
+            best = rootMove;
+            if (Math.abs(rootScore) >= WIN - maxDepth) {
+                break; // forced result, deeper search cannot change it
+            }
+        }
+        return root.toMove(0, best);
+    }
+
+    /* ================================================= SEARCH */
+
+    /** Value of {@code s} for seat 0 with {@code depth} rounds left. */
+    private int search(BattleState s, int depth, int ply, int alpha, int beta) {
+        if (++nodes % CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+            return 0;
+        }
+        if (s.isOver()) {
+            int winner = s.winner();
+            return winner < 0 ? 0 : winner == 0 ? WIN - ply : -(WIN - ply);
+        }
+        if (probing && ply > 0) {
+            int rounds = tablebase.value(s);
+            if (rounds > 0) {
+                return WIN - (ply + rounds);
+            }
+            if (rounds < 0) {
+                return -(WIN - (ply - rounds));
+            }
+        }
+        if (depth == 0) {
+            return evaluate(s);
+        }
+
+        long key = s.hash() ^ salt;
+        int slot = (int) (key & (TABLE_SIZE - 1));
+        int hashMove = -1;
+        if (keys[slot] == key) {
+            hashMove = bestMoves[slot];
+            if (depths[slot] >= depth && ply > 0) {
+                int v = fromTable(values[slot], ply);
+                if (flags[slot] == EXACT
+                        || (flags[slot] == LOWER && v >= beta)
+                        || (flags[slot] == UPPER && v <= alpha)) {
+                    return v;
+                }
+            }
+        }
+
+        int[] mine = ownMoves[ply];
+        int n = s.legalMoves(0, mine);
+        for (int i = 1; i < n; i++) { // hash move first
+            if (mine[i] == hashMove) {
+                mine[i] = mine[0];
+                mine[0] = hashMove;
+                break;
+            }
+        }
+        int[] theirs = replies[ply];
+        int k = s.legalMoves(1, theirs);
+
+        int best = -INFINITY;
+        int bestMove = mine[0];
+        for (int i = 0; i < n; i++) {
+            int floor = Math.max(alpha, best);
+            int worst = INFINITY;
+            for (int j = 0; j < k; j++) {
+                s.make(mine[i], theirs[j]);
+                int v = search(s, depth - 1, ply + 1, floor, Math.min(beta, worst));
+                s.unmake();
+                if (aborted) {
+                    return 0;
+                }
+                if (v < worst) {
+                    worst = v;
+                    if (worst <= floor) {
+                        break; // this move cannot beat one already found
+                    }
+                }
+            }
+            if (worst > best) {
+                best = worst;
+                bestMove = mine[i];
+            }
+            if (best >= beta) {
+                break;
+            }
+        }
+
+        keys[slot] = key;
+        values[slot] = toTable(best, ply);
+        depths[slot] = (byte) depth;
+        flags[slot] = best <= alpha ? UPPER : best >= beta ? LOWER : EXACT;
+        bestMoves[slot] = (short) bestMove;
+        if (ply == 0) {
+            rootMove = bestMove;
+            rootScore = best;
+        }
+        return best;
+    }
+
+    /* Win scores are stored relative to the node, not the root, so an entry
+       reached again at another ply still prefers the faster win. */
+
+    private static int toTable(int v, int ply) {
+        return v >= WIN - 1000 ? v + ply : v <= -(WIN - 1000) ? v - ply : v;
+    }
+
+    private static int fromTable(int v, int ply) {
+        return v >= WIN - 1000 ? v - ply : v <= -(WIN - 1000) ? v + ply : v;
+    }
+
+    /**
+     * Static score for seat 0: HP share after pending poison dominates, EP
+     * share and an unused item break ties, and a stun costs a move.
+     */
+    private static int evaluate(BattleState s) {
+        return side(s, 0) - side(s, 1);
+    }
+
+    private static int side(BattleState s, int side) {
+        int poison = s.statusTurns(side, StatusEffectType.POISONED) * PoisonEffect.DAMAGE_PER_TURN;
+        int hp = Math.max(0, s.hp(side) - poison);
+        int score = hp * 1000 / Math.max(1, s.maxHp(side));
+        score += s.ep(side) * 100 / Math.max(1, s.maxEp(side));
+        if (s.hasItem(side)) {
+            score += 20;
+        }
+        if (s.isStunned(side)) {
+            score -= 50;
+        }
+        return score;
+    }
+
+    /** Distinguishes table entries of different ability sets with equal stats. */
+    private static long loadoutSalt(Character c) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (Ability a : c.getAbilities()) {
+            h = (h ^ a.getName().hashCode()) * 0xBF58476D1CE4E5B9L;
+            h = (h ^ (a.getEpCost() * 31L + a.getEffectValue())) * 0x94D049BB133111EBL;
+        }
+        return h ^ (h >>> 31);
+    }
+}
@@ -22,10 +22,10 @@ import model.util.StatusEffectType;
 public final class PoisonEffect implements StatusEffect {
 
     /** Fixed poison damage per turn (non-configurable). */
-    private static final int POISON_DAMAGE_PER_TURN = 5;
+    public static final int DAMAGE_PER_TURN = 5;
 
     /** Default number of turns poison lasts. */
-    private static final int DURATION_TURNS = 3;
+    public static final int DURATION_TURNS = 3;
 
     /** Internal countdown for remaining effect duration. */
     private int remainingTurns;
@@ -37,6 +37,18 @@ public final class PoisonEffect implements StatusEffect {
         this.remainingTurns = DURATION_TURNS;
     }
 
+    /**
+     * Creates a poison effect that has already run part of its course, e.g.
+     * when restoring a simulated battle state onto a character.
+     *
+     * @param remainingTurns turns left (1 to the default duration)
+     * @throws GameException if {@code remainingTurns} is out of range
+     */
+    public PoisonEffect(int remainingTurns) throws GameException {
+        InputValidator.requireRange(remainingTurns, 1, DURATION_TURNS, "remainingTurns");
+        this.remainingTurns = remainingTurns;
+    }
+
     /**
      * Called when the effect is first applied.
      *
@@ -58,7 +70,7 @@ public final class PoisonEffect implements StatusEffect {
     @Override
     public void onTurnStart(Character target) throws GameException {
         InputValidator.requireNonNull(target, "PoisonEffect target");
-        target.takeDamage(POISON_DAMAGE_PER_TURN);
+        target.takeDamage(DAMAGE_PER_TURN);
         decrementDuration();
     }
 
@@ -14,22 +14,26 @@ import model.util.StatusEffectType;
  *
  * <p><strong>Effect Behavior:</strong></p>
  * <ul>
- *   <li>Applies immediate incapacitation via {@code setStunned(true)}.</li>
- *   <li>Lasts 2 turns unless removed prematurely.</li>
- *   <li>Automatically clears stun flag when effect expires.</li>
+ *   <li>Takes hold at the start of the next round, so the round it lands in
+ *       never counts – the victim loses the same number of moves whichever
+ *       seat it is in.</li>
+ *   <li>Lasts 2 turns, the landing round included, unless removed
+ *       prematurely: the victim skips exactly one move.</li>
+ *   <li>Sets the stun flag for the round it blocks and clears it at the end
+ *       of that round.</li>
  * </ul>
  *
  * <p><strong>Design Principles:</strong></p>
  * <ul>
  *   <li>Immutable effect logic; countdown tracked internally.</li>
- *   <li>Zero turn-end action; only start-of-turn management.</li>
+ *   <li>Countdown at turn start; the turn end only lifts the flag.</li>
  *   <li>Complies with MVC and clean separation of concerns.</li>
  * </ul>
  */
 public final class StunEffect implements StatusEffect {
 
     /** Default number of turns stun lasts. */
-    private static final int DURATION_TURNS = 2;
+    public static final int DURATION_TURNS = 2;
 
     /** Remaining turns for which the target is stunned. */
     private int remainingTurns;
@@ -42,7 +46,20 @@ public final class StunEffect implements StatusEffect {
     }
 
     /**
-     * Immediately applies the stunned state.
+     * Creates a stun effect that has already run part of its course, e.g.
+     * when restoring a simulated battle state onto a character.
+     *
+     * @param remainingTurns turns left (1 to the default duration)
+     * @throws GameException if {@code remainingTurns} is out of range
+     */
+    public StunEffect(int remainingTurns) throws GameException {
+        InputValidator.requireRange(remainingTurns, 1, DURATION_TURNS, "remainingTurns");
+        this.remainingTurns = remainingTurns;
+    }
+
+    /**
+     * Validates the target; the stun only takes hold at the next turn start,
+     * so a victim that has not moved yet this round still acts.
      *
      * @param target the affected character (non-null)
      * @throws GameException if {@code target} is null
@@ -50,11 +67,11 @@ public final class StunEffect implements StatusEffect {
     @Override
     public void applyEffect(Character target) throws GameException {
         InputValidator.requireNonNull(target, "StunEffect target");
-        target.setStunned(true);
     }
 
     /**
-     * Decrements stun duration and clears effect if expired.
+     * Decrements stun duration and stuns the target for this turn if any
+     * remains.
      *
      * @param target the stunned character (non-null)
      * @throws GameException if {@code target} is null
@@ -63,19 +80,19 @@ public final class StunEffect implements StatusEffect {
     public void onTurnStart(Character target) throws GameException {
         InputValidator.requireNonNull(target, "StunEffect target");
         decrementDuration();
-        if (remainingTurns == 0) {
-            target.setStunned(false);
-        }
+        target.setStunned(remainingTurns > 0);
     }
 
     /**
-     * No action required at the end of the turn.
+     * Lifts the stunned state once the blocked turn is over.
      *
-     * @param target the affected character
+     * @param target the affected character (non-null)
+     * @throws GameException if {@code target} is null
      */
     @Override
-    public void onTurnEnd(Character target) {
-        // No-op
+    public void onTurnEnd(Character target) throws GameException {
+        InputValidator.requireNonNull(target, "StunEffect target");
+        target.setStunned(false);
     }
 
     /**
@@ -0,0 +1,226 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import model.util.GameException;
+
+/**
+ * Crash-safe replacement of a whole save file.
+ *
+ * <p>{@link #write} streams the new contents to {@code <file>.tmp}, appends
+ * an 8-byte footer ({@code int crc32 | int FOOTER_MAGIC}), fsyncs it, keeps
+ * the current file as {@code <file>.bak} and then renames the temp file over
+ * the target in one atomic step.  The target therefore always holds either
+ * the old or the new generation, never a torn mix.  Readers that opened
+ * the old file keep reading it undisturbed.</p>
+ *
+ * <p>{@link #read} verifies the footer and, if the current generation is
+ * missing, fails its checksum or cannot be decoded, falls back to the
+ * {@code .bak} generation.  Files written before checksums were added carry
+ * no footer and are accepted as-is.</p>
+ */
+final class AtomicSaveFile {
+
+    /** "FFCS" – marks a checksummed file. */
+    static final int FOOTER_MAGIC = 0x46464353;
+
+    private static final int FOOTER_BYTES = Integer.BYTES * 2;
+
+    private AtomicSaveFile() {
+        // static utility
+    }
+
+    /** Streams the body of a save file. */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(WritableByteChannel channel) throws IOException;
+    }
+
+    /** Decodes a verified save file body. */
+    @FunctionalInterface
+    interface Decoder<T> {
+        T decode(ByteBuffer contents) throws IOException, GameException;
+    }
+
+    /**
+     * Atomically replaces {@code target} with {@code content}.
+     *
+     * @param target  file to replace (parent folders are created)
+     * @param content body writer
+     * @throws IOException if any step fails; {@code target} is then unchanged
+     */
+    static void write(Path target, Content content) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path tmp = sibling(target, ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChecksumChannel checked = new ChecksumChannel(channel);
+            content.writeTo(checked);
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES);
+            footer.putInt((int) checked.crc.getValue()).putInt(FOOTER_MAGIC).flip();
+            while (footer.hasRemaining()) {
+                channel.write(footer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        if (Files.exists(target)) {
+            keepPreviousGeneration(target);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(dir);
+    }
+
+    /**
+     * Reads and decodes {@code target}, falling back to its previous generation.
+     *
+     * @param target  file written by {@link #write}
+     * @param decoder body decoder
+     * @return decoded value
+     * @throws NoSuchFileException if neither generation exists
+     * @throws IOException         if both generations are unreadable
+     * @throws GameException       if both generations are corrupt
+     */
+    static <T> T read(Path target, Decoder<T> decoder) throws IOException, GameException {
+        Path bak = sibling(target, ".bak");
+        try {
+            return decoder.decode(readVerified(target));
+        } catch (NoSuchFileException e) {
+            if (!Files.exists(bak)) {
+                throw e;
+            }
+            System.out.println("Save file " + target + " missing; restoring previous generation.");
+            return decoder.decode(readVerified(bak));
+        } catch (IOException | GameException e) {
+            if (!Files.exists(bak)) {
+                throw e;
+            }
+            System.out.println("Save file " + target + " is damaged (" + e.getMessage()
+                    + "); restoring previous generation.");
+            try {
+                return decoder.decode(readVerified(bak));
+            } catch (IOException | GameException inner) {
+                e.addSuppressed(inner);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads a file and strips its checksum footer after verifying it.
+     *
+     * @throws GameException if a footer is present but the checksum does not match
+     */
+    static ByteBuffer readVerified(Path file) throws IOException, GameException {
+        ByteBuffer buf = SaveLoadService.readFully(file);
+        int limit = buf.limit();
+        if (limit < FOOTER_BYTES || buf.getInt(limit - Integer.BYTES) != FOOTER_MAGIC) {
+            return buf; // written before checksums were introduced
+        }
+        int bodyLength = limit - FOOTER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), buf.arrayOffset(), bodyLength);
+        if ((int) crc.getValue() != buf.getInt(bodyLength)) {
+            throw new GameException("Checksum mismatch in " + file.getFileName() + ".");
+        }
+        return buf.limit(bodyLength);
+    }
+
+    /**
+     * Maps a file read-only and verifies its checksum footer, without the
+     * {@code .bak} fallback of {@link #read}: a mapping is for large,
+     * regenerable files that are never half-written in place.
+     *
+     * @return the body, with the footer beyond its limit
+     * @throws GameException if the footer is missing or the checksum does not match
+     */
+    static ByteBuffer mapVerified(Path file) throws IOException, GameException {
+        ByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int limit = buf.limit();
+        if (limit < FOOTER_BYTES || buf.getInt(limit - Integer.BYTES) != FOOTER_MAGIC) {
+            throw new GameException("Missing checksum in " + file.getFileName() + ".");
+        }
+        int bodyLength = limit - FOOTER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buf.duplicate().limit(bodyLength));
+        if ((int) crc.getValue() != buf.getInt(bodyLength)) {
+            throw new GameException("Checksum mismatch in " + file.getFileName() + ".");
+        }
+        return buf.limit(bodyLength);
+    }
+
+    /** Makes {@code <target>.bak} refer to the current contents of {@code target}. */
+    private static void keepPreviousGeneration(Path target) throws IOException {
+        Path bak = sibling(target, ".bak");
+        Files.deleteIfExists(bak);
+        try {
+            Files.createLink(bak, target); // no copy: the old inode lives on as .bak
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(target, bak, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Persists the rename itself; not every platform can open a directory, so failures are ignored. */
+    private static void syncDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // best effort
+        }
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /** Forwards writes to a file while accumulating their CRC32. */
+    private static final class ChecksumChannel implements WritableByteChannel {
+
+        private final FileChannel target;
+        private final CRC32 crc = new CRC32();
+
+        ChecksumChannel(FileChannel target) {
+            this.target = target;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            ByteBuffer written = src.duplicate();
+            int n = target.write(src);
+            written.limit(written.position() + n);
+            crc.update(written);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return target.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // the underlying channel is closed by its owner
+        }
+    }
+}
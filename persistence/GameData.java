@@ -6,7 +6,6 @@ import java.util.Collections;
 import java.util.List;
 
 import model.core.Player;
-import model.core.HallOfFameEntry;
 import model.util.GameException;
 import model.util.InputValidator;
 
@@ -20,6 +19,9 @@ import model.util.InputValidator;
  *
  * <p>Implements {@link Serializable} so it can be saved as a binary
  * stream, JSON, or any format chosen by {@code SaveLoadService}.</p>
+ *
+ * <p>The Hall of Fame is not part of it: {@link HallOfFameStore} is its
+ * only copy and is updated in place.</p>
  */
 public class GameData implements Serializable {
 
@@ -29,33 +31,30 @@ public class GameData implements Serializable {
     /* Fields (UML-specified)                                             */
     /* ------------------------------------------------------------------ */
 
-    // Lists of all players and Hall of Fame entries.
+    // List of all players.
     // Serialized directly now that model classes implement Serializable.
-    private List<Player>          allPlayers;
-    private List<HallOfFameEntry> hallOfFame;
+    private List<Player> allPlayers;
+
+    // Sequence of the last journal event already folded into this snapshot.
+    private long journalSequence;
 
     /* ------------------------------------------------------------------ */
     /* Constructors                                                       */
     /* ------------------------------------------------------------------ */
 
-    /** Creates an empty container (no players, no HoF). */
+    /** Creates an empty container (no players). */
     public GameData() {
         this.allPlayers = new ArrayList<>();
-        this.hallOfFame = new ArrayList<>();
     }
 
     /**
      * Full constructor.
      *
      * @param allPlayers  list of players (defensively copied, non-null)
-     * @param hallOfFame  list of hall-of-fame entries (non-null)
-     * @throws GameException if any argument is {@code null}
+     * @throws GameException if {@code allPlayers} is {@code null}
      */
-    public GameData(List<Player> allPlayers,
-                    List<HallOfFameEntry> hallOfFame) throws GameException {
-
+    public GameData(List<Player> allPlayers) throws GameException {
         setAllPlayers(allPlayers);
-        setHallOfFame(hallOfFame);
     }
 
     /* ------------------------------------------------------------------ */
@@ -66,10 +65,6 @@ public class GameData implements Serializable {
         return Collections.unmodifiableList(allPlayers);
     }
 
-    public List<HallOfFameEntry> getHallOfFame() {
-        return Collections.unmodifiableList(hallOfFame);
-    }
-
     /* ------------------------------------------------------------------ */
     /* Setters (defensive copy)                                           */
     /* ------------------------------------------------------------------ */
@@ -79,9 +74,31 @@ public class GameData implements Serializable {
         this.allPlayers = new ArrayList<>(players);
     }
 
-    public void setHallOfFame(List<HallOfFameEntry> entries) throws GameException {
-        InputValidator.requireNonNull(entries, "hallOfFame");
-        this.hallOfFame = new ArrayList<>(entries);
+    /* ------------------------------------------------------------------ */
+    /* Journal bookkeeping                                                */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the sequence number of the last {@link GameJournal} event
+     * contained in this snapshot; replay skips events at or below it.
+     *
+     * @return journal sequence (0 if no event has been folded in)
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Records which journal events this snapshot already contains.
+     *
+     * @param journalSequence last folded sequence (≥ 0)
+     * @throws GameException if {@code journalSequence} is negative
+     */
+    public void setJournalSequence(long journalSequence) throws GameException {
+        if (journalSequence < 0) {
+            throw new GameException("journalSequence must be ≥ 0.");
+        }
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -93,8 +110,5 @@ public class GameData implements Serializable {
         if (allPlayers == null) {
             allPlayers = new ArrayList<>();
         }
-        if (hallOfFame == null) {
-            hallOfFame = new ArrayList<>();
-        }
     }
 }
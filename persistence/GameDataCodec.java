@@ -0,0 +1,597 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.Character;
+import model.core.ClassType;
+import model.core.HallOfFameEntry;
+import model.core.Player;
+import model.core.RaceType;
+import model.item.Inventory;
+import model.item.MagicItem;
+import model.item.PassiveItem;
+import model.item.SingleUseEffectType;
+import model.item.SingleUseItem;
+import model.ranking.RatingEngine;
+import model.util.GameException;
+import model.util.StatusEffectType;
+
+/**
+ * Versioned binary codec for the save files written by {@link SaveLoadService}.
+ *
+ * <p>Layout (big-endian): a 4-byte magic, a 2-byte format version, then
+ * length-prefixed records.  Strings are UTF-8 with an {@code int} length
+ * (−1 for {@code null}); enums are stored by name so reordering constants
+ * does not corrupt old saves.  Only persistent state is written – status
+ * effects and stun flags are battle-scoped and start cleared on load.</p>
+ *
+ * <pre>
+ * game file : MAGIC_GAME  version  long journalSeq  int nPlayers  Player*
+ *             (versions 1-2 end with  int nEntries  HallOfFameEntry*, skipped on read)
+ * hof file  : MAGIC_HOF   version  int nEntries  HallOfFameEntry*
+ * wins file : MAGIC_WINS  version  int nDays  (long epochDay  int nEntries  HallOfFameEntry*)*
+ * ratings   : MAGIC_RATINGS  version  int nPlayers  (name  float rating  int games)*
+ *             int nMatches  (long time  int winnerId  int loserId)*
+ * Player    : name  int wins  int nChars  Character*
+ * Character : name  race  class  int nAbilities  Ability*
+ *             int level  int xp  int winCount  int maxHp  int hp  int maxEp  int ep
+ *             int nItems  MagicItem*  int invEquippedIdx  byte equipKind  [int idx | MagicItem]
+ * Ability   : name  description  int epCost  effectType  int effectValue  statusEffect?
+ * MagicItem : byte kind  name  description  rarity  [effectType  int effectValue]
+ * </pre>
+ */
+final class GameDataCodec {
+
+    /** "FFTG" – full {@link GameData} snapshot. */
+    static final int MAGIC_GAME = 0x46465447;
+
+    /** "FFTH" – stand-alone Hall of Fame list. */
+    static final int MAGIC_HOF = 0x46465448;
+
+    /** "FFTW" – per-day win buckets for the windowed leaderboards. */
+    static final int MAGIC_WINS = 0x46465457;
+
+    /** "FFTR" – Elo ratings and the match history they were computed from. */
+    static final int MAGIC_RATINGS = 0x46465452;
+
+    /**
+     * Current on-disk format version; 2 added the journal sequence to game
+     * files, 3 dropped their Hall of Fame copy.
+     */
+    static final short VERSION = 3;
+
+    private static final byte ITEM_PASSIVE = 0;
+    private static final byte ITEM_SINGLE_USE = 1;
+
+    private static final byte EQUIP_NONE = 0;
+    private static final byte EQUIP_INVENTORY = 1;
+    private static final byte EQUIP_INLINE = 2;
+
+    private GameDataCodec() {
+        // static utility
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Encoding                                                           */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Writes {@code data} to {@code channel} in the current format.
+     *
+     * @param data    snapshot to write (non-null)
+     * @param channel writable channel, normally a {@code FileChannel}
+     * @throws IOException if the channel write fails
+     */
+    static void writeGame(GameData data, WritableByteChannel channel) throws IOException {
+        Writer out = new Writer(channel);
+        out.putInt(MAGIC_GAME);
+        out.putShort(VERSION);
+        out.putLong(data.getJournalSequence());
+        List<Player> players = data.getAllPlayers();
+        out.putInt(players.size());
+        for (Player p : players) {
+            writePlayer(out, p);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a stand-alone Hall of Fame list to {@code channel}.
+     *
+     * @param entries entries to write (non-null)
+     * @param channel writable channel, normally a {@code FileChannel}
+     * @throws IOException if the channel write fails
+     */
+    static void writeHallOfFame(List<HallOfFameEntry> entries, WritableByteChannel channel) throws IOException {
+        Writer out = new Writer(channel);
+        out.putInt(MAGIC_HOF);
+        out.putShort(VERSION);
+        writeEntries(out, entries);
+        out.flush();
+    }
+
+    /**
+     * Writes per-day win buckets to {@code channel}.
+     *
+     * @param days    entries keyed by epoch day (non-null)
+     * @param channel writable channel, normally a {@code FileChannel}
+     * @throws IOException if the channel write fails
+     */
+    static void writeWinHistory(SortedMap<Long, List<HallOfFameEntry>> days, WritableByteChannel channel)
+            throws IOException {
+        Writer out = new Writer(channel);
+        out.putInt(MAGIC_WINS);
+        out.putShort(VERSION);
+        out.putInt(days.size());
+        for (Map.Entry<Long, List<HallOfFameEntry>> day : days.entrySet()) {
+            out.putLong(day.getKey());
+            writeEntries(out, day.getValue());
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes rating engine contents to {@code channel}.
+     *
+     * @param state   ratings and match history (non-null)
+     * @param channel writable channel, normally a {@code FileChannel}
+     * @throws IOException if the channel write fails
+     */
+    static void writeRatings(RatingEngine.State state, WritableByteChannel channel) throws IOException {
+        Writer out = new Writer(channel);
+        out.putInt(MAGIC_RATINGS);
+        out.putShort(VERSION);
+        out.putInt(state.names().size());
+        for (int i = 0; i < state.names().size(); i++) {
+            out.putString(state.names().get(i));
+            out.putInt(Float.floatToIntBits(state.ratings()[i]));
+            out.putInt(state.games()[i]);
+        }
+        out.putInt(state.matchTimes().length);
+        for (int i = 0; i < state.matchTimes().length; i++) {
+            out.putLong(state.matchTimes()[i]);
+            out.putInt(state.matchWinners()[i]);
+            out.putInt(state.matchLosers()[i]);
+        }
+        out.flush();
+    }
+
+    static void writePlayer(Writer out, Player p) throws IOException {
+        out.putString(p.getName());
+        out.putInt(p.getCumulativeWins());
+        List<Character> roster = p.getCharacters();
+        out.putInt(roster.size());
+        for (Character c : roster) {
+            writeCharacter(out, c);
+        }
+    }
+
+    private static void writeCharacter(Writer out, Character c) throws IOException {
+        out.putString(c.getName());
+        out.putString(c.getRaceType().name());
+        out.putString(c.getClassType().name());
+
+        List<Ability> abilities = c.getAbilities();
+        out.putInt(abilities.size());
+        for (Ability a : abilities) {
+            writeAbility(out, a);
+        }
+
+        out.putInt(c.getLevel());
+        out.putInt(c.getXp());
+        out.putInt(c.getWinCount());
+        out.putInt(c.getMaxHp());
+        out.putInt(c.getCurrentHp());
+        out.putInt(c.getMaxEp());
+        out.putInt(c.getCurrentEp());
+
+        Inventory inv = c.getInventory();
+        List<MagicItem> items = inv.getAllItems();
+        out.putInt(items.size());
+        for (MagicItem item : items) {
+            writeItem(out, item);
+        }
+        out.putInt(indexOf(items, inv.getEquippedItem()));
+
+        MagicItem equipped = c.getEquippedItem();
+        int idx = indexOf(items, equipped);
+        if (equipped == null) {
+            out.putByte(EQUIP_NONE);
+        } else if (idx >= 0) {
+            out.putByte(EQUIP_INVENTORY);
+            out.putInt(idx);
+        } else {
+            out.putByte(EQUIP_INLINE);
+            writeItem(out, equipped);
+        }
+    }
+
+    private static void writeAbility(Writer out, Ability a) throws IOException {
+        out.putString(a.getName());
+        out.putString(a.getDescription());
+        out.putInt(a.getEpCost());
+        out.putString(a.getAbilityEffectType().name());
+        out.putInt(a.getEffectValue());
+        StatusEffectType status = a.getStatusEffectApplied();
+        out.putString(status == null ? null : status.name());
+    }
+
+    static void writeItem(Writer out, MagicItem item) throws IOException {
+        if (item instanceof SingleUseItem su) {
+            out.putByte(ITEM_SINGLE_USE);
+            writeItemHeader(out, item);
+            out.putString(su.getEffectType().name());
+            out.putInt(su.getEffectValue());
+        } else {
+            out.putByte(ITEM_PASSIVE);
+            writeItemHeader(out, item);
+        }
+    }
+
+    private static void writeItemHeader(Writer out, MagicItem item) throws IOException {
+        out.putString(item.getName());
+        out.putString(item.getDescription());
+        out.putString(item.getRarity());
+    }
+
+    private static void writeEntries(Writer out, List<HallOfFameEntry> entries) throws IOException {
+        out.putInt(entries.size());
+        for (HallOfFameEntry e : entries) {
+            out.putString(e.getPlayerName());
+            out.putInt(e.getWins());
+        }
+    }
+
+    /** Identity lookup – items are compared by reference, not by name. */
+    private static int indexOf(List<MagicItem> items, MagicItem target) {
+        if (target == null) {
+            return -1;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Decoding                                                           */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Reads only the header of a game file and returns its journal sequence.
+     *
+     * @param buf at least the first 14 bytes of a game file
+     * @return folded journal sequence, or 0 for version-1 files
+     * @throws GameException if the header is not a game header
+     */
+    static long peekJournalSequence(ByteBuffer buf) throws GameException {
+        try {
+            return readHeader(buf, MAGIC_GAME) >= 2 ? buf.getLong() : 0L;
+        } catch (RuntimeException e) {
+            throw corrupt(e);
+        }
+    }
+
+    /**
+     * Returns the magic number at the start of {@code buf} without
+     * consuming it, or {@code 0} if fewer than four bytes are present.
+     *
+     * @param buf file contents
+     * @return leading magic
+     */
+    static int peekMagic(ByteBuffer buf) {
+        return buf.remaining() >= Integer.BYTES ? buf.getInt(buf.position()) : 0;
+    }
+
+    /**
+     * Decodes a full game snapshot.
+     *
+     * @param buf file contents positioned at the magic
+     * @return decoded data
+     * @throws GameException if the header is wrong or the data is truncated/invalid
+     */
+    static GameData readGame(ByteBuffer buf) throws GameException {
+        try {
+            short version = readHeader(buf, MAGIC_GAME);
+            long journalSequence = version >= 2 ? buf.getLong() : 0L;
+            int nPlayers = readCount(buf);
+            List<Player> players = new ArrayList<>(nPlayers);
+            for (int i = 0; i < nPlayers; i++) {
+                players.add(readPlayer(buf));
+            }
+            if (version < 3) {
+                readEntries(buf); // Hall of Fame now lives only in HallOfFameStore
+            }
+            GameData data = new GameData(players);
+            data.setJournalSequence(journalSequence);
+            return data;
+        } catch (RuntimeException e) {
+            throw corrupt(e);
+        }
+    }
+
+    /**
+     * Decodes a stand-alone Hall of Fame list.
+     *
+     * @param buf file contents positioned at the magic
+     * @return mutable list of entries
+     * @throws GameException if the header is wrong or the data is truncated/invalid
+     */
+    static List<HallOfFameEntry> readHallOfFame(ByteBuffer buf) throws GameException {
+        try {
+            readHeader(buf, MAGIC_HOF);
+            return readEntries(buf);
+        } catch (RuntimeException e) {
+            throw corrupt(e);
+        }
+    }
+
+    /**
+     * Decodes per-day win buckets.
+     *
+     * @param buf file contents positioned at the magic
+     * @return entries keyed by epoch day, oldest first
+     * @throws GameException if the header is wrong or the data is truncated/invalid
+     */
+    static SortedMap<Long, List<HallOfFameEntry>> readWinHistory(ByteBuffer buf) throws GameException {
+        try {
+            readHeader(buf, MAGIC_WINS);
+            int n = readCount(buf);
+            SortedMap<Long, List<HallOfFameEntry>> days = new TreeMap<>();
+            for (int i = 0; i < n; i++) {
+                long day = buf.getLong();
+                days.put(day, readEntries(buf));
+            }
+            return days;
+        } catch (RuntimeException e) {
+            throw corrupt(e);
+        }
+    }
+
+    /**
+     * Decodes rating engine contents.
+     *
+     * @param buf file contents positioned at the magic
+     * @return decoded state
+     * @throws GameException if the header is wrong or the data is truncated/invalid
+     */
+    static RatingEngine.State readRatings(ByteBuffer buf) throws GameException {
+        try {
+            readHeader(buf, MAGIC_RATINGS);
+            int n = readCount(buf);
+            List<String> names = new ArrayList<>(n);
+            float[] ratings = new float[n];
+            int[] games = new int[n];
+            for (int i = 0; i < n; i++) {
+                names.add(readString(buf));
+                ratings[i] = Float.intBitsToFloat(buf.getInt());
+                games[i] = buf.getInt();
+            }
+            int m = readCount(buf);
+            long[] times = new long[m];
+            int[] winners = new int[m];
+            int[] losers = new int[m];
+            for (int i = 0; i < m; i++) {
+                times[i] = buf.getLong();
+                winners[i] = buf.getInt();
+                losers[i] = buf.getInt();
+            }
+            return new RatingEngine.State(names, ratings, games, times, winners, losers);
+        } catch (RuntimeException e) {
+            throw corrupt(e);
+        }
+    }
+
+    private static short readHeader(ByteBuffer buf, int magic) throws GameException {
+        if (buf.getInt() != magic) {
+            throw new GameException("Unrecognised save file format.");
+        }
+        short version = buf.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new GameException("Unsupported save file version " + version + ".");
+        }
+        return version;
+    }
+
+    static Player readPlayer(ByteBuffer buf) throws GameException {
+        Player p = new Player(readString(buf));
+        p.restoreCumulativeWins(buf.getInt());
+        int nChars = readCount(buf);
+        for (int i = 0; i < nChars; i++) {
+            p.addCharacter(readCharacter(buf));
+        }
+        return p;
+    }
+
+    private static Character readCharacter(ByteBuffer buf) throws GameException {
+        String name = readString(buf);
+        RaceType race = RaceType.valueOf(readString(buf));
+        ClassType classType = ClassType.valueOf(readString(buf));
+
+        int nAbilities = readCount(buf);
+        List<Ability> abilities = new ArrayList<>(nAbilities);
+        for (int i = 0; i < nAbilities; i++) {
+            abilities.add(readAbility(buf));
+        }
+
+        Character c = new Character(name, race, classType, abilities);
+        int level = buf.getInt();
+        int xp = buf.getInt();
+        int winCount = buf.getInt();
+        int maxHp = buf.getInt();
+        int hp = buf.getInt();
+        int maxEp = buf.getInt();
+        int ep = buf.getInt();
+        c.restoreState(level, xp, winCount, maxHp, hp, maxEp, ep);
+
+        Inventory inv = c.getInventory();
+        int nItems = readCount(buf);
+        List<MagicItem> items = new ArrayList<>(nItems);
+        for (int i = 0; i < nItems; i++) {
+            MagicItem item = readItem(buf);
+            items.add(item);
+            inv.addItem(item);
+        }
+        int invEquipped = buf.getInt();
+        if (invEquipped >= 0) {
+            inv.equipItem(items.get(invEquipped));
+        }
+
+        switch (buf.get()) {
+            case EQUIP_NONE -> { }
+            case EQUIP_INVENTORY -> c.equipItem(items.get(buf.getInt()));
+            case EQUIP_INLINE -> c.equipItem(readItem(buf));
+            default -> throw new GameException("Invalid equipment marker for " + name + ".");
+        }
+        return c;
+    }
+
+    private static Ability readAbility(ByteBuffer buf) throws GameException {
+        String name = readString(buf);
+        String description = readString(buf);
+        int epCost = buf.getInt();
+        AbilityEffectType effect = AbilityEffectType.valueOf(readString(buf));
+        int effectValue = buf.getInt();
+        String status = readString(buf);
+        return new Ability(name, description, epCost, effect, effectValue,
+                status == null ? null : StatusEffectType.valueOf(status));
+    }
+
+    static MagicItem readItem(ByteBuffer buf) throws GameException {
+        byte kind = buf.get();
+        String name = readString(buf);
+        String description = readString(buf);
+        String rarity = readString(buf);
+        return switch (kind) {
+            case ITEM_PASSIVE -> new PassiveItem(name, description, rarity);
+            case ITEM_SINGLE_USE -> new SingleUseItem(name, description, rarity,
+                    SingleUseEffectType.valueOf(readString(buf)), buf.getInt());
+            default -> throw new GameException("Invalid item kind " + kind + ".");
+        };
+    }
+
+    private static List<HallOfFameEntry> readEntries(ByteBuffer buf) throws GameException {
+        int n = readCount(buf);
+        List<HallOfFameEntry> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            entries.add(new HallOfFameEntry(readString(buf), buf.getInt()));
+        }
+        return entries;
+    }
+
+    private static int readCount(ByteBuffer buf) throws GameException {
+        int n = buf.getInt();
+        if (n < 0 || n > buf.remaining()) {
+            throw new GameException("Invalid record count " + n + ".");
+        }
+        return n;
+    }
+
+    static String readString(ByteBuffer buf) throws GameException {
+        int len = buf.getInt();
+        if (len == -1) {
+            return null;
+        }
+        if (len < 0 || len > buf.remaining()) {
+            throw new GameException("Invalid string length " + len + ".");
+        }
+        String s = new String(buf.array(), buf.arrayOffset() + buf.position(), len, StandardCharsets.UTF_8);
+        buf.position(buf.position() + len);
+        return s;
+    }
+
+    private static GameException corrupt(RuntimeException e) {
+        if (e instanceof GameException ge) {
+            return new GameException("Corrupt save file: " + ge.getMessage(), ge);
+        }
+        return new GameException("Corrupt save file.", e);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Buffered channel writer                                            */
+    /* ------------------------------------------------------------------ */
+
+    /** Accumulates primitives in a heap buffer and drains it to the channel when full. */
+    static final class Writer {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buf;
+
+        Writer(WritableByteChannel channel) {
+            this(channel, BUFFER_SIZE);
+        }
+
+        Writer(WritableByteChannel channel, int bufferSize) {
+            this.channel = channel;
+            this.buf = ByteBuffer.allocate(bufferSize);
+        }
+
+        void putByte(byte v) throws IOException {
+            ensure(Byte.BYTES);
+            buf.put(v);
+        }
+
+        void putShort(short v) throws IOException {
+            ensure(Short.BYTES);
+            buf.putShort(v);
+        }
+
+        void putInt(int v) throws IOException {
+            ensure(Integer.BYTES);
+            buf.putInt(v);
+        }
+
+        void putLong(long v) throws IOException {
+            ensure(Long.BYTES);
+            buf.putLong(v);
+        }
+
+        void putString(String s) throws IOException {
+            if (s == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            if (bytes.length > buf.capacity()) {
+                flush();
+                drain(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensure(bytes.length);
+            buf.put(bytes);
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            drain(buf);
+            buf.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buf.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void drain(ByteBuffer src) throws IOException {
+            while (src.hasRemaining()) {
+                channel.write(src);
+            }
+        }
+    }
+}
@@ -0,0 +1,729 @@
+package persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import model.core.Character;
+import model.core.Player;
+import model.item.MagicItem;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Append-only write-ahead journal of small game changes.
+ *
+ * <p>Registrations, deletions, wins, item grants and trades are appended as
+ * self-checking records instead of rewriting the whole save, so each
+ * change costs O(change).  The full picture is always
+ * <em>snapshot + journal</em>:</p>
+ * <ul>
+ *   <li>{@link #load()} reads the snapshot and replays every record whose
+ *       sequence is newer than the one stamped into the snapshot.</li>
+ *   <li>{@link #checkpoint(GameData)} writes a full snapshot and empties
+ *       the journal.  For a save on another thread, {@link #capture(GameData)}
+ *       copies the state and its sequence where the state is owned, and
+ *       {@link #checkpointCaptured(GameData)} later drops only the records
+ *       that copy contains.</li>
+ *   <li>After {@link #COMPACT_THRESHOLD} appends, a background thread folds
+ *       the journal into the snapshot without blocking appenders for the
+ *       replay.</li>
+ * </ul>
+ *
+ * <p>Record layout: {@code int bodyLength | long sequence | byte type |
+ * payload | int crc32(body)}.  Appends reach the OS immediately; fsync is
+ * batched and runs at most {@link #SYNC_DELAY_MS} later, or on
+ * {@link #flush()}.  On open, a torn or corrupt tail left by a crash is
+ * truncated and every intact record before it is kept.  Records are only
+ * ever appended, so a crash mid-write can no longer damage data that was
+ * already saved.</p>
+ *
+ * <p>All public methods are thread-safe.</p>
+ */
+public final class GameJournal implements AutoCloseable {
+
+    /** Appends after which the journal is folded into the snapshot. */
+    public static final int COMPACT_THRESHOLD = 256;
+
+    /** Longest an appended record waits for its batched fsync. */
+    public static final long SYNC_DELAY_MS = 50;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int CRC_BYTES = Integer.BYTES;
+    private static final int MIN_BODY = Long.BYTES + Byte.BYTES;
+    private static final int PAYLOAD_BUFFER = 512;
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+
+    /** Serialises snapshot rewrites (checkpoint, compaction) and full loads. */
+    private final Object snapshotLock = new Object();
+
+    /** Sequence of the last snapshot written from live state; guarded by {@link #snapshotLock}. */
+    private long liveCheckpoint = -1;
+
+    /** Guards the channel and every field below it. */
+    private final Object appendLock = new Object();
+
+    /** Runs batched fsyncs and compactions. */
+    private final ScheduledExecutorService background;
+
+    private FileChannel channel;
+    private long lastSequence;
+    private int uncompacted;
+    private boolean syncScheduled;
+    private boolean compactionScheduled;
+    private boolean closed;
+
+    /* captures not yet superseded by a captured checkpoint pin the journal from pinnedSequence on */
+    private boolean pinned;
+    private long pinnedSequence;
+    private long latestCapture;
+
+    /**
+     * Creates a journal for {@code snapshotPath}; files are opened on first use.
+     *
+     * @param snapshotPath full save written by {@link #checkpoint(GameData)} (non-null)
+     * @param journalPath  append-only event file (non-null)
+     * @throws GameException if either path is {@code null}
+     */
+    public GameJournal(Path snapshotPath, Path journalPath) throws GameException {
+        InputValidator.requireNonNull(snapshotPath, "snapshotPath");
+        InputValidator.requireNonNull(journalPath, "journalPath");
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.background = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "game-journal");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Domain events                                                      */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Records that {@code player} (with its current roster) joined the save.
+     *
+     * @param player newly registered player (non-null)
+     * @throws GameException if the append fails
+     */
+    public void recordPlayerRegistered(Player player) throws GameException {
+        InputValidator.requireNonNull(player, "player");
+        append(JournalEventType.PLAYER_REGISTERED, out -> GameDataCodec.writePlayer(out, player));
+    }
+
+    /**
+     * Records that the player named {@code playerName} was deleted.
+     *
+     * @param playerName deleted player (non-blank)
+     * @throws GameException if the append fails
+     */
+    public void recordPlayerRemoved(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        append(JournalEventType.PLAYER_REMOVED, out -> out.putString(playerName));
+    }
+
+    /**
+     * Records that {@code owner}'s character {@code characterName} was deleted.
+     *
+     * @param owner         player owning the character (non-null)
+     * @param characterName deleted character (non-blank)
+     * @throws GameException if the append fails
+     */
+    public void recordCharacterRemoved(Player owner, String characterName) throws GameException {
+        InputValidator.requireNonNull(owner, "owner");
+        InputValidator.requireNonBlank(characterName, "characterName");
+        append(JournalEventType.CHARACTER_REMOVED, out -> {
+            out.putString(owner.getName());
+            out.putString(characterName);
+        });
+    }
+
+    /**
+     * Records one cumulative win for {@code player}.  The Hall of Fame is
+     * kept by {@link HallOfFameStore}, not here.
+     *
+     * @param player winning player (non-null)
+     * @throws GameException if the append fails
+     */
+    public void recordWin(Player player) throws GameException {
+        InputValidator.requireNonNull(player, "player");
+        append(JournalEventType.WIN_RECORDED, out -> out.putString(player.getName()));
+    }
+
+    /**
+     * Records one win for {@code character}, owned by {@code owner}.
+     *
+     * @param owner     player owning the character (non-null)
+     * @param character winning character (non-null)
+     * @throws GameException if the append fails
+     */
+    public void recordCharacterWin(Player owner, Character character) throws GameException {
+        InputValidator.requireNonNull(owner, "owner");
+        InputValidator.requireNonNull(character, "character");
+        append(JournalEventType.CHARACTER_WIN_RECORDED, out -> {
+            out.putString(owner.getName());
+            out.putString(character.getName());
+        });
+    }
+
+    /**
+     * Records that {@code item} was added to {@code character}'s inventory.
+     *
+     * @param owner     player owning the character (non-null)
+     * @param character receiving character (non-null)
+     * @param item      granted item (non-null)
+     * @throws GameException if the append fails
+     */
+    public void recordItemGranted(Player owner, Character character, MagicItem item) throws GameException {
+        InputValidator.requireNonNull(owner, "owner");
+        InputValidator.requireNonNull(character, "character");
+        InputValidator.requireNonNull(item, "item");
+        append(JournalEventType.ITEM_GRANTED, out -> {
+            out.putString(owner.getName());
+            out.putString(character.getName());
+            GameDataCodec.writeItem(out, item);
+        });
+    }
+
+    /**
+     * Records a one-for-one item swap.  Items are identified by their
+     * inventory index <em>before</em> the trade.
+     *
+     * @param ownerA     owner of {@code a} (non-null)
+     * @param a          first character (non-null)
+     * @param aItemIndex index of the item {@code a} gives away (≥ 0)
+     * @param ownerB     owner of {@code b} (non-null)
+     * @param b          second character (non-null)
+     * @param bItemIndex index of the item {@code b} gives away (≥ 0)
+     * @throws GameException if validation or the append fails
+     */
+    public void recordTrade(Player ownerA, Character a, int aItemIndex,
+                            Player ownerB, Character b, int bItemIndex) throws GameException {
+        InputValidator.requireNonNull(ownerA, "ownerA");
+        InputValidator.requireNonNull(a, "character A");
+        InputValidator.requireNonNull(ownerB, "ownerB");
+        InputValidator.requireNonNull(b, "character B");
+        InputValidator.requirePositiveOrZero(aItemIndex, "aItemIndex");
+        InputValidator.requirePositiveOrZero(bItemIndex, "bItemIndex");
+        append(JournalEventType.TRADE_EXECUTED, out -> {
+            out.putString(ownerA.getName());
+            out.putString(a.getName());
+            out.putInt(aItemIndex);
+            out.putString(ownerB.getName());
+            out.putString(b.getName());
+            out.putInt(bItemIndex);
+        });
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Snapshot management                                                */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the snapshot with every journaled event applied.
+     *
+     * @return fresh game data (never {@code null})
+     * @throws GameException if the snapshot or journal cannot be read
+     */
+    public GameData load() throws GameException {
+        synchronized (snapshotLock) {
+            long upTo;
+            synchronized (appendLock) {
+                ensureOpen();
+                upTo = lastSequence;
+            }
+            return replay(upTo);
+        }
+    }
+
+    /**
+     * Writes {@code data} as the new snapshot and empties the journal.
+     * {@code data} must already reflect every event recorded so far,
+     * as the live game state does.
+     *
+     * @param data complete game state (non-null); its journal sequence is stamped
+     * @throws GameException if writing fails
+     */
+    public void checkpoint(GameData data) throws GameException {
+        InputValidator.requireNonNull(data, "gameData");
+        synchronized (snapshotLock) {
+            synchronized (appendLock) {
+                ensureOpen();
+                data.setJournalSequence(lastSequence);
+                SaveLoadService.writeSnapshot(data, snapshotPath);
+                liveCheckpoint = lastSequence;
+                if (pinned) {
+                    dropThrough(pinnedSequence); // a captured save still has to find its records
+                    return;
+                }
+                try {
+                    channel.truncate(0);
+                    channel.position(0);
+                    channel.force(false);
+                } catch (IOException e) {
+                    throw new GameException("Failed to reset game journal", e);
+                }
+                uncompacted = 0;
+            }
+        }
+    }
+
+    /**
+     * Copies {@code live} for a later {@link #checkpointCaptured(GameData)}
+     * on another thread.  Call it on the thread that owns the live state;
+     * the copy shares no objects with it and is stamped with the sequence
+     * of the last event recorded so far.  Until a captured checkpoint at
+     * least this new has been written, no record after the capture is
+     * dropped from the journal.
+     *
+     * @param live current game state (non-null), reflecting every event recorded so far
+     * @return detached copy stamped with its journal sequence
+     * @throws GameException if the state cannot be encoded
+     */
+    public GameData capture(GameData live) throws GameException {
+        InputValidator.requireNonNull(live, "gameData");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(PAYLOAD_BUFFER);
+        long sequence;
+        synchronized (appendLock) {
+            ensureOpen();
+            sequence = lastSequence;
+            try {
+                GameDataCodec.writeGame(live, Channels.newChannel(bytes));
+            } catch (IOException e) {
+                throw new GameException("Failed to copy game data", e);
+            }
+            if (!pinned) {
+                pinned = true;
+                pinnedSequence = sequence;
+            }
+            latestCapture = sequence;
+        }
+        GameData copy = GameDataCodec.readGame(ByteBuffer.wrap(bytes.toByteArray()));
+        copy.setJournalSequence(sequence);
+        return copy;
+    }
+
+    /**
+     * Writes a copy made by {@link #capture(GameData)} as the new snapshot
+     * and drops the journal records it contains.  Records appended after
+     * the capture are kept and replay on top of it.  A copy older than the
+     * last {@link #checkpoint(GameData)} is not written, since that
+     * snapshot already holds everything the copy does.
+     *
+     * @param snapshot captured state (non-null)
+     * @throws GameException if writing fails
+     */
+    public void checkpointCaptured(GameData snapshot) throws GameException {
+        InputValidator.requireNonNull(snapshot, "gameData");
+        long upTo = snapshot.getJournalSequence();
+        synchronized (snapshotLock) {
+            boolean stale = upTo < liveCheckpoint;
+            if (!stale) {
+                SaveLoadService.writeSnapshot(snapshot, snapshotPath);
+            }
+            synchronized (appendLock) {
+                if (pinned && upTo >= latestCapture) {
+                    pinned = false;
+                }
+                long through = stale ? liveCheckpoint : upTo;
+                dropThrough(pinned ? Math.min(through, pinnedSequence) : through);
+            }
+        }
+    }
+
+    /**
+     * Forces every appended record to stable storage now.
+     *
+     * @throws GameException if the sync fails
+     */
+    public void flush() throws GameException {
+        FileChannel ch;
+        synchronized (appendLock) {
+            ensureOpen();
+            ch = channel;
+        }
+        try {
+            ch.force(false);
+        } catch (IOException e) {
+            throw new GameException("Failed to sync game journal", e);
+        }
+    }
+
+    /**
+     * Folds every record appended so far into the snapshot and drops them
+     * from the journal.  Appends may continue while the replay runs.
+     *
+     * @throws GameException if reading or writing fails
+     */
+    void compact() throws GameException {
+        synchronized (snapshotLock) {
+            long upTo;
+            synchronized (appendLock) {
+                ensureOpen();
+                upTo = lastSequence;
+            }
+            GameData folded = replay(upTo);
+            folded.setJournalSequence(upTo);
+            SaveLoadService.writeSnapshot(folded, snapshotPath);
+            synchronized (appendLock) {
+                dropThrough(pinned ? Math.min(upTo, pinnedSequence) : upTo);
+            }
+        }
+    }
+
+    /**
+     * Syncs outstanding records and stops the background thread.  Further
+     * calls on this journal fail.
+     */
+    @Override
+    public void close() {
+        background.shutdown();
+        try {
+            background.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (appendLock) {
+            closed = true;
+            if (channel != null) {
+                try {
+                    channel.force(false);
+                    channel.close();
+                } catch (IOException e) {
+                    System.err.println("Failed to close game journal: " + e.getMessage());
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Appending                                                          */
+    /* ------------------------------------------------------------------ */
+
+    /** Encodes an event payload. */
+    @FunctionalInterface
+    private interface Payload {
+        void write(GameDataCodec.Writer out) throws IOException;
+    }
+
+    private void append(JournalEventType type, Payload payload) throws GameException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            GameDataCodec.Writer out = new GameDataCodec.Writer(Channels.newChannel(bytes), PAYLOAD_BUFFER);
+            payload.write(out);
+            out.flush();
+        } catch (IOException e) {
+            throw new GameException("Failed to encode journal event", e);
+        }
+
+        synchronized (appendLock) {
+            ensureOpen();
+            long seq = lastSequence + 1;
+            ByteBuffer frame = frame(seq, type, bytes.toByteArray());
+            try {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (IOException e) {
+                throw new GameException("Failed to append to game journal", e);
+            }
+            lastSequence = seq;
+            scheduleSync();
+            if (++uncompacted >= COMPACT_THRESHOLD && !compactionScheduled && !pinned) {
+                compactionScheduled = true;
+                background.execute(this::compactInBackground);
+            }
+        }
+    }
+
+    private static ByteBuffer frame(long seq, JournalEventType type, byte[] payload) {
+        int bodyLength = MIN_BODY + payload.length;
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + bodyLength + CRC_BYTES);
+        frame.putInt(bodyLength).putLong(seq).put(type.getCode()).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(frame.array(), LENGTH_BYTES, bodyLength);
+        frame.putInt((int) crc.getValue());
+        return frame.flip();
+    }
+
+    /** Must hold {@link #appendLock}. */
+    private void scheduleSync() {
+        if (syncScheduled) {
+            return;
+        }
+        syncScheduled = true;
+        background.schedule(this::syncInBackground, SYNC_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void syncInBackground() {
+        FileChannel ch;
+        synchronized (appendLock) {
+            syncScheduled = false;
+            ch = channel;
+        }
+        if (ch == null) {
+            return;
+        }
+        try {
+            ch.force(false); // outside the lock so appenders are not held up by the disk
+        } catch (IOException e) {
+            // channel swapped by compaction or closed: its replacement was forced already
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (GameException e) {
+            System.err.println("Game journal compaction failed: " + e.getMessage());
+        } finally {
+            synchronized (appendLock) {
+                compactionScheduled = false;
+            }
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* File handling                                                      */
+    /* ------------------------------------------------------------------ */
+
+    /** Opens the journal on first use, truncating any torn tail.  Must hold {@link #appendLock}. */
+    private void ensureOpen() throws GameException {
+        if (closed) {
+            throw new GameException("Game journal is closed.");
+        }
+        if (channel != null) {
+            return;
+        }
+        try {
+            FileChannel ch = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long last = 0;
+            int count = 0;
+            int validEnd = 0;
+            if (ch.size() > 0) {
+                ByteBuffer buf = SaveLoadService.readFully(journalPath);
+                Frame f;
+                while ((f = nextFrame(buf)) != null) {
+                    last = f.sequence();
+                    validEnd = f.end();
+                    count++;
+                }
+            }
+            if (validEnd < ch.size()) {
+                ch.truncate(validEnd); // torn or corrupt tail from an interrupted write
+                ch.force(false);
+            }
+            ch.position(validEnd);
+            channel = ch;
+            lastSequence = Math.max(last, SaveLoadService.readSnapshotSequence(snapshotPath));
+            uncompacted = count;
+        } catch (IOException e) {
+            throw new GameException("Failed to open game journal", e);
+        }
+    }
+
+    /** Rewrites the journal keeping only records newer than {@code upTo}.  Must hold {@link #appendLock}. */
+    private void dropThrough(long upTo) throws GameException {
+        ensureOpen();
+        Path tmp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        try {
+            ByteBuffer buf = SaveLoadService.readFully(journalPath);
+            int keepFrom = 0;
+            int kept = 0;
+            Frame f;
+            while ((f = nextFrame(buf)) != null) {
+                if (f.sequence() <= upTo) {
+                    keepFrom = f.end();
+                } else {
+                    kept++;
+                }
+            }
+            ByteBuffer tail = buf.duplicate().limit(buf.position()).position(keepFrom);
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (tail.hasRemaining()) {
+                    out.write(tail);
+                }
+                out.force(true);
+            }
+            channel.close();
+            channel = null;
+            Files.move(tmp, journalPath, StandardCopyOption.ATOMIC_MOVE);
+            FileChannel ch = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ch.position(ch.size());
+            channel = ch;
+            uncompacted = kept;
+        } catch (IOException e) {
+            throw new GameException("Failed to compact game journal", e);
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Replay                                                             */
+    /* ------------------------------------------------------------------ */
+
+    /** Intact record; {@code payload} is positioned at the first payload byte. */
+    private record Frame(long sequence, JournalEventType type, ByteBuffer payload, int end) { }
+
+    /**
+     * Decodes the record at the buffer position and advances past it.
+     *
+     * @return the record, or {@code null} at end of data or at a torn/corrupt record
+     */
+    private static Frame nextFrame(ByteBuffer buf) {
+        int start = buf.position();
+        if (buf.remaining() < LENGTH_BYTES) {
+            return null;
+        }
+        int bodyLength = buf.getInt(start);
+        if (bodyLength < MIN_BODY || bodyLength > buf.remaining() - LENGTH_BYTES - CRC_BYTES) {
+            return null;
+        }
+        int bodyStart = start + LENGTH_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), buf.arrayOffset() + bodyStart, bodyLength);
+        if ((int) crc.getValue() != buf.getInt(bodyStart + bodyLength)) {
+            return null;
+        }
+        JournalEventType type = JournalEventType.fromCode(buf.get(bodyStart + Long.BYTES));
+        if (type == null) {
+            return null;
+        }
+        int end = bodyStart + bodyLength + CRC_BYTES;
+        buf.position(end);
+        return new Frame(buf.getLong(bodyStart), type,
+                buf.slice(bodyStart + MIN_BODY, bodyLength - MIN_BODY), end);
+    }
+
+    private GameData replay(long upTo) throws GameException {
+        GameData data = SaveLoadService.readSnapshot(snapshotPath);
+        ByteBuffer buf;
+        try {
+            buf = SaveLoadService.readFully(journalPath);
+        } catch (NoSuchFileException e) {
+            return data;
+        } catch (IOException e) {
+            throw new GameException("Failed to read game journal", e);
+        }
+
+        List<Player> players = new ArrayList<>(data.getAllPlayers());
+        long base = data.getJournalSequence();
+        long folded = base;
+        Frame f;
+        while ((f = nextFrame(buf)) != null && f.sequence() <= upTo) {
+            if (f.sequence() > base) {
+                apply(f, players);
+                folded = f.sequence();
+            }
+        }
+        data.setAllPlayers(players);
+        data.setJournalSequence(folded);
+        return data;
+    }
+
+    private static void apply(Frame f, List<Player> players) throws GameException {
+        ByteBuffer in = f.payload();
+        try {
+            switch (f.type()) {
+                case PLAYER_REGISTERED -> {
+                    Player p = GameDataCodec.readPlayer(in);
+                    if (findPlayer(players, p.getName()) == null) {
+                        players.add(p);
+                    }
+                }
+                case WIN_RECORDED -> {
+                    Player p = findPlayer(players, GameDataCodec.readString(in));
+                    if (p != null) {
+                        p.incrementWins();
+                    }
+                }
+                case ITEM_GRANTED -> {
+                    Character c = findCharacter(players, in);
+                    MagicItem item = GameDataCodec.readItem(in);
+                    if (c != null) {
+                        c.getInventory().addItem(item);
+                    }
+                }
+                case TRADE_EXECUTED -> {
+                    Character a = findCharacter(players, in);
+                    int aIndex = in.getInt();
+                    Character b = findCharacter(players, in);
+                    int bIndex = in.getInt();
+                    swap(a, aIndex, b, bIndex);
+                }
+                case CHARACTER_WIN_RECORDED -> {
+                    Character c = findCharacter(players, in);
+                    if (c != null) {
+                        c.recordWin();
+                    }
+                }
+                case PLAYER_REMOVED -> {
+                    Player p = findPlayer(players, GameDataCodec.readString(in));
+                    if (p != null) {
+                        players.remove(p);
+                    }
+                }
+                case CHARACTER_REMOVED -> {
+                    Player owner = findPlayer(players, GameDataCodec.readString(in));
+                    String characterName = GameDataCodec.readString(in);
+                    if (owner != null) {
+                        owner.removeCharacter(characterName);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new GameException("Corrupt journal event #" + f.sequence() + ".", e);
+        }
+    }
+
+    /** Mirrors {@code TradeController.executeTrade}; skipped if either side is gone. */
+    private static void swap(Character a, int aIndex, Character b, int bIndex) {
+        if (a == null || b == null) {
+            return;
+        }
+        List<MagicItem> aItems = a.getInventory().getAllItems();
+        List<MagicItem> bItems = b.getInventory().getAllItems();
+        if (aIndex >= aItems.size() || bIndex >= bItems.size()) {
+            return;
+        }
+        MagicItem aItem = aItems.get(aIndex);
+        MagicItem bItem = bItems.get(bIndex);
+        a.getInventory().removeItem(aItem);
+        b.getInventory().addItem(aItem);
+        b.getInventory().removeItem(bItem);
+        a.getInventory().addItem(bItem);
+    }
+
+    private static Player findPlayer(List<Player> players, String name) {
+        for (Player p : players) {
+            if (p.getName().equalsIgnoreCase(name)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    private static Character findCharacter(List<Player> players, ByteBuffer in) throws GameException {
+        Player owner = findPlayer(players, GameDataCodec.readString(in));
+        String characterName = GameDataCodec.readString(in);
+        return owner == null ? null : owner.getCharacter(characterName).orElse(null);
+    }
+}
@@ -0,0 +1,283 @@
+package persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import model.core.Character;
+import model.core.Player;
+import model.item.MagicItem;
+import model.ranking.CharacterLeaderboard;
+import model.ranking.ResultBatch;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Authoritative in-memory copy of the saved game.
+ *
+ * <p>The save is read from disk once; afterwards lookups are served from
+ * memory through a case-insensitive name index, and every change is written
+ * through to the {@link GameJournal} as it happens.  Controllers hold the
+ * same {@link Player} instances the repository does, so roster edits made
+ * through them are included in the next full save.</p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+public final class GameRepository {
+
+    /** Number of characters kept on the character leaderboard. */
+    public static final int TOP_CHARACTERS = 10;
+
+    private final GameJournal journal;
+    private final CharacterLeaderboard characterLeaderboard = new CharacterLeaderboard(TOP_CHARACTERS);
+
+    /* guarded by this */
+    private final List<Player> players = new ArrayList<>();
+    private final Map<String, Player> byName = new HashMap<>();
+
+    /**
+     * Loads the saved game through {@code journal}.
+     *
+     * @param journal journal of the save to mirror (non-null)
+     * @throws GameException if the save cannot be read
+     */
+    public GameRepository(GameJournal journal) throws GameException {
+        InputValidator.requireNonNull(journal, "journal");
+        this.journal = journal;
+        reload();
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Queries                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns every saved player in registration order.
+     *
+     * @return unmodifiable copy of the player list
+     */
+    public synchronized List<Player> getPlayers() {
+        return List.copyOf(players);
+    }
+
+    /**
+     * Finds a player by name, ignoring case.
+     *
+     * @param name player name (non-blank)
+     * @return the player, if saved
+     * @throws GameException if {@code name} is blank
+     */
+    public synchronized Optional<Player> findPlayer(String name) throws GameException {
+        InputValidator.requireNonBlank(name, "player name");
+        return Optional.ofNullable(byName.get(key(name)));
+    }
+
+    /**
+     * Returns whether a player with {@code name} (ignoring case) is saved.
+     *
+     * @param name player name (non-blank)
+     * @return {@code true} if the name is taken
+     * @throws GameException if {@code name} is blank
+     */
+    public synchronized boolean contains(String name) throws GameException {
+        InputValidator.requireNonBlank(name, "player name");
+        return byName.containsKey(key(name));
+    }
+
+
+    /**
+     * Returns the best characters by their own wins, kept current as wins
+     * are recorded rather than by scanning every roster.
+     *
+     * @return new list of at most {@link #TOP_CHARACTERS} standings, best first
+     */
+    public List<CharacterLeaderboard.Standing> getTopCharacters() {
+        return characterLeaderboard.top();
+    }
+
+    /**
+     * Returns a {@link GameData} view of the current state for a full save.
+     *
+     * @return new container over the current players
+     */
+    public synchronized GameData snapshot() {
+        return new GameData(players);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Write-through changes                                              */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Adds a new player and journals it.
+     *
+     * @param player player to add (non-null, name not yet taken)
+     * @throws GameException if the name is taken or the journal append fails
+     */
+    public synchronized void registerPlayer(Player player) throws GameException {
+        InputValidator.requireNonNull(player, "player");
+        String key = key(player.getName());
+        if (byName.containsKey(key)) {
+            throw new GameException("Player '" + player.getName() + "' already exists.");
+        }
+        journal.recordPlayerRegistered(player);
+        players.add(player);
+        byName.put(key, player);
+    }
+
+    /**
+     * Deletes a player and journals the removal.
+     *
+     * @param name player name (non-blank)
+     * @return {@code true} if a player was removed
+     * @throws GameException if {@code name} is blank or the journal append fails
+     */
+    public synchronized boolean removePlayer(String name) throws GameException {
+        InputValidator.requireNonBlank(name, "player name");
+        Player removed = byName.get(key(name));
+        if (removed == null) {
+            return false;
+        }
+        journal.recordPlayerRemoved(removed.getName());
+        byName.remove(key(name));
+        players.remove(removed);
+        characterLeaderboard.removePlayer(removed.getName());
+        return true;
+    }
+
+    /**
+     * Deletes one of {@code owner}'s characters and its leaderboard entry,
+     * and journals the removal.
+     *
+     * @param owner         player owning the character (non-null)
+     * @param characterName character to delete (non-blank)
+     * @return {@code true} if the character was removed
+     * @throws GameException if an argument is invalid or the journal append fails
+     */
+    public synchronized boolean removeCharacter(Player owner, String characterName) throws GameException {
+        InputValidator.requireNonNull(owner, "owner");
+        InputValidator.requireNonBlank(characterName, "character name");
+        if (owner.getCharacter(characterName).isEmpty()) {
+            return false;
+        }
+        journal.recordCharacterRemoved(owner, characterName);
+        owner.removeCharacter(characterName);
+        characterLeaderboard.removeCharacter(owner.getName(), characterName);
+        return true;
+    }
+
+    /**
+     * Journals a win the caller already applied to {@code player}.  The
+     * Hall of Fame credit goes to {@link HallOfFameStore} separately.
+     *
+     * @param player winning player (non-null)
+     * @throws GameException if the journal append fails
+     */
+    public synchronized void recordWin(Player player) throws GameException {
+        InputValidator.requireNonNull(player, "player");
+        journal.recordWin(player);
+    }
+
+    /**
+     * Journals a win the caller already applied to {@code character} and
+     * updates the character leaderboard.
+     *
+     * @param owner     player owning the character (non-null)
+     * @param character winning character (non-null)
+     * @throws GameException if the journal append fails
+     */
+    public synchronized void recordCharacterWin(Player owner, Character character) throws GameException {
+        journal.recordCharacterWin(owner, character);
+        characterLeaderboard.recordWin(owner.getName(), character.getName());
+    }
+
+    /**
+     * Applies a batch of results in one pass and persists them with a
+     * single full save instead of one journal event per win.  Results for
+     * players or characters that are not saved are skipped; the Hall of
+     * Fame is credited by the caller through {@link HallOfFameStore}.
+     *
+     * <p>All or nothing: if the save fails the wins are taken back off
+     * again, so the caller can retry the same batch without counting it
+     * twice.</p>
+     *
+     * @param batch aggregated results (non-null)
+     * @throws GameException if the save fails
+     */
+    public synchronized void applyResults(ResultBatch batch) throws GameException {
+        InputValidator.requireNonNull(batch, "batch");
+        addWins(batch, 1);
+        try {
+            journal.checkpoint(snapshot());
+        } catch (GameException e) {
+            addWins(batch, -1);
+            throw e;
+        }
+        for (int i = 0; i < batch.characterCount(); i++) {
+            Player owner = byName.get(key(batch.characterOwner(i)));
+            if (owner != null && owner.getCharacter(batch.characterName(i)).isPresent()) {
+                characterLeaderboard.recordWins(owner.getName(), batch.characterName(i), batch.characterWins(i));
+            }
+        }
+    }
+
+    /** Adds ({@code sign} 1) or takes back ({@code sign} -1) the wins of saved players and characters. */
+    private void addWins(ResultBatch batch, int sign) throws GameException {
+        for (int i = 0; i < batch.playerCount(); i++) {
+            Player p = byName.get(key(batch.playerName(i)));
+            if (p != null && batch.wins(i) != 0) {
+                p.restoreCumulativeWins(p.getCumulativeWins() + sign * batch.wins(i));
+            }
+        }
+        for (int i = 0; i < batch.characterCount(); i++) {
+            Player owner = byName.get(key(batch.characterOwner(i)));
+            Character c = owner == null ? null : owner.getCharacter(batch.characterName(i)).orElse(null);
+            if (c != null) {
+                c.restoreState(c.getLevel(), c.getXp(), c.getWinCount() + sign * batch.characterWins(i),
+                        c.getMaxHp(), c.getCurrentHp(), c.getMaxEp(), c.getCurrentEp());
+            }
+        }
+    }
+
+    /**
+     * Journals an item the caller already added to {@code character}.
+     *
+     * @see GameJournal#recordItemGranted(Player, Character, MagicItem)
+     */
+    public void recordItemGranted(Player owner, Character character, MagicItem item) throws GameException {
+        journal.recordItemGranted(owner, character, item);
+    }
+
+    /**
+     * Journals a trade the caller already performed.
+     *
+     * @see GameJournal#recordTrade(Player, Character, int, Player, Character, int)
+     */
+    public void recordTrade(Player ownerA, Character a, int aItemIndex,
+                            Player ownerB, Character b, int bItemIndex) throws GameException {
+        journal.recordTrade(ownerA, a, aItemIndex, ownerB, b, bItemIndex);
+    }
+
+    /**
+     * Discards the in-memory state and reads the save from disk again.
+     *
+     * @throws GameException if the save cannot be read
+     */
+    public synchronized void reload() throws GameException {
+        GameData data = journal.load();
+        players.clear();
+        byName.clear();
+        for (Player p : data.getAllPlayers()) {
+            players.add(p);
+            byName.put(key(p.getName()), p);
+        }
+        characterLeaderboard.reset(players);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
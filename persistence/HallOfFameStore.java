@@ -0,0 +1,419 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Memory-mapped Hall of Fame with fixed-size records.
+ *
+ * <p>The index file is a 16-byte header ({@code int MAGIC | int VERSION |
+ * int count | int flags}) followed by one 16-byte record per player:
+ * {@code int nameHash | int nameOffset | int nameLength | int wins}.  Names
+ * are appended as UTF-8 to a separate names file and never rewritten, so a
+ * record never moves once it exists.</p>
+ *
+ * <p>A name → slot index is built when the store is opened; after that a
+ * win is a single in-place {@code putInt} into the mapped record, and a new
+ * player is a name append plus one record write.  The record count in the
+ * header is bumped last, so a crash mid-append leaves at worst some unused
+ * name bytes.  Mapped writes reach the OS page cache immediately and survive
+ * a process crash; {@link #flush()} forces them to the device.</p>
+ *
+ * <p>{@link #replaceAll} never edits the live index: it appends the names
+ * and builds a complete new index in a temp file that is then renamed over
+ * the old one, so a crash leaves either the old or the new contents.  The
+ * {@link #isMigrated() migrated} flag records that the old whole-list file
+ * was imported; it is set only after the import is in place.</p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+public final class HallOfFameStore implements AutoCloseable {
+
+    /** "FFHI" – Hall of Fame index file. */
+    static final int MAGIC = 0x46464849;
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 16;
+
+    private static final int COUNT_OFFSET = 8;
+    private static final int FLAGS_OFFSET = 12;
+    private static final int MIGRATED = 1;
+    private static final int HASH_FIELD = 0;
+    private static final int NAME_OFFSET_FIELD = 4;
+    private static final int NAME_LENGTH_FIELD = 8;
+    private static final int WINS_FIELD = 12;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Path indexFile;
+    private final FileChannel namesChannel;
+
+    /* guarded by this */
+    private FileChannel indexChannel;
+    private MappedByteBuffer records;
+    private int capacity;
+    private int count;
+    private long namesEnd;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private HallOfFameStore(Path indexFile, FileChannel indexChannel, FileChannel namesChannel) {
+        this.indexFile = indexFile;
+        this.indexChannel = indexChannel;
+        this.namesChannel = namesChannel;
+    }
+
+    /**
+     * Opens (or creates) the store backed by {@code indexFile} and {@code namesFile}.
+     *
+     * @param indexFile fixed-record index file
+     * @param namesFile append-only player name file
+     * @return the opened store
+     * @throws GameException if the files cannot be opened or are not a Hall of Fame store
+     */
+    public static HallOfFameStore open(Path indexFile, Path namesFile) throws GameException {
+        InputValidator.requireNonNull(indexFile, "indexFile");
+        InputValidator.requireNonNull(namesFile, "namesFile");
+        FileChannel index = null;
+        FileChannel names = null;
+        try {
+            Path dir = indexFile.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            index = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            names = FileChannel.open(namesFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            HallOfFameStore store = new HallOfFameStore(indexFile, index, names);
+            store.load();
+            return store;
+        } catch (IOException | GameException e) {
+            closeQuietly(index);
+            closeQuietly(names);
+            if (e instanceof GameException ge) {
+                throw ge;
+            }
+            throw new GameException("Failed to open Hall of Fame store", e);
+        }
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Queries                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Returns the number of players with a record.
+     *
+     * @return record count
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Returns the recorded wins for {@code playerName}.
+     *
+     * @param playerName player name (non-blank, case-sensitive)
+     * @return wins, or {@code 0} if the player has no record
+     * @throws GameException if {@code playerName} is blank
+     */
+    public synchronized int getWins(String playerName) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        Integer slot = slots.get(playerName);
+        return slot == null ? 0 : records.getInt(recordOffset(slot) + WINS_FIELD);
+    }
+
+    /**
+     * Returns whether {@link #markMigrated()} has been called on these files.
+     *
+     * @return {@code true} once the old Hall of Fame file has been imported
+     */
+    public synchronized boolean isMigrated() {
+        return (records.getInt(FLAGS_OFFSET) & MIGRATED) != 0;
+    }
+
+    /**
+     * Returns every record as a new entry, in insertion order.
+     *
+     * @return mutable list of fresh entries
+     */
+    public synchronized List<HallOfFameEntry> entries() {
+        List<HallOfFameEntry> out = new ArrayList<>(count);
+        for (int slot = 0; slot < count; slot++) {
+            out.add(new HallOfFameEntry(names.get(slot), records.getInt(recordOffset(slot) + WINS_FIELD)));
+        }
+        return out;
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Updates                                                            */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Adds one win for {@code playerName}, creating its record if needed.
+     *
+     * @param playerName player name (non-blank, case-sensitive)
+     * @return the player's new win count
+     * @throws GameException if {@code playerName} is blank or the record cannot be written
+     */
+    public synchronized int addWin(String playerName) throws GameException {
+        return addWins(playerName, 1);
+    }
+
+    /**
+     * Adds {@code count} wins for {@code playerName} in one record write,
+     * creating its record if needed.  Nothing is forced to disk; batch
+     * callers follow a run of these with one {@link #flush()}.
+     *
+     * @param playerName player name (non-blank, case-sensitive)
+     * @param count      wins to add (&gt; 0)
+     * @return the player's new win count
+     * @throws GameException if the arguments are invalid or the record cannot be written
+     */
+    public synchronized int addWins(String playerName, int count) throws GameException {
+        InputValidator.requireNonBlank(playerName, "playerName");
+        InputValidator.requirePositive(count, "count");
+        ensureOpen();
+        Integer slot = slots.get(playerName);
+        if (slot == null) {
+            append(playerName, count);
+            return count;
+        }
+        int at = recordOffset(slot) + WINS_FIELD;
+        int wins = records.getInt(at) + count;
+        records.putInt(at, wins);
+        return wins;
+    }
+
+    /**
+     * Replaces every record with {@code entries}.  Used for imports and
+     * whole-list edits; wins should go through {@link #addWin}.  The new
+     * index is written to a temp file and renamed into place, so the old
+     * contents stay intact until the new ones are complete.
+     *
+     * @param entries new contents (non-null); duplicate names are summed
+     * @throws GameException if the files cannot be rewritten
+     */
+    public synchronized void replaceAll(List<HallOfFameEntry> entries) throws GameException {
+        InputValidator.requireNonNull(entries, "entries");
+        ensureOpen();
+        Map<String, Integer> merged = new LinkedHashMap<>();
+        for (HallOfFameEntry entry : entries) {
+            merged.merge(entry.getPlayerName(), entry.getWins(), Integer::sum);
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, merged.size());
+        ByteBuffer index = ByteBuffer.allocate(HEADER_BYTES + newCapacity * RECORD_BYTES);
+        index.putInt(0, MAGIC).putInt(4, VERSION).putInt(COUNT_OFFSET, merged.size())
+             .putInt(FLAGS_OFFSET, records.getInt(FLAGS_OFFSET));
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            long at = namesEnd; // appended after the live names, which the old index still uses
+            int slot = 0;
+            for (Map.Entry<String, Integer> e : merged.entrySet()) {
+                byte[] encoded = e.getKey().getBytes(StandardCharsets.UTF_8);
+                ByteBuffer src = ByteBuffer.wrap(encoded);
+                long offset = at;
+                while (src.hasRemaining()) {
+                    at += namesChannel.write(src, at);
+                }
+                index.putInt(recordOffset(slot) + HASH_FIELD, e.getKey().hashCode())
+                     .putInt(recordOffset(slot) + NAME_OFFSET_FIELD, (int) offset)
+                     .putInt(recordOffset(slot) + NAME_LENGTH_FIELD, encoded.length)
+                     .putInt(recordOffset(slot) + WINS_FIELD, e.getValue());
+                slot++;
+            }
+            namesChannel.force(false);
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (index.hasRemaining()) {
+                    out.write(index);
+                }
+                out.force(true);
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+
+            FileChannel old = indexChannel;
+            indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            closeQuietly(old);
+            map(newCapacity);
+            namesEnd = at;
+            slots.clear();
+            names.clear();
+            for (String name : merged.keySet()) {
+                slots.put(name, names.size());
+                names.add(name);
+            }
+            count = names.size();
+        } catch (IOException e) {
+            throw new GameException("Failed to rewrite Hall of Fame store", e);
+        }
+    }
+
+    /**
+     * Sets the migrated flag and forces it to disk.  Call it only once the
+     * import it stands for has been written.
+     *
+     * @throws GameException if the store is closed or the flag cannot be synced
+     */
+    public synchronized void markMigrated() throws GameException {
+        ensureOpen();
+        records.putInt(FLAGS_OFFSET, records.getInt(FLAGS_OFFSET) | MIGRATED);
+        records.force();
+    }
+
+    /**
+     * Forces mapped record writes and appended names to the storage device.
+     *
+     * @throws GameException if the names file cannot be synced
+     */
+    public synchronized void flush() throws GameException {
+        ensureOpen();
+        try {
+            namesChannel.force(false);
+            records.force();
+        } catch (IOException e) {
+            throw new GameException("Failed to flush Hall of Fame store", e);
+        }
+    }
+
+    /**
+     * Flushes and closes both files.  The store cannot be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (!indexChannel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (GameException e) {
+            System.out.println("Hall of Fame flush failed: " + e.getMessage());
+        }
+        closeQuietly(namesChannel);
+        closeQuietly(indexChannel);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Internals                                                          */
+    /* ------------------------------------------------------------------ */
+
+    /** Maps the index file (initialising a new one) and rebuilds the name index. */
+    private void load() throws IOException, GameException {
+        long size = indexChannel.size();
+        if (size == 0) {
+            map(INITIAL_CAPACITY);
+            records.putInt(0, MAGIC).putInt(4, VERSION).putInt(COUNT_OFFSET, 0).putInt(FLAGS_OFFSET, 0);
+            return;
+        }
+        if (size < HEADER_BYTES) {
+            throw new GameException("Hall of Fame index is truncated.");
+        }
+        map((int) ((size - HEADER_BYTES) / RECORD_BYTES));
+        if (records.getInt(0) != MAGIC) {
+            throw new GameException("Not a Hall of Fame index file.");
+        }
+        if (records.getInt(4) != VERSION) {
+            throw new GameException("Unsupported Hall of Fame index version " + records.getInt(4) + ".");
+        }
+
+        namesEnd = namesChannel.size();
+        ByteBuffer nameBytes = ByteBuffer.allocate((int) namesEnd);
+        while (nameBytes.hasRemaining() && namesChannel.read(nameBytes, nameBytes.position()) >= 0) {
+            // positional read until full
+        }
+
+        int stored = Math.min(records.getInt(COUNT_OFFSET), capacity);
+        for (int slot = 0; slot < stored; slot++) {
+            int base = recordOffset(slot);
+            int offset = records.getInt(base + NAME_OFFSET_FIELD);
+            int length = records.getInt(base + NAME_LENGTH_FIELD);
+            if (offset < 0 || length <= 0 || (long) offset + length > namesEnd) {
+                break; // names file lost its tail; keep the records that still resolve
+            }
+            String name = new String(nameBytes.array(), offset, length, StandardCharsets.UTF_8);
+            if (name.hashCode() != records.getInt(base + HASH_FIELD)) {
+                break;
+            }
+            slots.put(name, slot);
+            names.add(name);
+        }
+        setCount(names.size());
+    }
+
+    /** Appends the name, then the record, then publishes it by bumping the count. */
+    private void append(String playerName, int wins) throws GameException {
+        byte[] encoded = playerName.getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteBuffer src = ByteBuffer.wrap(encoded);
+            long at = namesEnd;
+            while (src.hasRemaining()) {
+                at += namesChannel.write(src, at);
+            }
+            if (count == capacity) {
+                map(capacity * 2);
+            }
+        } catch (IOException e) {
+            throw new GameException("Failed to add Hall of Fame entry", e);
+        }
+        int base = recordOffset(count);
+        records.putInt(base + HASH_FIELD, playerName.hashCode())
+               .putInt(base + NAME_OFFSET_FIELD, (int) namesEnd)
+               .putInt(base + NAME_LENGTH_FIELD, encoded.length)
+               .putInt(base + WINS_FIELD, wins);
+        namesEnd += encoded.length;
+        slots.put(playerName, count);
+        names.add(playerName);
+        setCount(count + 1);
+    }
+
+    /** Maps room for {@code newCapacity} records, growing the file if necessary. */
+    private void map(int newCapacity) throws IOException {
+        capacity = Math.max(newCapacity, 1);
+        records = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_BYTES + (long) capacity * RECORD_BYTES);
+    }
+
+    private void setCount(int newCount) {
+        count = newCount;
+        records.putInt(COUNT_OFFSET, newCount);
+    }
+
+    private void ensureOpen() throws GameException {
+        if (!indexChannel.isOpen()) {
+            throw new GameException("Hall of Fame store is closed.");
+        }
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_BYTES + slot * RECORD_BYTES;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing useful to do
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package persistence;
+
+/**
+ * Domain events appended to the {@link GameJournal}.
+ *
+ * <p>The byte code of each literal is written to disk, so existing codes
+ * must never be renumbered; new events take the next free code.</p>
+ */
+public enum JournalEventType {
+
+    /** A player (with any starting roster) joined the save. */
+    PLAYER_REGISTERED(1),
+
+    /** A player's cumulative win count went up by one. */
+    WIN_RECORDED(2),
+
+    /** A magic item was added to a character's inventory. */
+    ITEM_GRANTED(3),
+
+    /** Two characters swapped one inventory item each. */
+    TRADE_EXECUTED(4),
+
+    /** A character's own win count went up by one. */
+    CHARACTER_WIN_RECORDED(5),
+
+    /** A player and their whole roster were deleted. */
+    PLAYER_REMOVED(6),
+
+    /** One character was deleted from its owner's roster. */
+    CHARACTER_REMOVED(7);
+
+    private final byte code;
+
+    JournalEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    /** @return stable on-disk code */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Looks up the event for an on-disk code.
+     *
+     * @param code byte read from the journal
+     * @return matching event type, or {@code null} if the code is unknown
+     */
+    public static JournalEventType fromCode(byte code) {
+        for (JournalEventType t : values()) {
+            if (t.code == code) {
+                return t;
+            }
+        }
+        return null;
+    }
+}
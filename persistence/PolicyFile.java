@@ -0,0 +1,148 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.util.GameException;
+import model.util.InputValidator;
+import model.util.PolicyTable;
+
+/**
+ * Compact binary file for a trained {@link PolicyTable}.
+ *
+ * <p>Layout: a header ({@code int MAGIC | int VERSION | int hpBuckets |
+ * int epBuckets | int statusBits | int setCount}), each ability set as
+ * {@code int size} followed by length-prefixed UTF-8 names, then
+ * {@code int tableLength} and one action byte per state.  Files are written
+ * through {@link AtomicSaveFile}, so they end with its checksum footer.</p>
+ *
+ * <p>{@link #map} verifies the checksum once and returns a table backed by
+ * a read-only mapping of the action bytes: the file is never copied to the
+ * heap, pages are loaded on first use and are shared by every process that
+ * maps the same file.</p>
+ */
+public final class PolicyFile {
+
+    /** "FFPT" – trained policy table. */
+    static final int MAGIC = 0x46465054;
+    static final int VERSION = 1;
+
+    private PolicyFile() {
+        // static utility
+    }
+
+    /**
+     * Atomically writes {@code table} to {@code file}.
+     *
+     * @param file  destination (parent folders are created)
+     * @param table policy to save (non-null)
+     * @throws GameException if the file cannot be written
+     */
+    public static void write(Path file, PolicyTable table) throws GameException {
+        InputValidator.requireNonNull(file, "file");
+        InputValidator.requireNonNull(table, "table");
+        try {
+            AtomicSaveFile.write(file, channel -> {
+                GameDataCodec.Writer out = new GameDataCodec.Writer(channel);
+                out.putInt(MAGIC);
+                out.putInt(VERSION);
+                out.putInt(PolicyTable.HP_BUCKETS);
+                out.putInt(PolicyTable.EP_BUCKETS);
+                out.putInt(PolicyTable.STATUS_BITS);
+                out.putInt(table.abilitySets().size());
+                for (List<String> set : table.abilitySets()) {
+                    out.putInt(set.size());
+                    for (String name : set) {
+                        out.putString(name);
+                    }
+                }
+                ByteBuffer actions = table.actions();
+                out.putInt(actions.remaining());
+                out.flush();
+                while (actions.hasRemaining()) {
+                    channel.write(actions);
+                }
+            });
+        } catch (IOException e) {
+            throw new GameException("Failed to write policy file " + file.getFileName(), e);
+        }
+    }
+
+    /**
+     * Maps a policy written by {@link #write}.
+     *
+     * @param file policy file
+     * @return table backed by the mapped file
+     * @throws GameException if the file cannot be read, is damaged or was
+     *         trained for a different state layout
+     */
+    public static PolicyTable map(Path file) throws GameException {
+        InputValidator.requireNonNull(file, "file");
+        ByteBuffer body;
+        try {
+            body = AtomicSaveFile.mapVerified(file);
+        } catch (IOException e) {
+            throw new GameException("Failed to open policy file " + file.getFileName(), e);
+        }
+        try {
+            return decode(body);
+        } catch (RuntimeException e) {
+            if (e instanceof GameException ge) {
+                throw new GameException("Corrupt policy file: " + ge.getMessage(), ge);
+            }
+            throw new GameException("Corrupt policy file.", e);
+        }
+    }
+
+    private static PolicyTable decode(ByteBuffer buf) throws GameException {
+        if (buf.getInt() != MAGIC) {
+            throw new GameException("Not a policy file.");
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new GameException("Unsupported policy version " + version + ".");
+        }
+        if (buf.getInt() != PolicyTable.HP_BUCKETS || buf.getInt() != PolicyTable.EP_BUCKETS
+                || buf.getInt() != PolicyTable.STATUS_BITS) {
+            throw new GameException("Policy was trained for a different state layout.");
+        }
+        int setCount = readCount(buf);
+        List<List<String>> sets = new ArrayList<>(setCount);
+        for (int i = 0; i < setCount; i++) {
+            int size = readCount(buf);
+            List<String> names = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                names.add(readString(buf));
+            }
+            sets.add(names);
+        }
+        int tableLength = readCount(buf);
+        if (tableLength != buf.remaining()) {
+            throw new GameException("Policy table length " + tableLength + " does not match the file.");
+        }
+        return new PolicyTable(sets, buf.slice());
+    }
+
+    private static int readCount(ByteBuffer buf) throws GameException {
+        int n = buf.getInt();
+        if (n < 0 || n > buf.remaining()) {
+            throw new GameException("Invalid record count " + n + ".");
+        }
+        return n;
+    }
+
+    /** {@link GameDataCodec#readString} for buffers without a backing array. */
+    private static String readString(ByteBuffer buf) throws GameException {
+        int len = buf.getInt();
+        if (len < 0 || len > buf.remaining()) {
+            throw new GameException("Invalid string length " + len + ".");
+        }
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package persistence;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Single-writer, coalescing executor for full game saves.
+ *
+ * <p>All writes run on one background thread, so two saves can never race
+ * on the same file.  Requests that arrive while a write is in progress are
+ * merged: only the most recent {@link GameData} is written, once, and every
+ * caller in that burst receives the same {@link CompletableFuture}.  At
+ * most one write is running and one is pending at any time.</p>
+ *
+ * <p>The executor writes whatever it is given, on its own thread, so the
+ * {@link GameData} must not share objects with the live game;
+ * {@code SaveLoadService.saveGameAsync} submits a copy taken with
+ * {@link GameJournal#capture(GameData)}.</p>
+ */
+public final class SaveExecutor implements AutoCloseable {
+
+    /** Performs one blocking save. */
+    @FunctionalInterface
+    public interface Saver {
+        void save(GameData data) throws GameException;
+    }
+
+    private final Saver saver;
+    private final ExecutorService writer;
+
+    /* pending request – guarded by this */
+    private GameData pending;
+    private CompletableFuture<Void> pendingResult;
+
+    /**
+     * Creates an executor that writes with {@code saver}.
+     *
+     * @param saver blocking save routine (non-null)
+     * @throws GameException if {@code saver} is null
+     */
+    public SaveExecutor(Saver saver) throws GameException {
+        InputValidator.requireNonNull(saver, "saver");
+        this.saver = saver;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "save-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Schedules {@code data} to be saved, replacing any save still waiting.
+     *
+     * @param data snapshot to write (non-null)
+     * @return future completed when a save containing {@code data} has
+     *         finished, or completed exceptionally with the save failure
+     * @throws GameException if {@code data} is null or the executor is closed
+     */
+    public synchronized CompletableFuture<Void> submit(GameData data) throws GameException {
+        InputValidator.requireNonNull(data, "gameData");
+        if (writer.isShutdown()) {
+            throw new GameException("Save executor is closed.");
+        }
+        pending = data;
+        if (pendingResult == null) {
+            pendingResult = new CompletableFuture<>();
+            writer.execute(this::writeLatest);
+        }
+        return pendingResult;
+    }
+
+    /**
+     * Finishes the pending save, if any, and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLatest() {
+        GameData data;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            data = pending;
+            result = pendingResult;
+            pending = null;
+            pendingResult = null;
+        }
+        try {
+            saver.save(data);
+            result.complete(null);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -2,47 +2,232 @@ package persistence;
 
 import model.core.Player;
 import model.core.HallOfFameEntry;
+import model.ranking.RatingEngine;
+import model.ranking.WindowedLeaderboard;
 import model.util.GameException;
 import model.util.Constants;
-import java.io.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 public class SaveLoadService {
 
     // File paths for saving and loading game data
     private static final String GAME_DATA_FILE = Constants.SAVE_FILE_PATH;
     private static final String HALL_OF_FAME_FILE = Constants.HALL_OF_FAME_SAVE_PATH;
+    private static final String JOURNAL_FILE = Constants.JOURNAL_FILE_PATH;
+    private static final String HALL_OF_FAME_INDEX_FILE = Constants.HALL_OF_FAME_INDEX_PATH;
+    private static final String HALL_OF_FAME_NAMES_FILE = Constants.HALL_OF_FAME_NAMES_PATH;
+    private static final String WIN_HISTORY_FILE = Constants.WIN_HISTORY_PATH;
+    private static final String RATINGS_FILE = Constants.RATINGS_PATH;
 
-    // Saves the game data to a file
+    // Shared journal for the default save location, created on first use
+    private static GameJournal journal;
+
+    // In-memory mirror of the save, loaded once on first use
+    private static GameRepository repository;
+
+    // Memory-mapped Hall of Fame, opened on first use
+    private static HallOfFameStore hallOfFameStore;
+
+    // Daily/weekly/seasonal win buckets, loaded on first use and written after every credited win
+    private static WindowedLeaderboard winHistory;
+
+    // Elo ratings and match history, loaded on first use and written at the end of every rated match
+    private static RatingEngine ratings;
+
+    // Background writer that serialises and coalesces asynchronous saves, created on first use
+    private static SaveExecutor saveExecutor;
+
+    // Saves a full snapshot of the game data and clears the journal events it supersedes
     public static void saveGame(GameData gameData) throws GameException {
-        try (ObjectOutputStream gameDataStream = new ObjectOutputStream(new FileOutputStream(GAME_DATA_FILE))) {
-            gameDataStream.writeObject(gameData); // Save the entire GameData object
-            System.out.println("Game data has been saved successfully.");
-        } catch (IOException e) {
-            // Log the error and wrap it in a custom exception for further handling
-            throw new GameException("Failed to save game data", e);
+        getJournal().checkpoint(gameData);
+        saveWinHistory();
+        saveRatings();
+        System.out.println("Game data has been saved successfully.");
+    }
+
+    // Queues a full save on the single background writer; bursts collapse into one write.
+    // The state is copied here, on the caller's thread, so the writer never touches live objects
+    public static CompletableFuture<Void> saveGameAsync(GameData gameData) throws GameException {
+        GameData captured = getJournal().capture(gameData);
+        synchronized (SaveLoadService.class) {
+            if (saveExecutor == null) {
+                saveExecutor = new SaveExecutor(SaveLoadService::saveCaptured);
+            }
+            return saveExecutor.submit(captured);
         }
     }
 
-    // Loads the game data from a file
+    // Writes a copy taken by saveGameAsync, keeping journal events recorded after it
+    private static void saveCaptured(GameData captured) throws GameException {
+        getJournal().checkpointCaptured(captured);
+        saveWinHistory();
+        saveRatings();
+        System.out.println("Game data has been saved successfully.");
+    }
+
+    // Loads the last snapshot and replays any journal events recorded after it
     public static GameData loadGame() throws GameException {
-        try (ObjectInputStream gameDataStream = new ObjectInputStream(new FileInputStream(GAME_DATA_FILE))) {
-            return (GameData) gameDataStream.readObject(); // Read the GameData object
-        } catch (FileNotFoundException e) {
-            // If the file does not exist (first-time load), return a new empty GameData object
-            System.out.println("No saved game found. Returning new game data.");
-            return new GameData(); // Returning an empty game data object
-        } catch (IOException | ClassNotFoundException e) {
-            // Handle any I/O errors or ClassNotFoundException (in case of deserialization issues)
-            throw new GameException("Failed to load game data", e);
+        return getJournal().load();
+    }
+
+    // Returns the journal that small changes (registrations, wins, trades) are appended to
+    public static synchronized GameJournal getJournal() {
+        if (journal == null) {
+            journal = new GameJournal(Path.of(GAME_DATA_FILE), Path.of(JOURNAL_FILE));
+        }
+        return journal;
+    }
+
+    // Returns the in-memory repository; the save is read from disk only on the first call
+    public static synchronized GameRepository getRepository() throws GameException {
+        if (repository == null) {
+            repository = new GameRepository(getJournal());
+        }
+        return repository;
+    }
+
+    // Finishes queued saves, flushes pending journal writes and stops the background threads
+    public static void shutdown() {
+        SaveExecutor executor;
+        synchronized (SaveLoadService.class) {
+            executor = saveExecutor;
+            saveExecutor = null;
+        }
+        if (executor != null) {
+            executor.close(); // outside the lock: the queued save itself calls getJournal()
+        }
+        synchronized (SaveLoadService.class) {
+            closeAll();
+        }
+    }
+
+    // Closes the journal and Hall of Fame store and writes win history and ratings; caller holds the class lock
+    private static void closeAll() {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        repository = null;
+        if (hallOfFameStore != null) {
+            hallOfFameStore.close();
+            hallOfFameStore = null;
+        }
+        try {
+            saveWinHistory();
+        } catch (GameException e) {
+            System.out.println("Failed to save win history: " + e.getMessage());
+        }
+        winHistory = null;
+        try {
+            saveRatings();
+        } catch (GameException e) {
+            System.out.println("Failed to save ratings: " + e.getMessage());
+        }
+        ratings = null;
+    }
+
+    // Returns the rating engine, restoring saved ratings and match history on the first call
+    public static synchronized RatingEngine getRatings() throws GameException {
+        if (ratings == null) {
+            RatingEngine.State state = null;
+            try {
+                state = AtomicSaveFile.read(Path.of(RATINGS_FILE), GameDataCodec::readRatings);
+            } catch (NoSuchFileException e) {
+                // no rated matches yet
+            } catch (IOException e) {
+                throw new GameException("Failed to load ratings", e);
+            }
+            Clock clock = Clock.systemUTC();
+            ratings = state == null ? new RatingEngine(clock) : new RatingEngine(clock, state);
+        }
+        return ratings;
+    }
+
+    // Writes ratings and match history via temp file and atomic rename; a no-op if they were never loaded.
+    // Callers run it once a match is recorded, so a crash before the next full save loses nothing
+    public static synchronized void saveRatings() throws GameException {
+        if (ratings == null) {
+            return;
+        }
+        try {
+            AtomicSaveFile.write(Path.of(RATINGS_FILE),
+                    channel -> GameDataCodec.writeRatings(ratings.state(), channel));
+        } catch (IOException e) {
+            throw new GameException("Failed to save ratings", e);
+        }
+    }
+
+    // Returns the windowed leaderboards, restoring the saved day buckets on the first call
+    public static synchronized WindowedLeaderboard getWinHistory() throws GameException {
+        if (winHistory == null) {
+            WindowedLeaderboard loaded = new WindowedLeaderboard(Clock.systemDefaultZone());
+            try {
+                AtomicSaveFile.read(Path.of(WIN_HISTORY_FILE), GameDataCodec::readWinHistory)
+                        .forEach(loaded::restore);
+            } catch (NoSuchFileException e) {
+                // no windowed wins recorded yet
+            } catch (IOException e) {
+                throw new GameException("Failed to load win history", e);
+            }
+            winHistory = loaded;
         }
+        return winHistory;
+    }
+
+    // Writes the live day buckets (at most one season of them); a no-op if they were never loaded.
+    // Callers run it once wins are credited, so a crash before the next full save loses nothing
+    public static synchronized void saveWinHistory() throws GameException {
+        if (winHistory == null) {
+            return;
+        }
+        try {
+            AtomicSaveFile.write(Path.of(WIN_HISTORY_FILE),
+                    channel -> GameDataCodec.writeWinHistory(winHistory.buckets(), channel));
+        } catch (IOException e) {
+            throw new GameException("Failed to save win history", e);
+        }
+    }
+
+    // Returns the memory-mapped Hall of Fame, the only copy of it; the old whole-list file
+    // is imported until the store records that the import completed
+    public static synchronized HallOfFameStore getHallOfFameStore() throws GameException {
+        if (hallOfFameStore == null) {
+            HallOfFameStore store = HallOfFameStore.open(Path.of(HALL_OF_FAME_INDEX_FILE),
+                    Path.of(HALL_OF_FAME_NAMES_FILE));
+            try {
+                if (!store.isMigrated()) {
+                    if (store.size() == 0) { // a store with records predates the flag and was imported
+                        store.replaceAll(loadHallOfFame());
+                    }
+                    store.markMigrated();
+                }
+            } catch (GameException e) {
+                store.close();
+                throw e;
+            }
+            hallOfFameStore = store;
+        }
+        return hallOfFameStore;
     }
 
     // Saves Hall of Fame data
     public static void saveHallOfFame(List<HallOfFameEntry> hallOfFameEntries) throws GameException {
-        try (ObjectOutputStream hallOfFameStream = new ObjectOutputStream(new FileOutputStream(HALL_OF_FAME_FILE))) {
-            hallOfFameStream.writeObject(hallOfFameEntries); // Save the Hall of Fame entries
+        try {
+            // Save the Hall of Fame entries; the previous file survives until the new one is complete
+            AtomicSaveFile.write(Path.of(HALL_OF_FAME_FILE),
+                    channel -> GameDataCodec.writeHallOfFame(hallOfFameEntries, channel));
             System.out.println("Hall of Fame has been saved successfully.");
         } catch (IOException e) {
             // Log the error and wrap it in a custom exception
@@ -51,40 +236,36 @@ public class SaveLoadService {
     }
 
     // Loads the Hall of Fame data
+    @SuppressWarnings("unchecked")
     public static List<HallOfFameEntry> loadHallOfFame() throws GameException {
-        try (ObjectInputStream hallOfFameStream = new ObjectInputStream(new FileInputStream(HALL_OF_FAME_FILE))) {
-            Object obj = hallOfFameStream.readObject();
-            if (obj instanceof List<?>) {
-                List<?> rawList = (List<?>) obj;
-                // Ensure the list contains the right type
-                return (List<HallOfFameEntry>) rawList;
-            } else {
-                throw new GameException("Invalid Hall of Fame data.");
-            }
-        } catch (FileNotFoundException e) {
+        try {
+            return AtomicSaveFile.read(Path.of(HALL_OF_FAME_FILE), contents -> {
+                if (GameDataCodec.peekMagic(contents) == GameDataCodec.MAGIC_HOF) {
+                    return GameDataCodec.readHallOfFame(contents);
+                }
+                Object obj = readLegacy(contents);
+                if (obj instanceof List<?>) {
+                    List<?> rawList = (List<?>) obj;
+                    // Ensure the list contains the right type
+                    return (List<HallOfFameEntry>) rawList;
+                } else {
+                    throw new GameException("Invalid Hall of Fame data.");
+                }
+            });
+        } catch (NoSuchFileException e) {
             // If no Hall of Fame data is found, return an empty list
             System.out.println("No Hall of Fame found. Returning empty Hall of Fame.");
             return List.of(); // Returning an empty list
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             // Handle any I/O errors or deserialization issues
             throw new GameException("Failed to load Hall of Fame data", e);
         }
     }
 
-    // Adds a new player to the existing game data and saves it
+    // Adds a new player to the repository, which journals it; no save file is read or rewritten
     public static void addPlayer(Player player) throws GameException {
         try {
-            // Load the current game data
-            GameData gameData = loadGame(); // This may throw GameException if something goes wrong
-
-            // Add the new player to the game data using a mutable copy
-            List<Player> players = new ArrayList<>(gameData.getAllPlayers());
-            players.add(player);
-            gameData.setAllPlayers(players);
-
-            // Save the updated game data
-            saveGame(gameData); // This may throw GameException if save fails
-
+            getRepository().registerPlayer(player); // O(player), not O(save file)
             System.out.println("Player has been added and game data updated.");
         } catch (GameException e) {
             // Wrap any game-related exception into a custom GameException
@@ -92,6 +273,91 @@ public class SaveLoadService {
         }
     }
 
+    // Writes a full game snapshot to the given file via temp file, checksum, fsync and atomic rename
+    static void writeSnapshot(GameData gameData, Path file) throws GameException {
+        try {
+            AtomicSaveFile.write(file, channel -> GameDataCodec.writeGame(gameData, channel));
+        } catch (IOException e) {
+            // Log the error and wrap it in a custom exception for further handling
+            throw new GameException("Failed to save game data", e);
+        }
+    }
+
+    // Reads a game snapshot, falling back to the previous generation if it is damaged;
+    // legacy Java-serialized saves are migrated transparently
+    static GameData readSnapshot(Path file) throws GameException {
+        try {
+            return AtomicSaveFile.read(file, contents -> {
+                if (GameDataCodec.peekMagic(contents) == GameDataCodec.MAGIC_GAME) {
+                    return GameDataCodec.readGame(contents);
+                }
+                // Pre-codec save: decode it once, the next save rewrites it in the binary format
+                return migrateLegacy(readLegacy(contents));
+            });
+        } catch (NoSuchFileException e) {
+            // If the file does not exist (first-time load), return a new empty GameData object
+            System.out.println("No saved game found. Returning new game data.");
+            return new GameData(); // Returning an empty game data object
+        } catch (IOException e) {
+            // Handle any I/O errors (deserialization issues surface as GameException)
+            throw new GameException("Failed to load game data", e);
+        }
+    }
+
+    // Reads only the snapshot header and returns the journal sequence it already contains
+    static long readSnapshotSequence(Path file) throws GameException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + Long.BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or EOF
+            }
+            header.flip();
+            if (GameDataCodec.peekMagic(header) != GameDataCodec.MAGIC_GAME) {
+                return 0L; // missing header or legacy save: nothing folded in yet
+            }
+            return GameDataCodec.peekJournalSequence(header);
+        } catch (NoSuchFileException e) {
+            return 0L;
+        } catch (IOException e) {
+            throw new GameException("Failed to load game data", e);
+        }
+    }
+
+    // Reads a whole save file into a heap buffer; throws NoSuchFileException if absent
+    static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Save file too large: " + file);
+            }
+            ByteBuffer buf = ByteBuffer.allocate((int) size);
+            while (buf.hasRemaining() && channel.read(buf) >= 0) {
+                // keep reading until the buffer is full or EOF
+            }
+            return buf.flip();
+        }
+    }
+
+    // Decodes a save written by the previous ObjectOutputStream-based format
+    private static Object readLegacy(ByteBuffer contents) throws IOException, GameException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(contents.array(), 0, contents.limit()))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new GameException("Unrecognised save file contents", e);
+        }
+    }
+
+    // Round-trips legacy data through the codec so transient state (e.g. status effects) is rebuilt
+    private static GameData migrateLegacy(Object decoded) throws IOException, GameException {
+        if (!(decoded instanceof GameData legacy)) {
+            throw new GameException("Invalid game data.");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameDataCodec.writeGame(legacy, Channels.newChannel(bytes));
+        return GameDataCodec.readGame(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
     // Private constructor to prevent instantiation
     private SaveLoadService() {
     }
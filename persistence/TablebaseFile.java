@@ -0,0 +1,116 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import model.battle.Tablebase;
+import model.util.GameException;
+import model.util.InputValidator;
+
+/**
+ * Binary file for a solved endgame {@link Tablebase}.
+ *
+ * <p>Layout: a header ({@code int MAGIC | int VERSION | long rulesKey |
+ * int hpCap | int epCap | int[6] radices | int entryLength}) followed by the
+ * two-byte entries, then the {@link AtomicSaveFile} checksum footer.
+ * {@link #map} checks the checksum once and serves probes straight from a
+ * read-only mapping, so a large table costs no heap and its pages are
+ * shared between processes.</p>
+ *
+ * <p>The rules key ties a file to one matchup under one set of balance
+ * constants; a table mapped after {@code Constants} change simply stops
+ * matching and every probe reports {@link Tablebase#OPEN}.</p>
+ */
+public final class TablebaseFile {
+
+    /** "FFTB" – solved endgame tablebase. */
+    static final int MAGIC = 0x46465442;
+    static final int VERSION = 1;
+
+    private static final int RADICES = 6;
+
+    private TablebaseFile() {
+        // static utility
+    }
+
+    /**
+     * Atomically writes {@code table} to {@code file}.
+     *
+     * @param file  destination (parent folders are created)
+     * @param table solved table (non-null)
+     * @throws GameException if the file cannot be written
+     */
+    public static void write(Path file, Tablebase table) throws GameException {
+        InputValidator.requireNonNull(file, "file");
+        InputValidator.requireNonNull(table, "table");
+        try {
+            AtomicSaveFile.write(file, channel -> {
+                GameDataCodec.Writer out = new GameDataCodec.Writer(channel);
+                out.putInt(MAGIC);
+                out.putInt(VERSION);
+                out.putLong(table.rulesKey());
+                out.putInt(table.hpCap());
+                out.putInt(table.epCap());
+                for (int r : table.radices()) {
+                    out.putInt(r);
+                }
+                ByteBuffer entries = table.entries();
+                out.putInt(entries.remaining());
+                out.flush();
+                while (entries.hasRemaining()) {
+                    channel.write(entries);
+                }
+            });
+        } catch (IOException e) {
+            throw new GameException("Failed to write tablebase " + file.getFileName(), e);
+        }
+    }
+
+    /**
+     * Maps a tablebase written by {@link #write}.
+     *
+     * @param file tablebase file
+     * @return table backed by the mapped file
+     * @throws GameException if the file cannot be read or is damaged
+     */
+    public static Tablebase map(Path file) throws GameException {
+        InputValidator.requireNonNull(file, "file");
+        ByteBuffer body;
+        try {
+            body = AtomicSaveFile.mapVerified(file);
+        } catch (IOException e) {
+            throw new GameException("Failed to open tablebase " + file.getFileName(), e);
+        }
+        try {
+            return decode(body);
+        } catch (RuntimeException e) {
+            if (e instanceof GameException ge) {
+                throw new GameException("Corrupt tablebase: " + ge.getMessage(), ge);
+            }
+            throw new GameException("Corrupt tablebase.", e);
+        }
+    }
+
+    private static Tablebase decode(ByteBuffer buf) throws GameException {
+        if (buf.getInt() != MAGIC) {
+            throw new GameException("Not a tablebase file.");
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new GameException("Unsupported tablebase version " + version + ".");
+        }
+        long rulesKey = buf.getLong();
+        int hpCap = buf.getInt();
+        int epCap = buf.getInt();
+        int[] radices = new int[RADICES];
+        for (int i = 0; i < RADICES; i++) {
+            radices[i] = buf.getInt();
+        }
+        int length = buf.getInt();
+        if (length != buf.remaining()) {
+            throw new GameException("Tablebase length " + length + " does not match the file.");
+        }
+        return new Tablebase(rulesKey, hpCap, epCap, radices, buf.slice());
+    }
+}
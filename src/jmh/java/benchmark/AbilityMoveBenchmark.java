@@ -0,0 +1,57 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.battle.AbilityMove;
+import model.battle.CombatLog;
+import model.core.Character;
+
+/**
+ * Cost of executing a single damaging {@link AbilityMove}, including its
+ * combat-log entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbilityMoveBenchmark {
+
+    private Character user;
+    private Character target;
+    private AbilityMove strike;
+    private CombatLog log;
+    private int entries;
+
+    @Setup
+    public void setup() {
+        user = Fixtures.fighter("Attacker");
+        target = Fixtures.fighter("Defender");
+        strike = new AbilityMove(Fixtures.STRIKE);
+        log = new CombatLog();
+    }
+
+    @Benchmark
+    public int execute() {
+        strike.execute(user, target, log);
+        Fixtures.restore(user);
+        Fixtures.restore(target);
+        if (++entries == 4096) { // keep the log from growing without bound
+            log.clearLog();
+            entries = 0;
+        }
+        return target.getCurrentHp();
+    }
+}
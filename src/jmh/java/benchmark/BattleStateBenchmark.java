@@ -0,0 +1,58 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.battle.BattleState;
+
+/**
+ * Search primitives on the packed {@link BattleState}: cloning a node
+ * versus playing a round in place and undoing it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleStateBenchmark {
+
+    private BattleState root;
+
+    @Setup
+    public void setup() {
+        root = BattleState.of(Fixtures.fighter("Alice"), Fixtures.fighter("Bob"));
+    }
+
+    @Benchmark
+    public BattleState copy() {
+        return root.copy();
+    }
+
+    /** Copy-based child: clone, then play one round on the clone. */
+    @Benchmark
+    public long copyAndApply() {
+        BattleState child = root.copy();
+        child.apply(1, BattleState.MOVE_RECHARGE);
+        return child.hash();
+    }
+
+    /** In-place child: play one round, read it, undo it. */
+    @Benchmark
+    public long makeUnmake() {
+        root.make(1, BattleState.MOVE_RECHARGE);
+        long h = root.hash();
+        root.unmake();
+        return h;
+    }
+}
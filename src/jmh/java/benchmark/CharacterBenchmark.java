@@ -0,0 +1,78 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.battle.LevelingSystem;
+import model.core.Character;
+import model.util.StatusEffectType;
+import model.util.effects.PoisonEffect;
+
+/**
+ * Character-level hot spots: status-effect bookkeeping and level-up checks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacterBenchmark {
+
+    private Character poisoned;
+    private Character scratch;
+    private Character veteran;
+    private int baseMaxHp;
+    private int baseMaxEp;
+
+    @Setup
+    public void setup() {
+        poisoned = Fixtures.fighter("Poisoned");
+        poisoned.addStatusEffect(new PoisonEffect());
+        scratch = Fixtures.fighter("Scratch");
+        veteran = Fixtures.fighter("Veteran");
+        baseMaxHp = veteran.getMaxHp();
+        baseMaxEp = veteran.getMaxEp();
+        veteran.addXp(120); // enough XP for level 2
+    }
+
+    @Benchmark
+    public boolean hasStatusEffectHit() {
+        return poisoned.hasStatusEffect(StatusEffectType.POISONED);
+    }
+
+    @Benchmark
+    public boolean hasStatusEffectMiss() {
+        return poisoned.hasStatusEffect(StatusEffectType.STUNNED);
+    }
+
+    @Benchmark
+    public boolean addStatusEffect() {
+        scratch.addStatusEffect(new PoisonEffect());
+        boolean present = scratch.hasStatusEffect(StatusEffectType.POISONED);
+        scratch.removeStatusEffect(StatusEffectType.POISONED);
+        return present;
+    }
+
+    @Benchmark
+    public boolean processLevelUpNoChange() {
+        return LevelingSystem.processLevelUp(veteran);
+    }
+
+    @Benchmark
+    public boolean processLevelUpGain() {
+        veteran.setLevel(1); // rewind so the level-up path runs every time
+        veteran.setMaxStats(baseMaxHp, baseMaxEp);
+        return LevelingSystem.processLevelUp(veteran);
+    }
+}
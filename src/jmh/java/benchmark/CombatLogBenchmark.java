@@ -0,0 +1,68 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.battle.CombatLog;
+
+/**
+ * Cost of writing to and reading from a {@link CombatLog} that already
+ * holds {@code size} entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatLogBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private CombatLog filled;
+    private CombatLog appendOnly;
+    private int appended;
+
+    @Setup
+    public void setup() {
+        filled = new CombatLog();
+        for (int i = 0; i < size; i++) {
+            filled.addEntry("Alice uses Strike!");
+        }
+        appendOnly = new CombatLog();
+    }
+
+    @Benchmark
+    public List<String> getLogEntries() {
+        return filled.getLogEntries();
+    }
+
+    /** Per-turn poll of the last two entries, as the battle engine does. */
+    @Benchmark
+    public long forEachSince() {
+        return filled.forEachSince(size - 2, entry -> { });
+    }
+
+    @Benchmark
+    public int addEntry() {
+        appendOnly.addEntry("Alice uses Strike!");
+        if (++appended == size) { // hold the log at the parameterised size
+            appendOnly.clearLog();
+            appended = 0;
+        }
+        return appended;
+    }
+}
@@ -0,0 +1,42 @@
+package benchmark;
+
+import java.util.List;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.Character;
+import model.core.ClassType;
+import model.core.RaceType;
+
+/**
+ * Shared battle fixtures for the JMH benchmarks.
+ *
+ * <p>Abilities are cheap and bounded so a benchmark can loop for millions of
+ * operations without either character dying or running out of EP.</p>
+ */
+final class Fixtures {
+
+    /** 1 damage, free – keeps a long battle alive. */
+    static final Ability JAB = new Ability("Jab", "Deal 1 damage.", 0, AbilityEffectType.DAMAGE, 1, null);
+
+    /** Typical paid damage ability. */
+    static final Ability STRIKE = new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null);
+
+    /** Self heal, used to undo damage between invocations. */
+    static final Ability MEND = new Ability("Mend", "Heal 10 HP.", 4, AbilityEffectType.HEAL, 10, null);
+
+    private Fixtures() {
+        // no instances
+    }
+
+    /** Builds a full-health human warrior with the benchmark abilities. */
+    static Character fighter(String name) {
+        return new Character(name, RaceType.HUMAN, ClassType.WARRIOR, List.of(JAB, STRIKE, MEND));
+    }
+
+    /** Restores a character to full HP and EP. */
+    static void restore(Character c) {
+        c.heal(c.getMaxHp());
+        c.gainEp(c.getMaxEp());
+    }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.battle.AbilityMove;
+import model.battle.BattleEngine;
+import model.battle.Move;
+import model.core.Character;
+
+/**
+ * Allocation per headless turn.
+ *
+ * <p>One long-lived engine plays a steady-state bout: Alice jabs for 1
+ * damage and Bob mends it straight back, while the round's EP regen covers
+ * the heal, so the battle never ends and no per-invocation setup is needed.
+ * Run with {@code -prof gc}; {@code gc.alloc.rate.norm} should read 0 B/op.
+ * As a guard that does not depend on the profiler, each iteration also
+ * reads the thread's allocation counter and fails if a turn allocated more
+ * than {@value #MAX_BYTES_PER_TURN} bytes on average.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnAllocationBenchmark {
+
+    /** Slack for the JMH harness itself, which shares the thread counter. */
+    static final double MAX_BYTES_PER_TURN = 1.0;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Character alice;
+    private Character bob;
+    private Move jab;
+    private Move mend;
+    private BattleEngine engine;
+
+    private long turns;
+    private long allocatedAtStart;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alice = Fixtures.fighter("Alice");
+        bob = Fixtures.fighter("Bob");
+        jab = new AbilityMove(Fixtures.JAB);
+        mend = new AbilityMove(Fixtures.MEND);
+        engine = new BattleEngine(alice, bob);
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounting() {
+        turns = 0;
+        allocatedAtStart = THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkAllocation() {
+        double perTurn = (double) (THREADS.getCurrentThreadAllocatedBytes() - allocatedAtStart) / turns;
+        if (perTurn > MAX_BYTES_PER_TURN) {
+            throw new IllegalStateException("Headless turn allocated " + perTurn + " bytes on average.");
+        }
+    }
+
+    @Benchmark
+    public int resolveTurn() {
+        engine.resolveTurn(jab, mend);
+        turns++;
+        return bob.getCurrentHp();
+    }
+}
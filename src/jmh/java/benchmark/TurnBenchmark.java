@@ -0,0 +1,104 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import controller.BattleController;
+import model.battle.AbilityMove;
+import model.battle.BattleEngine;
+import model.battle.Move;
+import model.battle.Recharge;
+import model.core.Character;
+import view.BattleView;
+
+/**
+ * Per-turn cost of the battle loop.
+ *
+ * <p>{@code engineResolveTurn} measures the headless rules engine (turn
+ * ordering plus both moves); {@code controllerExecuteTurn} drives the same
+ * turns through {@link BattleController#submitMove}, adding selection
+ * bookkeeping and the view updates against a no-op {@link BattleView}.
+ * Every invocation plays {@value #TURNS} turns of a fresh battle so the
+ * combat log stays bounded.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnBenchmark {
+
+    /** Turns per invocation; 50 jabs never knock out a full-health fighter. */
+    static final int TURNS = 50;
+
+    private Character c1;
+    private Character c2;
+    private Move jab;
+    private Move recharge;
+    private BattleController controller;
+
+    @Setup
+    public void setup() {
+        System.setProperty("java.awt.headless", "true");
+        c1 = Fixtures.fighter("Alice");
+        c2 = Fixtures.fighter("Bob");
+        jab = new AbilityMove(Fixtures.JAB);
+        recharge = new Recharge();
+        controller = new BattleController(new NoOpBattleView());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public int engineResolveTurn() {
+        Fixtures.restore(c1);
+        Fixtures.restore(c2);
+        BattleEngine engine = new BattleEngine(c1, c2);
+        for (int i = 0; i < TURNS; i++) {
+            engine.resolveTurn(jab, recharge);
+        }
+        return c2.getCurrentHp();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public int controllerExecuteTurn() {
+        Fixtures.restore(c1);
+        Fixtures.restore(c2);
+        controller.startBattle(c1, c2);
+        for (int i = 0; i < TURNS; i++) {
+            controller.submitMove(c1, jab);
+            controller.submitMove(c2, recharge);
+        }
+        return c2.getCurrentHp();
+    }
+
+    /** View that discards every update, isolating controller cost from Swing. */
+    static final class NoOpBattleView extends BattleView {
+
+        private static final long serialVersionUID = 1L;
+
+        NoOpBattleView() {
+            super(BattleView.BATTLE_PVP);
+        }
+
+        @Override public void updateAbilityDropdown(int playerID, List<String> options) { }
+        @Override public void setPlayerNameAndCharName(int playerID, String text) { }
+        @Override public void setPlayerStatus(int playerID, String status) { }
+        @Override public void setPlayerAbilitiesItems(int playerID, String abilitiesItems) { }
+        @Override public void appendBattleLog(String text) { }
+        @Override public void setBattleOutcome(String text) { }
+    }
+}
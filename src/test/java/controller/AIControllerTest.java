@@ -0,0 +1,97 @@
+package controller;
+
+import model.battle.Move;
+import model.battle.Recharge;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.AIMoveStrategy;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for asynchronous AI decisions */
+public class AIControllerTest {
+
+    private final Character bot = new Character("Bot", RaceType.HUMAN, ClassType.WARRIOR);
+    private final Character foe = new Character("Foe", RaceType.HUMAN, ClassType.WARRIOR);
+
+    @Test
+    public void testRequestMoveAsyncRunsOffTheCallingThread() throws Exception {
+        Move recharge = new Recharge();
+        Thread[] thinker = new Thread[1];
+        try (AIController ai = new AIController((self, other) -> {
+            thinker[0] = Thread.currentThread();
+            return recharge;
+        })) {
+            assertSame(recharge, ai.requestMoveAsync(bot, foe).get(5, TimeUnit.SECONDS));
+            assertNotSame(Thread.currentThread(), thinker[0]);
+            assertTrue(thinker[0].isDaemon());
+        }
+    }
+
+    @Test
+    public void testCancelInterruptsTheStrategy() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (AIController ai = new AIController((self, other) -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new Recharge();
+        })) {
+            CompletableFuture<Move> request = ai.requestMoveAsync(bot, foe);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            request.cancel(true);
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testStrategyErrorCompletesTheRequest() throws Exception {
+        try (AIController ai = new AIController((self, other) -> {
+            throw new StackOverflowError("too deep");
+        })) {
+            ExecutionException thrown = assertThrows(ExecutionException.class,
+                    () -> ai.requestMoveAsync(bot, foe).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, thrown.getCause());
+        }
+    }
+
+    @Test
+    public void testClosedControllerRejectsRequests() throws GameException {
+        AIController ai = new AIController((self, other) -> new Recharge());
+        ai.close();
+        assertThrows(GameException.class, () -> ai.requestMoveAsync(bot, foe));
+    }
+
+    @Test
+    public void testCloseReleasesClosableStrategy() throws GameException {
+        ClosableStrategy strategy = new ClosableStrategy();
+        new AIController(strategy).close();
+        assertTrue(strategy.closed);
+    }
+
+    private static final class ClosableStrategy implements AIMoveStrategy, AutoCloseable {
+        boolean closed;
+
+        @Override
+        public Move decideMove(Character self, Character other) {
+            return new Recharge();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
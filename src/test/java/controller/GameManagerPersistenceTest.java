@@ -45,7 +45,7 @@ public class GameManagerPersistenceTest {
     public void testPlayersLoadedFromSaveOnStartup() throws Exception {
         Player p1 = new Player("Alice");
         Player p2 = new Player("Bob");
-        SaveLoadService.saveGame(new GameData(List.of(p1, p2), List.of()));
+        SaveLoadService.saveGame(new GameData(List.of(p1, p2)));
 
         GameManagerController controller = buildController();
         assertEquals(2, controller.getPlayers().size());
@@ -0,0 +1,43 @@
+package model.battle;
+
+import model.util.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for BalanceSimulator */
+public class BalanceSimulatorTest {
+
+    @Test
+    public void testEnumeratesLegalLoadouts() {
+        List<BalanceSimulator.Loadout> loadouts = BalanceSimulator.enumerateLoadouts();
+
+        // 10 three-ability subsets per class for three races, 5 four-ability subsets for gnomes
+        assertEquals(4 * (3 * 10 + 5), loadouts.size());
+        for (BalanceSimulator.Loadout l : loadouts) {
+            int expected = Constants.NUM_ABILITIES_PER_CHAR + l.race().getExtraAbilitySlots();
+            assertEquals(expected, l.abilities().size());
+            assertNotNull(l.create("Probe"));
+        }
+    }
+
+    @Test
+    public void testSameSeedGivesSameMatrix() {
+        List<BalanceSimulator.Loadout> sample = BalanceSimulator.enumerateLoadouts().subList(0, 6);
+        BalanceSimulator simulator = new BalanceSimulator(3);
+        try {
+            BalanceSimulator.WinRateMatrix a = simulator.simulate(sample, 20, 7L);
+            BalanceSimulator.WinRateMatrix b = simulator.simulate(sample, 20, 7L);
+            for (int i = 0; i < sample.size(); i++) {
+                assertArrayEquals(a.winRates()[i], b.winRates()[i]);
+                for (double rate : a.winRates()[i]) {
+                    assertTrue(rate >= 0 && rate <= 1);
+                }
+            }
+        } finally {
+            simulator.shutdown();
+        }
+    }
+}
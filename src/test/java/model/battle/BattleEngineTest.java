@@ -0,0 +1,148 @@
+package model.battle;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.Constants;
+import model.util.GameException;
+import model.util.SimpleBot;
+import model.util.StatusEffectType;
+import model.util.effects.PoisonEffect;
+import model.util.effects.StunEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the headless BattleEngine */
+public class BattleEngineTest {
+
+    private Character c1;
+    private Character c2;
+
+    @BeforeEach
+    public void setup() throws GameException {
+        List<Ability> strikes = List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Jab", "Deal 10 damage.", 2, AbilityEffectType.DAMAGE, 10, null),
+                new Ability("Mend", "Heal 10 HP.", 4, AbilityEffectType.HEAL, 10, null));
+        c1 = new Character("Alice", RaceType.HUMAN, ClassType.WARRIOR, strikes);
+        c2 = new Character("Bob", RaceType.HUMAN, ClassType.WARRIOR, strikes);
+    }
+
+    @Test
+    public void testResolveTurnAppliesBothMoves() throws GameException {
+        BattleEngine engine = new BattleEngine(c1, c2);
+        engine.resolveTurn(new AbilityMove(c1.getAbilities().get(0)), new Recharge());
+
+        assertEquals(c2.getMaxHp() - 20, c2.getCurrentHp());
+        assertEquals(Math.min(c1.getMaxEp(), c1.getMaxEp() - 5 + Constants.ROUND_EP_REGEN), c1.getCurrentEp());
+        assertEquals(2, engine.getBattle().getRoundNumber());
+    }
+
+    @Test
+    public void testRunPlaysToCompletionAndNotifiesListener() throws GameException {
+        List<String> lines = new ArrayList<>();
+        Character[] outcome = new Character[2];
+        BattleEngine engine = new BattleEngine(c1, c2, new BattleListener() {
+            @Override
+            public void onLogEntry(String entry) {
+                lines.add(entry);
+            }
+
+            @Override
+            public void onBattleEnd(Character winner, Character loser) {
+                outcome[0] = winner;
+                outcome[1] = loser;
+            }
+        });
+
+        Character winner = engine.run(new SimpleBot(new Random(1)), new SimpleBot(new Random(2)));
+
+        assertNotNull(winner);
+        assertTrue(engine.getBattle().isFinished());
+        assertSame(winner, outcome[0]);
+        assertSame(engine.getLoser(), outcome[1]);
+        assertFalse(outcome[1].isAlive());
+        assertFalse(lines.isEmpty());
+    }
+
+    @Test
+    public void testResolveTurnRejectsFinishedBattle() throws GameException {
+        BattleEngine engine = new BattleEngine(c1, c2);
+        c2.takeDamage(c2.getMaxHp());
+        assertThrows(GameException.class, () -> engine.resolveTurn(new Recharge(), new Recharge()));
+    }
+
+    @Test
+    public void testDoubleKnockOutIsADraw() throws GameException {
+        Character[] outcome = {c1, c2};
+        BattleEngine engine = new BattleEngine(c1, c2, new BattleListener() {
+            @Override
+            public void onBattleEnd(Character winner, Character loser) {
+                outcome[0] = winner;
+                outcome[1] = loser;
+            }
+        });
+        for (Character c : List.of(c1, c2)) {
+            c.takeDamage(c.getMaxHp() - PoisonEffect.DAMAGE_PER_TURN);
+            c.addStatusEffect(new PoisonEffect());
+        }
+        BattleState state = BattleState.of(c1, c2);
+
+        /* poison ticks before either move, felling both */
+        engine.resolveTurn(new AbilityMove(c1.getAbilities().get(0)), new Recharge());
+        state.apply(0, BattleState.MOVE_RECHARGE);
+
+        assertTrue(engine.isOver());
+        assertNull(engine.getWinner());
+        assertNull(engine.getLoser());
+        assertNull(outcome[0]);
+        assertNull(outcome[1]);
+        assertTrue(state.isOver());
+        assertEquals(-1, state.winner());
+    }
+
+    @Test
+    public void testStatusEffectsTickAndExpireEachRound() throws GameException {
+        BattleEngine engine = new BattleEngine(c1, c2);
+        c2.addStatusEffect(new PoisonEffect());
+        c2.addStatusEffect(new StunEffect());
+        assertEquals((1 << StatusEffectType.STUNNED.ordinal()) | (1 << StatusEffectType.POISONED.ordinal()),
+                     c2.getStatusEffectMask());
+
+        /* round 1: poison ticks, Bob is stunned and his strike is skipped */
+        engine.resolveTurn(new Recharge(), new AbilityMove(c2.getAbilities().get(0)));
+        assertEquals(c2.getMaxHp() - 5, c2.getCurrentHp());
+        assertEquals(c1.getMaxHp(), c1.getCurrentHp());
+        assertTrue(c2.hasStatusEffect(StatusEffectType.STUNNED));
+
+        /* round 2: the stun runs out at the start of the round and Bob acts */
+        engine.resolveTurn(new Recharge(), new AbilityMove(c2.getAbilities().get(0)));
+        assertEquals(c1.getMaxHp() - 20, c1.getCurrentHp());
+        assertFalse(c2.hasStatusEffect(StatusEffectType.STUNNED));
+        assertFalse(c2.isStunned());
+
+        /* round 3: last poison tick, then it expires */
+        engine.resolveTurn(new Recharge(), new Recharge());
+        assertEquals(c2.getMaxHp() - 15, c2.getCurrentHp());
+        assertEquals(0, c2.getStatusEffectMask());
+        assertTrue(c2.getActiveStatusEffects().isEmpty());
+    }
+
+    @Test
+    public void testAddingSameStatusTypeReplacesEffect() throws GameException {
+        c1.addStatusEffect(new PoisonEffect());
+        c1.addStatusEffect(new PoisonEffect());
+        assertEquals(1, c1.getActiveStatusEffects().size());
+        c1.removeStatusEffect(StatusEffectType.POISONED);
+        assertFalse(c1.hasStatusEffect(StatusEffectType.POISONED));
+        assertNull(c1.getStatusEffect(StatusEffectType.POISONED));
+    }
+}
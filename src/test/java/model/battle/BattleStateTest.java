@@ -0,0 +1,142 @@
+package model.battle;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.GameException;
+import model.util.StatusEffectType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the packed BattleState */
+public class BattleStateTest {
+
+    private Character c1;
+    private Character c2;
+
+    @BeforeEach
+    public void setup() throws GameException {
+        List<Ability> abilities = List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Venom", "Poison the target.", 4, AbilityEffectType.APPLY_STATUS, 0,
+                            StatusEffectType.POISONED),
+                new Ability("Daze", "Stun the target.", 6, AbilityEffectType.APPLY_STATUS, 0,
+                            StatusEffectType.STUNNED));
+        c1 = new Character("Alice", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+        c2 = new Character("Bob", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+    }
+
+    @Test
+    public void testApplyMatchesBattleEngine() throws GameException {
+        BattleState state = BattleState.of(c1, c2);
+        BattleEngine engine = new BattleEngine(c1, c2);
+        int[][] rounds = {{1, 2}, {2, 0}, {0, BattleState.MOVE_RECHARGE}, {0, 0}, {BattleState.MOVE_DEFEND, 1}};
+
+        for (int[] r : rounds) {
+            engine.resolveTurn(state.toMove(0, r[0]), state.toMove(1, r[1]));
+            state.apply(r[0], r[1]);
+            BattleState fromEngine = BattleState.of(c1, c2);
+            assertEquals(fromEngine.hp(0), state.hp(0));
+            assertEquals(fromEngine.hp(1), state.hp(1));
+            assertEquals(fromEngine.ep(0), state.ep(0));
+            assertEquals(fromEngine.ep(1), state.ep(1));
+            assertEquals(fromEngine.statusMask(0), state.statusMask(0));
+            assertEquals(fromEngine.statusMask(1), state.statusMask(1));
+            assertEquals(fromEngine.isStunned(0), state.isStunned(0));
+            assertEquals(fromEngine.isStunned(1), state.isStunned(1));
+        }
+    }
+
+    @Test
+    public void testStunCostsOneMoveFromEitherSeat() throws GameException {
+        for (int victim = 0; victim < 2; victim++) {
+            setup();
+            BattleState state = BattleState.of(c1, c2);
+            BattleEngine engine = new BattleEngine(c1, c2);
+            for (int round = 0; round < 3; round++) {
+                int stunnerMove = round == 0 ? 2 : BattleState.MOVE_RECHARGE;
+                int m1 = victim == 0 ? 0 : stunnerMove;
+                int m2 = victim == 0 ? stunnerMove : 0;
+                engine.resolveTurn(state.toMove(0, m1), state.toMove(1, m2));
+                state.apply(m1, m2);
+                assertEquals(round == 0, state.isStunned(victim));
+            }
+            /* the victim strikes in the landing round and the last one, never in between */
+            int stunner = 1 - victim;
+            assertEquals(state.maxHp(stunner) - 40, state.hp(stunner));
+            assertEquals(state.hp(stunner), BattleState.of(c1, c2).hp(stunner));
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependentAndHashFollowsContent() throws GameException {
+        BattleState start = BattleState.of(c1, c2);
+        BattleState a = start.copy();
+        BattleState b = start.copy();
+
+        a.apply(0, BattleState.MOVE_RECHARGE);
+        assertNotEquals(start, a);
+        assertNotEquals(start.hash(), a.hash());
+        assertEquals(start, b);
+
+        b.apply(0, BattleState.MOVE_RECHARGE);
+        assertEquals(a, b);
+        assertEquals(a.hash(), b.hash());
+    }
+
+    @Test
+    public void testApplyToWritesStateBack() throws GameException {
+        BattleState state = BattleState.of(c1, c2);
+        state.apply(0, 1); // Alice strikes, Bob poisons her
+
+        state.applyTo(c1, c2);
+        assertEquals(state.hp(1), c2.getCurrentHp());
+        assertEquals(state.ep(0), c1.getCurrentEp());
+        assertTrue(c1.hasStatusEffect(StatusEffectType.POISONED));
+        assertEquals(state.hash(), BattleState.of(c1, c2).hash());
+        assertThrows(GameException.class, () -> state.apply(0, 99));
+    }
+
+    @Test
+    public void testMakeUnmakeRestoresStateAndHash() throws GameException {
+        BattleState state = BattleState.of(c1, c2);
+        BattleState start = state.copy();
+        Move strike = new AbilityMove(c1.getAbilities().get(0));
+        Move venom = new AbilityMove(c2.getAbilities().get(1));
+
+        state.make(strike, venom);
+        state.make(2, BattleState.MOVE_DEFEND);
+        state.make(new Recharge(), new Defend());
+        assertEquals(3, state.depth());
+        BattleState deep = state.copy();
+
+        state.unmake();
+        state.make(new Recharge(), new Defend());
+        assertEquals(deep, state);
+        assertEquals(deep.hash(), state.hash());
+
+        while (state.depth() > 0) {
+            state.unmake();
+        }
+        assertEquals(start, state);
+        assertEquals(start.hash(), state.hash());
+        assertThrows(GameException.class, state::unmake);
+    }
+
+    @Test
+    public void testFailedMakeLeavesStateUntouched() throws GameException {
+        BattleState state = BattleState.of(c1, c2);
+        BattleState before = state.copy();
+        Move foreign = new AbilityMove(new Ability("Nope", "Not Alice's.", 0, AbilityEffectType.DAMAGE, 1, null));
+
+        assertThrows(GameException.class, () -> state.make(foreign, new Recharge()));
+        assertEquals(before, state);
+        assertEquals(0, state.depth());
+    }
+}
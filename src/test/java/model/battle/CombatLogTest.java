@@ -0,0 +1,77 @@
+package model.battle;
+
+import model.core.Character;
+import model.core.ClassType;
+import model.core.RaceType;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the CombatLog cursor API */
+public class CombatLogTest {
+
+    @Test
+    public void testEntriesSinceReturnsOnlyTail() throws GameException {
+        CombatLog log = new CombatLog();
+        log.addEntry("one");
+        long cursor = log.size();
+        log.addEntry("two");
+        log.addEntry("three");
+
+        assertEquals(List.of("two", "three"), log.entriesSince(cursor));
+        assertTrue(log.entriesSince(log.size()).isEmpty());
+    }
+
+    @Test
+    public void testForEachSinceAdvancesCursor() throws GameException {
+        CombatLog log = new CombatLog();
+        List<String> seen = new ArrayList<>();
+        log.addEntry("one");
+        long cursor = log.forEachSince(0, seen::add);
+        log.addEntry("two");
+        cursor = log.forEachSince(cursor, seen::add);
+
+        assertEquals(List.of("one", "two"), seen);
+        assertEquals(2, cursor);
+    }
+
+    @Test
+    public void testRecordRendersLazilyAndKeepsFields() throws GameException {
+        CombatLog log = new CombatLog();
+        log.record(CombatEventType.ROUND_START, null, null, null, 3, 0, 0, 0, 0);
+
+        CombatEvent event = log.eventsSince(0).get(0);
+        assertEquals(CombatEventType.ROUND_START, event.type());
+        assertEquals(3, event.amount());
+        assertEquals(List.of("── Round 3 ──"), log.getLogEntries());
+        assertThrows(GameException.class,
+                () -> log.record(CombatEventType.MESSAGE, null, null, null, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void testRingDropsOldestEntries() throws GameException {
+        CombatLog log = new CombatLog(2);
+        log.addEntry("one");
+        log.addEntry("two");
+        log.addEntry("three");
+
+        assertEquals(3, log.size());
+        assertEquals(List.of("two", "three"), log.getLogEntries());
+        assertEquals(List.of("three"), log.entriesSince(2));
+    }
+
+    @Test
+    public void testHeadlessEngineKeepsASmallLog() throws GameException {
+        Character a = new Character("A", RaceType.HUMAN, ClassType.WARRIOR, List.of());
+        Character b = new Character("B", RaceType.HUMAN, ClassType.WARRIOR, List.of());
+
+        assertEquals(CombatLog.HEADLESS_CAPACITY,
+                new BattleEngine(a, b).getBattle().getCombatLog().getCapacity());
+        assertEquals(CombatLog.DEFAULT_CAPACITY,
+                new BattleEngine(a, b, BattleListener.NONE).getBattle().getCombatLog().getCapacity());
+    }
+}
@@ -0,0 +1,114 @@
+package model.battle;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.GameException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the endgame Tablebase solver and its probes */
+public class TablebaseTest {
+
+    private static final int HP_CAP = 30;
+    private static final int EP_CAP = 15;
+
+    private static Tablebase table;
+
+    @BeforeAll
+    public static void solve() throws GameException {
+        table = Tablebase.solve(bot(HP_CAP, EP_CAP), foe(HP_CAP, EP_CAP), HP_CAP, EP_CAP);
+    }
+
+    static Character bot(int hp, int ep) throws GameException {
+        return at(new Character("Bot", RaceType.HUMAN, ClassType.WARRIOR, List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null))), hp, ep);
+    }
+
+    static Character foe(int hp, int ep) throws GameException {
+        return at(new Character("Foe", RaceType.HUMAN, ClassType.WARRIOR, List.of(
+                new Ability("Jab", "Deal 10 damage.", 3, AbilityEffectType.DAMAGE, 10, null),
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null))), hp, ep);
+    }
+
+    private static Character at(Character c, int hp, int ep) throws GameException {
+        c.takeDamage(c.getMaxHp() - hp);
+        c.spendEp(c.getMaxEp() - ep);
+        return c;
+    }
+
+    @Test
+    public void testFinishingBlowIsAOneRoundWin() throws GameException {
+        BattleState s = BattleState.of(bot(30, 10), foe(20, 10));
+        assertTrue(table.matches(s));
+        assertEquals(1, table.value(s));
+        assertEquals(0, table.bestMove(s)); // Strike
+    }
+
+    @Test
+    public void testOpponentWinIsNegative() throws GameException {
+        BattleState s = BattleState.of(bot(20, 0), foe(30, 10));
+        assertEquals(-1, table.value(s));
+        assertEquals(1, table.bestMove(s)); // the foe's Strike
+    }
+
+    @Test
+    public void testForcedMovesWinAgainstEveryReply() throws GameException {
+        int[] replies = new int[BattleState.MAX_MOVES];
+        int checked = 0;
+        for (int hp0 = 5; hp0 <= HP_CAP; hp0 += 5) {
+            for (int hp1 = 5; hp1 <= HP_CAP; hp1 += 5) {
+                for (int ep = 0; ep <= EP_CAP; ep += 5) {
+                    BattleState s = BattleState.of(bot(hp0, ep), foe(hp1, EP_CAP - ep));
+                    int v = table.value(s);
+                    if (v <= 0) {
+                        continue;
+                    }
+                    int move = table.bestMove(s);
+                    int k = s.legalMoves(1, replies);
+                    for (int j = 0; j < k; j++) {
+                        BattleState next = s.copy();
+                        next.apply(move, replies[j]);
+                        int w = table.value(next);
+                        assertTrue(next.winner() == 0 || (w > 0 && w < v), "from " + s);
+                    }
+                    checked++;
+                }
+            }
+        }
+        assertTrue(checked > 0);
+    }
+
+    @Test
+    public void testAuditAndMatchupCheck() throws GameException {
+        Tablebase.Audit audit = table.audit();
+        assertEquals((HP_CAP + 1) * (EP_CAP + 1) * (HP_CAP + 1) * (EP_CAP + 1), audit.states());
+        assertTrue(audit.side0Forced() > 0);
+        assertTrue(audit.side1Forced() > 0);
+        assertTrue(audit.forcedShare() < 1.0);
+
+        BattleState swapped = BattleState.of(foe(30, 10), bot(20, 10));
+        assertFalse(table.matches(swapped));
+        assertEquals(Tablebase.OPEN, table.value(swapped));
+        assertEquals(-1, table.bestMove(swapped));
+    }
+
+    @Test
+    public void testSolveRejectsInvalidArguments() throws GameException {
+        Character bot = bot(HP_CAP, EP_CAP);
+        Character foe = foe(HP_CAP, EP_CAP);
+        assertThrows(GameException.class, () -> Tablebase.solve(null, foe, HP_CAP, EP_CAP));
+        assertThrows(GameException.class, () -> Tablebase.solve(bot, foe, 0, EP_CAP));
+        assertThrows(GameException.class, () -> Tablebase.solve(bot, foe, bot.getMaxHp() + 1, EP_CAP));
+        assertThrows(GameException.class, () -> Tablebase.solve(bot, foe, HP_CAP, foe.getMaxEp() + 1));
+    }
+}
@@ -0,0 +1,90 @@
+package model.ranking;
+
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests the bounded top-K character leaderboard against a full sort */
+public class CharacterLeaderboardTest {
+
+    private static final Comparator<CharacterLeaderboard.Standing> BEST_FIRST = Comparator
+            .comparingInt(CharacterLeaderboard.Standing::wins).reversed()
+            .thenComparing(CharacterLeaderboard.Standing::playerName)
+            .thenComparing(CharacterLeaderboard.Standing::characterName);
+
+    @Test
+    public void testTopKMatchesFullSort() throws GameException {
+        Random rng = new Random(11);
+        CharacterLeaderboard board = new CharacterLeaderboard(5);
+        int[][] wins = new int[40][3];
+        for (int i = 0; i < 4_000; i++) {
+            int p = rng.nextInt(wins.length);
+            int c = rng.nextInt(3);
+            wins[p][c]++;
+            assertEquals(wins[p][c], board.recordWin("P" + p, "C" + c));
+        }
+
+        assertEquals(expectedTop(wins, -1, 5), board.top());
+
+        int leader = Integer.parseInt(board.top().get(0).playerName().substring(1));
+        board.removePlayer("P" + leader);
+        assertEquals(expectedTop(wins, leader, 5), board.top());
+    }
+
+    @Test
+    public void testRemovingTopPlayerRefillsFromIndex() throws GameException {
+        CharacterLeaderboard board = new CharacterLeaderboard(2);
+        board.recordWin("Alice", "Hero");
+        board.recordWin("Alice", "Hero");
+        board.recordWin("Alice", "Mage");
+        board.recordWin("Bob", "Rogue");
+        board.recordWin("Cid", "Pilot");
+        board.recordWin("Cid", "Pilot");
+
+        assertEquals(List.of("Hero", "Pilot"), names(board));
+
+        board.removePlayer("Alice");
+        assertEquals(List.of("Pilot", "Rogue"), names(board));
+        assertEquals(0, board.winsOf("Alice", "Hero"));
+    }
+
+    @Test
+    public void testRemovingTopCharacterRefillsFromIndex() throws GameException {
+        CharacterLeaderboard board = new CharacterLeaderboard(2);
+        board.recordWin("Alice", "Hero");
+        board.recordWin("Alice", "Hero");
+        board.recordWin("Alice", "Mage");
+        board.recordWin("Bob", "Rogue");
+        board.recordWin("Bob", "Rogue");
+
+        assertEquals(List.of("Hero", "Rogue"), names(board));
+
+        board.removeCharacter("Alice", "Hero");
+        assertEquals(List.of("Rogue", "Mage"), names(board));
+        assertEquals(0, board.winsOf("Alice", "Hero"));
+        assertEquals(1, board.winsOf("Alice", "Mage"));
+    }
+
+    private static List<String> names(CharacterLeaderboard board) {
+        return board.top().stream().map(CharacterLeaderboard.Standing::characterName).toList();
+    }
+
+    private static List<CharacterLeaderboard.Standing> expectedTop(int[][] wins, int skipPlayer, int k) {
+        List<CharacterLeaderboard.Standing> all = new ArrayList<>();
+        for (int p = 0; p < wins.length; p++) {
+            for (int c = 0; c < wins[p].length; c++) {
+                if (p != skipPlayer && wins[p][c] > 0) {
+                    all.add(new CharacterLeaderboard.Standing("P" + p, "C" + c, wins[p][c]));
+                }
+            }
+        }
+        all.sort(BEST_FIRST);
+        return all.subList(0, Math.min(k, all.size()));
+    }
+}
@@ -0,0 +1,81 @@
+package model.ranking;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests top-K, rank and neighbour queries against a sorted reference */
+public class LeaderboardTest {
+
+    private static List<String> names(List<HallOfFameEntry> entries) {
+        return entries.stream().map(HallOfFameEntry::getPlayerName).toList();
+    }
+
+    @Test
+    public void testQueriesFollowUpdates() throws GameException {
+        Leaderboard board = new Leaderboard(List.of(
+                new HallOfFameEntry("Cid", 2),
+                new HallOfFameEntry("Aerith", 5),
+                new HallOfFameEntry("Barret", 2)));
+
+        assertEquals(List.of("Aerith", "Barret", "Cid"), names(board.top(10)));
+        assertEquals(2, board.rankOf("Cid").getAsInt());
+        assertEquals(2, board.rankOf("Barret").getAsInt());
+        assertTrue(board.rankOf("Nobody").isEmpty());
+
+        board.addWin("Cid");
+        board.addWin("Dan");
+        assertEquals(List.of("Aerith", "Cid"), names(board.top(2)));
+        assertEquals(List.of("Cid", "Barret", "Dan"), names(board.around("Barret", 1)));
+        assertEquals(List.of("Aerith", "Cid"), names(board.around("Aerith", 1)));
+        assertEquals(4, board.rankOf("Dan").getAsInt());
+    }
+
+    @Test
+    public void testSnapshotIsUnaffectedByLaterUpdates() throws GameException {
+        Leaderboard board = new Leaderboard();
+        board.update("Aerith", 3);
+        Leaderboard.Snapshot before = board.snapshot();
+
+        board.update("Barret", 9);
+        board.update("Aerith", 0);
+
+        assertEquals(1, before.size());
+        assertEquals(3, before.winsOf("Aerith").getAsInt());
+        assertEquals(List.of("Barret", "Aerith"), names(board.top(5)));
+    }
+
+    @Test
+    public void testMatchesFullSortOnRandomUpdates() throws GameException {
+        Random rng = new Random(7);
+        Leaderboard board = new Leaderboard();
+        int[] wins = new int[300];
+        for (int i = 0; i < 5_000; i++) {
+            int p = rng.nextInt(wins.length);
+            wins[p]++;
+            assertEquals(wins[p], board.addWin("P" + p));
+        }
+
+        List<HallOfFameEntry> reference = new ArrayList<>();
+        for (int p = 0; p < wins.length; p++) {
+            if (wins[p] > 0) {
+                reference.add(new HallOfFameEntry("P" + p, wins[p]));
+            }
+        }
+        reference.sort(Comparator.comparingInt(HallOfFameEntry::getWins).reversed()
+                .thenComparing(HallOfFameEntry::getPlayerName));
+
+        assertEquals(names(reference), names(board.top(reference.size())));
+        for (HallOfFameEntry e : reference) {
+            long better = reference.stream().filter(o -> o.getWins() > e.getWins()).count();
+            assertEquals(better + 1, board.rankOf(e.getPlayerName()).getAsInt());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package model.ranking;
+
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests online Elo updates, epoch recompute and state round-trips */
+public class RatingEngineTest {
+
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void testMatchMovesRatingsSymmetrically() throws GameException {
+        RatingEngine engine = new RatingEngine(FIXED);
+        engine.recordMatch("Alice", "Bob");
+
+        assertEquals(1516f, engine.ratingOf("Alice"), 1e-3);
+        assertEquals(1484f, engine.ratingOf("Bob"), 1e-3);
+        assertEquals(RatingEngine.INITIAL_RATING, engine.ratingOf("Nobody"));
+        assertEquals(new RatingEngine.RatedPlayer("Alice", 1516f), engine.top(1).get(0));
+        assertThrows(GameException.class, () -> engine.recordMatch("Alice", "Alice"));
+    }
+
+    @Test
+    public void testRecomputeWithinOneEpochScoresAgainstStartRatings() throws GameException {
+        RatingEngine engine = new RatingEngine(FIXED);
+        engine.recordMatch("Alice", "Bob");
+        engine.recordMatch("Alice", "Bob");
+        float online = engine.ratingOf("Alice");
+
+        engine.recompute(Long.MAX_VALUE);
+        assertEquals(1532f, engine.ratingOf("Alice"), 1e-3);
+        assertEquals(1468f, engine.ratingOf("Bob"), 1e-3);
+        assertTrue(online < engine.ratingOf("Alice"));
+
+        RatingEngine.State spread = new RatingEngine.State(List.of("Alice", "Bob"),
+                new float[] {1500f, 1500f}, new int[2], new long[] {0L, 10L}, new int[] {0, 0}, new int[] {1, 1});
+        RatingEngine replay = new RatingEngine(FIXED, spread);
+        replay.recompute(5);
+        assertEquals(online, replay.ratingOf("Alice"), 1e-3, "one match per epoch replays as online");
+    }
+
+    @Test
+    public void testStateRoundTripAndOpponentSuggestions() throws GameException {
+        RatingEngine engine = new RatingEngine(FIXED);
+        engine.recordMatch("Alice", "Bob");
+        engine.recordMatch("Cid", "Dan");
+        engine.recordMatch("Alice", "Cid");
+
+        RatingEngine copy = new RatingEngine(FIXED, engine.state());
+        assertEquals(engine.ratingOf("Cid"), copy.ratingOf("Cid"));
+        assertEquals(engine.state().matchTimes().length, copy.state().matchTimes().length);
+        assertEquals(List.of("Alice", "Bob"), copy.suggestOpponents("Cid", 1));
+    }
+}
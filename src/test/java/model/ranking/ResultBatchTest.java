@@ -0,0 +1,47 @@
+package model.ranking;
+
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests aggregation of bulk match results into per-player and per-character totals */
+public class ResultBatchTest {
+
+    @Test
+    public void testTotalsPerPlayerAndCharacter() throws GameException {
+        ResultBatch batch = ResultBatch.aggregate(Stream.of(
+                new MatchResult("Alice", "Hero", MatchResult.Outcome.WIN),
+                new MatchResult("Alice", "Mage", MatchResult.Outcome.WIN),
+                new MatchResult("Alice", "Hero", MatchResult.Outcome.WIN),
+                new MatchResult("Bob", "Rogue", MatchResult.Outcome.LOSS)));
+
+        assertEquals(4, batch.resultCount());
+        assertEquals(2, batch.playerCount());
+        assertEquals("Alice", batch.playerName(0));
+        assertEquals(3, batch.wins(0));
+        assertEquals(1, batch.losses(1));
+        assertEquals(2, batch.characterCount(), "losses create no character entry");
+        assertEquals("Hero", batch.characterName(0));
+        assertEquals(2, batch.characterWins(0));
+    }
+
+    @Test
+    public void testTenThousandResultsCollapseToFewUpdates() throws GameException {
+        ResultBatch batch = ResultBatch.aggregate(IntStream.range(0, 10_000)
+                .mapToObj(i -> new MatchResult("P" + (i % 50), "C" + (i % 3),
+                        i % 4 == 0 ? MatchResult.Outcome.LOSS : MatchResult.Outcome.WIN)));
+
+        assertEquals(10_000, batch.resultCount());
+        assertEquals(50, batch.playerCount());
+        int wins = 0;
+        for (int i = 0; i < batch.playerCount(); i++) {
+            wins += batch.wins(i);
+        }
+        assertEquals(7_500, wins);
+        assertThrows(GameException.class, () -> new MatchResult("P", " ", MatchResult.Outcome.WIN));
+    }
+}
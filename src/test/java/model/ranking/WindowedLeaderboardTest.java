@@ -0,0 +1,86 @@
+package model.ranking;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests day bucket expiry and restore for the windowed leaderboards */
+public class WindowedLeaderboardTest {
+
+    /** Clock that tests advance by whole days. */
+    private static final class StepClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T12:00:00Z");
+
+        void advanceDays(int days) {
+            now = now.plus(Duration.ofDays(days));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static List<String> names(List<HallOfFameEntry> entries) {
+        return entries.stream().map(HallOfFameEntry::getPlayerName).toList();
+    }
+
+    @Test
+    public void testWindowsDropExpiredDays() throws GameException {
+        StepClock clock = new StepClock();
+        WindowedLeaderboard board = new WindowedLeaderboard(clock);
+        board.recordWin("Alice");
+        board.recordWin("Alice");
+        clock.advanceDays(1);
+        board.recordWin("Bob");
+
+        assertEquals(List.of("Bob"), names(board.top(WindowedLeaderboard.Window.DAY, 10)));
+        assertEquals(List.of("Alice", "Bob"), names(board.top(WindowedLeaderboard.Window.WEEK, 10)));
+
+        clock.advanceDays(6);
+        assertEquals(List.of("Bob"), names(board.top(WindowedLeaderboard.Window.WEEK, 10)));
+        assertEquals(2, board.winsOf(WindowedLeaderboard.Window.SEASON, "Alice"));
+
+        clock.advanceDays(WindowedLeaderboard.Window.SEASON.getDays());
+        assertTrue(board.top(WindowedLeaderboard.Window.SEASON, 10).isEmpty());
+    }
+
+    @Test
+    public void testBucketsRestoreIntoFreshInstance() throws GameException {
+        StepClock clock = new StepClock();
+        WindowedLeaderboard board = new WindowedLeaderboard(clock);
+        board.recordWin("Alice");
+        clock.advanceDays(3);
+        board.recordWin("Bob");
+        board.recordWin("Bob");
+        SortedMap<Long, List<HallOfFameEntry>> saved = board.buckets();
+
+        clock.advanceDays(5);
+        WindowedLeaderboard restored = new WindowedLeaderboard(clock);
+        saved.forEach(restored::restore);
+
+        assertEquals(2, restored.winsOf(WindowedLeaderboard.Window.WEEK, "Bob"));
+        assertEquals(0, restored.winsOf(WindowedLeaderboard.Window.WEEK, "Alice"));
+        assertEquals(List.of("Bob", "Alice"), names(restored.top(WindowedLeaderboard.Window.SEASON, 10)));
+    }
+}
@@ -0,0 +1,63 @@
+package model.util;
+
+import model.battle.BattleEngine;
+import model.battle.Move;
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the root-parallel MctsBot */
+public class MctsBotTest {
+
+    private Character bot;
+    private Character foe;
+
+    @BeforeEach
+    public void setup() throws GameException {
+        List<Ability> abilities = List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null));
+        bot = new Character("Bot", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+        foe = new Character("Foe", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+    }
+
+    @Test
+    public void testTakesTheFinishingBlowWithinBudget() throws GameException {
+        foe.takeDamage(foe.getMaxHp() - 40); // only Blast kills this round
+        try (MctsBot mcts = new MctsBot(Duration.ofMillis(100), 2, 1L)) {
+            long start = System.nanoTime();
+            Move move = mcts.decideMove(bot, foe);
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals("Blast", move.getName());
+            // generous bound: only catches a search that ignores its deadline
+            assertTrue(elapsed < Duration.ofSeconds(5).toNanos(), "took " + elapsed / 1_000_000 + " ms");
+        }
+    }
+
+    @Test
+    public void testBeatsRandomBot() throws GameException {
+        try (MctsBot mcts = new MctsBot(Duration.ofMillis(10), 2, 3L)) {
+            Character winner = new BattleEngine(bot, foe).run(mcts, new SimpleBot(new Random(7)));
+            assertSame(bot, winner);
+        }
+    }
+
+    @Test
+    public void testClosedBotRejectsMoves() throws GameException {
+        MctsBot mcts = new MctsBot(Duration.ofMillis(10), 1, 5L);
+        mcts.close();
+        assertThrows(GameException.class, () -> mcts.decideMove(bot, foe));
+    }
+}
@@ -0,0 +1,99 @@
+package model.util;
+
+import model.battle.BattleEngine;
+import model.battle.BattleState;
+import model.battle.Move;
+import model.battle.Recharge;
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.item.SingleUseEffectType;
+import model.item.SingleUseItem;
+import model.util.effects.PoisonEffect;
+import model.util.effects.StunEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the self-play PolicyTrainer and the table-driven PolicyBot */
+public class PolicyBotTest {
+
+    private Character bot;
+    private Character foe;
+
+    @BeforeEach
+    public void setup() throws GameException {
+        List<Ability> abilities = List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null));
+        bot = new Character("Bot", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+        foe = new Character("Foe", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+    }
+
+    @Test
+    public void testTrainedPolicyBeatsRandomBot() throws GameException {
+        PolicyTable table = new PolicyTrainer(List.of(bot, foe), 42L).train(20_000);
+        assertEquals(1, table.abilitySets().size());
+        assertEquals(0, table.setIdOf(bot));
+
+        PolicyBot policy = new PolicyBot(table, new SimpleBot(new Random(1)));
+        Character winner = new BattleEngine(bot, foe).run(policy, new SimpleBot(new Random(7)));
+        assertSame(bot, winner);
+    }
+
+    @Test
+    public void testUnplayableActionFallsBackToRecharge() throws GameException {
+        byte[] actions = new byte[PolicyTable.STATES_PER_SET];
+        Arrays.fill(actions, PolicyTable.ACTION_ITEM); // no item is equipped
+        PolicyTable table = new PolicyTable(List.of(List.of("Strike", "Blast", "Mend")), ByteBuffer.wrap(actions));
+
+        Move move = new PolicyBot(table, (b, o) -> fail("fallback used")).decideMove(bot, foe);
+        assertInstanceOf(Recharge.class, move);
+    }
+
+    @Test
+    public void testDirectIndexMatchesStateIndex() throws GameException {
+        SingleUseItem potion = new SingleUseItem("Potion", "Heals", "COMMON", SingleUseEffectType.HEAL_HP, 20);
+        bot.getInventory().addItem(potion);
+        bot.getInventory().equipItem(potion);
+        bot.takeDamage(37);
+        bot.addStatusEffect(new PoisonEffect());
+        foe.addStatusEffect(new StunEffect());
+        foe.spendEp(11);
+
+        for (int turns = 2; turns > 0; turns--) {
+            foe.addStatusEffect(new StunEffect(turns));
+            assertEquals(PolicyTable.index(0, BattleState.of(bot, foe), 0), PolicyTable.index(0, bot, foe));
+            assertEquals(PolicyTable.index(0, BattleState.of(foe, bot), 0), PolicyTable.index(0, foe, bot));
+        }
+    }
+
+    @Test
+    public void testSetIdFollowsAbilityEdits() throws GameException {
+        PolicyTable table = new PolicyTable(List.of(List.of("Strike", "Blast", "Mend")),
+                ByteBuffer.allocate(PolicyTable.STATES_PER_SET));
+        assertEquals(0, table.setIdOf(bot));
+        assertEquals(0, table.setIdOf(bot));
+
+        List<Ability> swapped = List.of(bot.getAbilities().get(2), bot.getAbilities().get(1), bot.getAbilities().get(0));
+        bot.setAbilities(swapped);
+        assertEquals(-1, table.setIdOf(bot));
+    }
+
+    @Test
+    public void testUnknownAbilitySetUsesFallback() throws GameException {
+        PolicyTable table = new PolicyTable(List.of(List.of("Other")), ByteBuffer.allocate(PolicyTable.STATES_PER_SET));
+        Move expected = new Recharge();
+
+        assertSame(expected, new PolicyBot(table, (b, o) -> expected).decideMove(bot, foe));
+    }
+}
@@ -0,0 +1,81 @@
+package model.util;
+
+import model.battle.AbilityMove;
+import model.battle.BattleEngine;
+import model.battle.Move;
+import model.battle.BattleState;
+import model.battle.Recharge;
+import model.battle.Tablebase;
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the alpha-beta SearchBot */
+public class SearchBotTest {
+
+    private Character bot;
+    private Character foe;
+
+    @BeforeEach
+    public void setup() throws GameException {
+        List<Ability> abilities = List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null));
+        bot = new Character("Bot", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+        foe = new Character("Foe", RaceType.HUMAN, ClassType.WARRIOR, abilities);
+    }
+
+    @Test
+    public void testTakesTheFinishingBlow() throws GameException {
+        foe.takeDamage(foe.getMaxHp() - 40); // only Blast kills this round
+        Move move = new SearchBot(Duration.ofMillis(200), 4).decideMove(bot, foe);
+
+        assertInstanceOf(AbilityMove.class, move);
+        assertEquals("Blast", move.getName());
+    }
+
+    @Test
+    public void testRechargesWhenNothingElseIsAffordable() throws GameException {
+        bot.spendEp(bot.getCurrentEp());
+        Move move = new SearchBot(Duration.ofMillis(200), 3).decideMove(bot, foe);
+        assertInstanceOf(Recharge.class, move);
+    }
+
+    @Test
+    public void testBeatsRandomBotWithinBudget() throws GameException {
+        SearchBot search = new SearchBot(Duration.ofMillis(20), SearchBot.DEFAULT_MAX_DEPTH);
+        BattleEngine engine = new BattleEngine(bot, foe);
+
+        long start = System.nanoTime();
+        Move first = search.decideMove(bot, foe);
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+        assertNotNull(first);
+
+        Character winner = engine.run(search, new SimpleBot(new Random(7)));
+        assertSame(bot, winner);
+    }
+
+    @Test
+    public void testTablebaseScoresSolvedNodes() throws GameException {
+        Tablebase table = Tablebase.solve(bot, foe, 30, 15);
+        bot.takeDamage(bot.getMaxHp() - 30);
+        bot.spendEp(bot.getCurrentEp() - 15);
+        foe.takeDamage(foe.getMaxHp() - 30);
+        foe.spendEp(foe.getCurrentEp());
+        assertEquals(2, table.value(BattleState.of(bot, foe)));
+
+        Move move = new SearchBot(Duration.ofMillis(200), 1, table).decideMove(bot, foe);
+        assertEquals("Strike", move.getName());
+    }
+}
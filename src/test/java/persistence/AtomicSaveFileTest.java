@@ -0,0 +1,53 @@
+package persistence;
+
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests checksummed atomic writes and fallback to the previous generation */
+public class AtomicSaveFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static void writeText(Path file, String text) throws IOException {
+        AtomicSaveFile.write(file, ch -> ch.write(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static String readText(Path file) throws IOException, GameException {
+        return AtomicSaveFile.read(file, buf -> StandardCharsets.UTF_8.decode(buf).toString());
+    }
+
+    @Test
+    public void testWriteThenReadStripsFooter() throws IOException, GameException {
+        Path file = dir.resolve("save.dat");
+        writeText(file, "first");
+        writeText(file, "second");
+
+        assertEquals("second", readText(file));
+        assertEquals("first", readText(dir.resolve("save.dat.bak")));
+        assertFalse(Files.exists(dir.resolve("save.dat.tmp")));
+    }
+
+    @Test
+    public void testCorruptCurrentFallsBackToPreviousGeneration() throws IOException, GameException {
+        Path file = dir.resolve("save.dat");
+        writeText(file, "first");
+        writeText(file, "second");
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[0] ^= 0x7F;
+        Files.write(file, bytes);
+
+        assertThrows(GameException.class, () -> AtomicSaveFile.readVerified(file));
+        assertEquals("first", readText(file));
+    }
+}
@@ -0,0 +1,149 @@
+package persistence;
+
+import model.core.Character;
+import model.core.ClassType;
+import model.core.Player;
+import model.core.RaceType;
+import model.item.PassiveItem;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests journal replay, compaction and crash recovery */
+public class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private GameJournal open() {
+        return new GameJournal(dir.resolve("save.dat"), dir.resolve("save.journal"));
+    }
+
+    private static Player playerWithHero(String name) throws GameException {
+        Player p = new Player(name);
+        p.addCharacter(new Character(name + "Hero", RaceType.HUMAN, ClassType.WARRIOR, List.of()));
+        return p;
+    }
+
+    @Test
+    public void testEventsReplayOnTopOfSnapshot() throws GameException {
+        Player alice = playerWithHero("Alice");
+        Player bob = playerWithHero("Bob");
+        Character a = alice.getCharacters().get(0);
+        Character b = bob.getCharacters().get(0);
+
+        try (GameJournal journal = open()) {
+            journal.checkpoint(new GameData(List.of(alice)));
+            journal.recordPlayerRegistered(bob);
+            journal.recordWin(alice);
+            journal.recordItemGranted(alice, a, new PassiveItem("Ring", "Shiny", "RARE"));
+            journal.recordItemGranted(bob, b, new PassiveItem("Cloak", "Warm", "COMMON"));
+            journal.recordTrade(alice, a, 0, bob, b, 0);
+        }
+
+        GameData data;
+        try (GameJournal journal = open()) {
+            data = journal.load();
+        }
+        Player la = data.getAllPlayers().get(0);
+        Player lb = data.getAllPlayers().get(1);
+        assertEquals("Bob", lb.getName());
+        assertEquals(1, la.getCumulativeWins());
+        assertEquals("Cloak", la.getCharacters().get(0).getInventory().getAllItems().get(0).getName());
+        assertEquals("Ring", lb.getCharacters().get(0).getInventory().getAllItems().get(0).getName());
+    }
+
+    @Test
+    public void testRemovalsReplay() throws GameException {
+        Player alice = playerWithHero("Alice");
+        Player bob = playerWithHero("Bob");
+        alice.addCharacter(new Character("AliceMage", RaceType.ELF, ClassType.MAGE, List.of()));
+        try (GameJournal journal = open()) {
+            journal.recordPlayerRegistered(alice);
+            journal.recordPlayerRegistered(bob);
+            journal.recordCharacterRemoved(alice, "AliceHero");
+            journal.recordPlayerRemoved("Bob");
+        }
+
+        GameData data;
+        try (GameJournal journal = open()) {
+            data = journal.load();
+        }
+        assertEquals(1, data.getAllPlayers().size());
+        List<Character> roster = data.getAllPlayers().get(0).getCharacters();
+        assertEquals(List.of("AliceMage"), roster.stream().map(Character::getName).toList());
+    }
+
+    @Test
+    public void testCompactionFoldsJournalIntoSnapshot() throws GameException, IOException {
+        Player alice = playerWithHero("Alice");
+        try (GameJournal journal = open()) {
+            journal.recordPlayerRegistered(alice);
+            journal.recordWin(alice);
+            journal.compact();
+            journal.recordWin(alice);
+
+            GameData data = journal.load();
+            assertEquals(2, data.getAllPlayers().get(0).getCumulativeWins());
+            assertEquals(3, data.getJournalSequence());
+        }
+        GameData snapshot = SaveLoadService.readSnapshot(dir.resolve("save.dat"));
+        assertEquals(1, snapshot.getAllPlayers().get(0).getCumulativeWins());
+        assertTrue(Files.size(dir.resolve("save.journal")) > 0);
+    }
+
+    @Test
+    public void testCapturedCheckpointKeepsLaterEvents() throws GameException {
+        Player alice = playerWithHero("Alice");
+        try (GameJournal journal = open()) {
+            journal.recordPlayerRegistered(alice);
+            GameData captured = journal.capture(new GameData(List.of(alice)));
+            alice.incrementWins();
+            journal.recordWin(alice);
+            assertEquals(0, captured.getAllPlayers().get(0).getCumulativeWins());
+
+            journal.checkpointCaptured(captured);
+            GameData data = journal.load();
+            assertEquals(1, data.getAllPlayers().get(0).getCumulativeWins());
+            assertEquals(2, data.getJournalSequence());
+        }
+    }
+
+    @Test
+    public void testCompactionKeepsEventsAfterPendingCapture() throws GameException {
+        Player alice = playerWithHero("Alice");
+        try (GameJournal journal = open()) {
+            journal.recordPlayerRegistered(alice);
+            GameData captured = journal.capture(new GameData(List.of(alice)));
+            journal.recordWin(alice);
+            journal.compact();
+            journal.checkpointCaptured(captured);
+
+            assertEquals(1, journal.load().getAllPlayers().get(0).getCumulativeWins());
+        }
+    }
+
+    @Test
+    public void testTornTailIsIgnored() throws GameException, IOException {
+        Player alice = playerWithHero("Alice");
+        try (GameJournal journal = open()) {
+            journal.recordPlayerRegistered(alice);
+        }
+        Files.write(dir.resolve("save.journal"), new byte[] {0, 0, 0, 40, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        try (GameJournal journal = open()) {
+            assertEquals(1, journal.load().getAllPlayers().size());
+            journal.recordWin(alice);
+            assertEquals(1, journal.load().getAllPlayers().get(0).getCumulativeWins());
+        }
+    }
+}
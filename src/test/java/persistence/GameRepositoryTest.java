@@ -0,0 +1,113 @@
+package persistence;
+
+import model.core.Character;
+import model.core.ClassType;
+import model.core.Player;
+import model.core.RaceType;
+import model.ranking.MatchResult;
+import model.ranking.ResultBatch;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests the in-memory repository's index and write-through */
+public class GameRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private GameJournal openJournal() {
+        return new GameJournal(dir.resolve("save.dat"), dir.resolve("save.journal"));
+    }
+
+    @Test
+    public void testLookupIgnoresCaseAndRejectsDuplicates() throws GameException {
+        try (GameJournal journal = openJournal()) {
+            GameRepository repo = new GameRepository(journal);
+            Player alice = new Player("Alice");
+            repo.registerPlayer(alice);
+
+            assertSame(alice, repo.findPlayer("aLiCe").orElseThrow());
+            assertTrue(repo.contains("ALICE"));
+            assertThrows(GameException.class, () -> repo.registerPlayer(new Player("alice")));
+        }
+    }
+
+    @Test
+    public void testRegistrationIsWrittenThrough() throws GameException {
+        try (GameJournal journal = openJournal()) {
+            GameRepository repo = new GameRepository(journal);
+            Player alice = new Player("Alice");
+            repo.registerPlayer(alice);
+            repo.recordWin(alice);
+        }
+        try (GameJournal journal = openJournal()) {
+            GameRepository reopened = new GameRepository(journal);
+            assertTrue(reopened.contains("Alice"));
+            assertEquals(1, reopened.findPlayer("Alice").orElseThrow().getCumulativeWins());
+        }
+    }
+
+    @Test
+    public void testCharacterWinsReplayIntoLeaderboard() throws GameException {
+        try (GameJournal journal = openJournal()) {
+            GameRepository repo = new GameRepository(journal);
+            Player alice = new Player("Alice");
+            Character hero = new Character("Hero", RaceType.HUMAN, ClassType.WARRIOR, List.of());
+            alice.addCharacter(hero);
+            repo.registerPlayer(alice);
+            hero.recordWin();
+            repo.recordCharacterWin(alice, hero);
+            assertEquals("Hero", repo.getTopCharacters().get(0).characterName());
+        }
+        try (GameJournal journal = openJournal()) {
+            GameRepository reopened = new GameRepository(journal);
+            assertEquals(1, reopened.findPlayer("Alice").orElseThrow().getCharacters().get(0).getWinCount());
+            assertEquals(1, reopened.getTopCharacters().get(0).wins());
+            reopened.removePlayer("Alice");
+            assertTrue(reopened.getTopCharacters().isEmpty());
+        }
+    }
+
+    @Test
+    public void testBatchResultsApplyWithOneSave() throws GameException {
+        try (GameJournal journal = openJournal()) {
+            GameRepository repo = new GameRepository(journal);
+            Player alice = new Player("Alice");
+            alice.addCharacter(new Character("Hero", RaceType.HUMAN, ClassType.WARRIOR, List.of()));
+            repo.registerPlayer(alice);
+
+            repo.applyResults(ResultBatch.aggregate(Stream.of(
+                    new MatchResult("Alice", "Hero", MatchResult.Outcome.WIN),
+                    new MatchResult("Alice", "Hero", MatchResult.Outcome.WIN),
+                    new MatchResult("Ghost", "Shade", MatchResult.Outcome.WIN))));
+            assertEquals(2, repo.getTopCharacters().get(0).wins());
+        }
+        GameData saved = SaveLoadService.readSnapshot(dir.resolve("save.dat"));
+        assertEquals(2, saved.getAllPlayers().get(0).getCumulativeWins());
+        assertEquals(2, saved.getAllPlayers().get(0).getCharacters().get(0).getWinCount());
+    }
+
+    @Test
+    public void testFailedBatchSaveLeavesNothingApplied() throws GameException {
+        GameJournal journal = openJournal();
+        GameRepository repo = new GameRepository(journal);
+        Player alice = new Player("Alice");
+        Character hero = new Character("Hero", RaceType.HUMAN, ClassType.WARRIOR, List.of());
+        alice.addCharacter(hero);
+        repo.registerPlayer(alice);
+        journal.close();
+
+        ResultBatch batch = ResultBatch.aggregate(Stream.of(new MatchResult("Alice", "Hero", MatchResult.Outcome.WIN)));
+        assertThrows(GameException.class, () -> repo.applyResults(batch));
+        assertEquals(0, alice.getCumulativeWins());
+        assertEquals(0, hero.getWinCount());
+        assertTrue(repo.getTopCharacters().isEmpty());
+    }
+}
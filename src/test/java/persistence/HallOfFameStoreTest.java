@@ -0,0 +1,99 @@
+package persistence;
+
+import model.core.HallOfFameEntry;
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests in-place win updates and reopening of the mapped Hall of Fame */
+public class HallOfFameStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private HallOfFameStore open() {
+        return HallOfFameStore.open(dir.resolve("hof.idx"), dir.resolve("hof.names"));
+    }
+
+    @Test
+    public void testWinsUpdateInPlaceAndSurviveReopen() throws GameException, IOException {
+        try (HallOfFameStore store = open()) {
+            assertEquals(1, store.addWin("Alice"));
+            assertEquals(1, store.addWin("Bob"));
+            assertEquals(2, store.addWin("Alice"));
+        }
+        long indexSize = Files.size(dir.resolve("hof.idx"));
+
+        try (HallOfFameStore store = open()) {
+            assertEquals(2, store.size());
+            assertEquals(2, store.getWins("Alice"));
+            assertEquals(3, store.addWin("Alice"));
+            List<HallOfFameEntry> entries = store.entries();
+            assertEquals("Alice", entries.get(0).getPlayerName());
+            assertEquals(3, entries.get(0).getWins());
+        }
+        assertEquals(indexSize, Files.size(dir.resolve("hof.idx")));
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacityAndReplaces() throws GameException {
+        try (HallOfFameStore store = open()) {
+            for (int i = 0; i < 600; i++) {
+                store.addWin("Player" + i);
+            }
+            store.addWin("Player599");
+            assertEquals(600, store.size());
+            assertEquals(2, store.getWins("Player599"));
+
+            store.replaceAll(List.of(new HallOfFameEntry("Zed", 4), new HallOfFameEntry("Zed", 1)));
+            assertEquals(1, store.size());
+            assertEquals(0, store.getWins("Player0"));
+        }
+        try (HallOfFameStore store = open()) {
+            assertEquals(5, store.getWins("Zed"));
+        }
+    }
+
+    @Test
+    public void testReplaceSwapsInCompleteIndexAndKeepsMigratedFlag() throws GameException {
+        try (HallOfFameStore store = open()) {
+            store.addWin("Alice");
+            assertFalse(store.isMigrated());
+            store.markMigrated();
+            store.replaceAll(List.of(new HallOfFameEntry("Bob", 2)));
+            assertEquals(3, store.addWin("Bob"));
+        }
+        assertFalse(Files.exists(dir.resolve("hof.idx.tmp")));
+        try (HallOfFameStore store = open()) {
+            assertTrue(store.isMigrated());
+            assertEquals(List.of("Bob"), store.entries().stream().map(HallOfFameEntry::getPlayerName).toList());
+            assertEquals(3, store.getWins("Bob"));
+        }
+    }
+
+    @Test
+    public void testRecordWithMissingNameIsDropped() throws GameException, IOException {
+        try (HallOfFameStore store = open()) {
+            store.addWin("Alice");
+            store.addWin("Bob");
+        }
+        try (FileChannel names = FileChannel.open(dir.resolve("hof.names"), StandardOpenOption.WRITE)) {
+            names.truncate("Alice".length());
+        }
+        try (HallOfFameStore store = open()) {
+            assertEquals(1, store.size());
+            assertEquals(1, store.addWin("Bob"));
+            assertEquals(List.of("Alice", "Bob"),
+                    store.entries().stream().map(HallOfFameEntry::getPlayerName).toList());
+        }
+    }
+}
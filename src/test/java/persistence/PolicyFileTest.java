@@ -0,0 +1,61 @@
+package persistence;
+
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.GameException;
+import model.util.PolicyTable;
+import model.util.PolicyTrainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests writing and memory-mapping trained policy tables */
+public class PolicyFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static PolicyTable trained() throws GameException {
+        Ability strike = new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null);
+        Ability blast = new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null);
+        Ability mend = new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null);
+        Character a = new Character("A", RaceType.HUMAN, ClassType.WARRIOR, List.of(strike, blast, mend));
+        Character b = new Character("B", RaceType.HUMAN, ClassType.WARRIOR, List.of(mend, strike, blast));
+        return new PolicyTrainer(List.of(a, b), 3L).train(500);
+    }
+
+    @Test
+    public void testMappedTableMatchesSavedTable() throws GameException {
+        PolicyTable saved = trained();
+        Path file = dir.resolve("policy.bin");
+        PolicyFile.write(file, saved);
+
+        PolicyTable mapped = PolicyFile.map(file);
+        assertEquals(saved.abilitySets(), mapped.abilitySets());
+        assertEquals(saved.actions(), mapped.actions());
+        assertTrue(mapped.actions().isDirect());
+    }
+
+    @Test
+    public void testRejectsDamagedFile() throws GameException, IOException {
+        Path file = dir.resolve("policy.bin");
+        PolicyFile.write(file, trained());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), 1000);
+        }
+
+        GameException e = assertThrows(GameException.class, () -> PolicyFile.map(file));
+        assertTrue(e.getMessage().contains("Checksum"));
+    }
+}
@@ -0,0 +1,59 @@
+package persistence;
+
+import model.util.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests that saves are serialised and bursts coalesce into one write */
+public class SaveExecutorTest {
+
+    @Test
+    public void testBurstCoalescesIntoLatestSnapshot() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<GameData> written = new CopyOnWriteArrayList<>();
+        GameData first = new GameData();
+        GameData second = new GameData();
+        GameData third = new GameData();
+
+        try (SaveExecutor executor = new SaveExecutor(data -> {
+            written.add(data);
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            CompletableFuture<Void> f1 = executor.submit(first);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Void> f2 = executor.submit(second);
+            CompletableFuture<Void> f3 = executor.submit(third);
+            assertSame(f2, f3);
+
+            release.countDown();
+            CompletableFuture.allOf(f1, f3).get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(List.of(first, third), written);
+    }
+
+    @Test
+    public void testFailureCompletesFutureExceptionally() throws GameException {
+        try (SaveExecutor executor = new SaveExecutor(data -> {
+            throw new GameException("disk full");
+        })) {
+            CompletableFuture<Void> f = executor.submit(new GameData());
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> f.get(5, TimeUnit.SECONDS));
+            assertEquals("disk full", e.getCause().getMessage());
+        }
+    }
+}
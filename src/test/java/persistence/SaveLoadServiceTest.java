@@ -4,11 +4,18 @@ import model.core.ClassType;
 import model.core.Character;
 import model.core.Player;
 import model.core.RaceType;
+import model.item.PassiveItem;
+import model.item.SingleUseEffectType;
+import model.item.SingleUseItem;
+import model.util.Constants;
 import model.util.GameException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,6 +26,7 @@ public class SaveLoadServiceTest {
     @AfterEach
     public void cleanup() {
         new File("game_data.dat").delete();
+        new File(Constants.SAVE_FILE_PATH).delete();
     }
 
     @Test
@@ -26,11 +34,54 @@ public class SaveLoadServiceTest {
         Player p = new Player("P1");
         Character c = new Character("A", RaceType.HUMAN, ClassType.WARRIOR, List.of());
         p.addCharacter(c);
-        GameData data = new GameData(List.of(p), List.of());
+        GameData data = new GameData(List.of(p));
 
         SaveLoadService.saveGame(data);
         GameData loaded = SaveLoadService.loadGame();
 
         assertEquals(1, loaded.getAllPlayers().size());
     }
+
+    @Test
+    public void testBinaryRoundTripKeepsProgressAndItems() throws GameException {
+        Player p = new Player("P1");
+        p.incrementWins();
+        Character c = new Character("A", RaceType.HUMAN, ClassType.WARRIOR, List.of());
+        PassiveItem ring = new PassiveItem("Ring", "Shiny", "RARE");
+        c.getInventory().addItem(ring);
+        c.getInventory().addItem(new SingleUseItem("Potion", "Heals", "COMMON",
+                SingleUseEffectType.HEAL_HP, 20));
+        c.getInventory().equipItem(ring);
+        c.equipItem(ring);
+        c.restoreState(3, 250, 2, 120, 75, 60, 10);
+        p.addCharacter(c);
+
+        SaveLoadService.saveGame(new GameData(List.of(p)));
+        GameData loaded = SaveLoadService.loadGame();
+
+        Player lp = loaded.getAllPlayers().get(0);
+        Character lc = lp.getCharacters().get(0);
+        assertEquals(1, lp.getCumulativeWins());
+        assertEquals(3, lc.getLevel());
+        assertEquals(250, lc.getXp());
+        assertEquals(75, lc.getCurrentHp());
+        assertEquals(2, lc.getInventory().getAllItems().size());
+        assertSame(lc.getInventory().getAllItems().get(0), lc.getEquippedItem());
+    }
+
+    @Test
+    public void testLegacySerializedSaveIsMigrated() throws IOException, GameException {
+        Player p = new Player("Legacy");
+        p.addCharacter(new Character("A", RaceType.HUMAN, ClassType.WARRIOR, List.of()));
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new FileOutputStream(Constants.SAVE_FILE_PATH))) {
+            out.writeObject(new GameData(List.of(p)));
+        }
+
+        GameData loaded = SaveLoadService.loadGame();
+
+        Character c = loaded.getAllPlayers().get(0).getCharacters().get(0);
+        assertEquals("Legacy", loaded.getAllPlayers().get(0).getName());
+        assertTrue(c.getActiveStatusEffects().isEmpty());
+    }
 }
@@ -0,0 +1,66 @@
+package persistence;
+
+import model.battle.BattleState;
+import model.battle.Tablebase;
+import model.core.Ability;
+import model.core.AbilityEffectType;
+import model.core.ClassType;
+import model.core.Character;
+import model.core.RaceType;
+import model.util.GameException;
+import model.util.PolicyTrainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests writing and memory-mapping endgame tablebases */
+public class TablebaseFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static Character fighter(String name) throws GameException {
+        return new Character(name, RaceType.HUMAN, ClassType.WARRIOR, List.of(
+                new Ability("Strike", "Deal 20 damage.", 5, AbilityEffectType.DAMAGE, 20, null),
+                new Ability("Blast", "Deal 45 damage.", 30, AbilityEffectType.DAMAGE, 45, null),
+                new Ability("Mend", "Heal 30 HP.", 10, AbilityEffectType.HEAL, 30, null)));
+    }
+
+    @Test
+    public void testMappedTableAnswersLikeTheSolvedOne() throws GameException {
+        Character a = fighter("A");
+        Character b = fighter("B");
+        Tablebase solved = Tablebase.solve(a, b, 20, 10);
+        Path file = dir.resolve("endgame.tb");
+        TablebaseFile.write(file, solved);
+
+        Tablebase mapped = TablebaseFile.map(file);
+        assertTrue(mapped.entries().isDirect());
+        assertEquals(solved.entries(), mapped.entries());
+        assertEquals(solved.audit(), mapped.audit());
+
+        a.takeDamage(a.getMaxHp() - 20);
+        a.spendEp(a.getCurrentEp() - 10);
+        b.takeDamage(b.getMaxHp() - 20);
+        b.spendEp(b.getCurrentEp() - 10);
+        BattleState s = BattleState.of(a, b);
+        assertEquals(1, mapped.value(s));
+        assertEquals(solved.bestMove(s), mapped.bestMove(s));
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws Exception {
+        Path file = dir.resolve("endgame.tb");
+        PolicyFile.write(file, new PolicyTrainer(List.of(fighter("A"), fighter("B")), 1L).train(1));
+
+        GameException e = assertThrows(GameException.class, () -> TablebaseFile.map(file));
+        assertTrue(e.getMessage().contains("Not a tablebase"));
+        Files.delete(file);
+        assertThrows(GameException.class, () -> TablebaseFile.map(file));
+    }
+}